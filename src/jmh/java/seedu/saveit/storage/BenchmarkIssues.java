@@ -0,0 +1,69 @@
+package seedu.saveit.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import seedu.saveit.model.Issue;
+import seedu.saveit.model.SaveIt;
+import seedu.saveit.model.issue.Description;
+import seedu.saveit.model.issue.IssueStatement;
+import seedu.saveit.model.issue.Solution;
+import seedu.saveit.model.issue.Tag;
+import seedu.saveit.model.issue.solution.Remark;
+import seedu.saveit.model.issue.solution.SolutionLink;
+
+/**
+ * Generates the saveIt the storage benchmarks save and load, and cleans up the files they write.
+ * Every issue has a distinct statement, a short description, one of a hundred tags, one of ten language tags
+ * and one solution, and the same number of issues is always generated alike.
+ */
+public final class BenchmarkIssues {
+
+    private static final int TAG_COUNT = 100;
+    private static final int HOST_COUNT = 20;
+
+    private BenchmarkIssues() {}
+
+    /**
+     * Returns a saveIt with {@code issueCount} generated issues.
+     */
+    public static SaveIt generate(int issueCount) {
+        Random random = new Random(issueCount);
+        List<Issue> issues = new ArrayList<>(issueCount);
+        for (int i = 0; i < issueCount; i++) {
+            Set<Tag> tags = new HashSet<>(Arrays.asList(new Tag("tag" + random.nextInt(TAG_COUNT)),
+                    new Tag("lang" + random.nextInt(TAG_COUNT / 10))));
+            List<Solution> solutions = new ArrayList<>();
+            solutions.add(new Solution(
+                    new SolutionLink("https://host" + random.nextInt(HOST_COUNT) + ".example.com/questions/" + i),
+                    new Remark("Remark on solution " + i)));
+            issues.add(new Issue(new IssueStatement("Generated issue " + i),
+                    new Description("Description of generated issue " + i + " with a few more words"),
+                    solutions, tags));
+        }
+
+        SaveIt saveIt = new SaveIt();
+        saveIt.setIssues(issues);
+        return saveIt;
+    }
+
+    /**
+     * Deletes {@code directory} and everything in it.
+     */
+    public static void deleteDirectory(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package seedu.saveit.storage;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import seedu.saveit.model.Issue;
+import seedu.saveit.model.ReadOnlySaveIt;
+
+/**
+ * Compares opening the data file in the xml format with opening it in the binary format by reading all of it,
+ * by reading the issue headers only, and by mapping it and reading the headers from the mapping.
+ * {@code openLazyAndLoadBodies} also loads the body of every issue from the file read lazily, which is the most
+ * a session can read from it.
+ *
+ * The {@code open} benchmarks are warm: the files stay in the operating system's file cache between operations.
+ * The {@code coldOpen} benchmarks time single opens, each after the file cache is dropped through
+ * {@code /proc/sys/vm/drop_caches}, so they only run on Linux as root.
+ * A lazy storage is closed after every open, but the mapping of a mapped storage is only released once it is
+ * garbage collected.
+ *
+ * Measured with {@code gradlew jmh -Pbenchmarks=DataFileOpen} as root (JDK 11, one CPU), average time per open
+ * with its 99.9% error, for 10,000 issues:
+ * <pre>
+ * format  read                       warm          cold
+ * xml     all                        67 +- 4 ms    119 +- 46 ms
+ * binary  all                        27 +- 2 ms     70 +- 26 ms
+ * binary  headers                     9 +- 0.6 ms   36 +- 22 ms
+ * binary  headers, mapped            10 +- 0.6 ms   47 +- 22 ms
+ * binary  headers, then every body   38 +- 3 ms
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+public class DataFileOpenBenchmark {
+
+    private static final Path DROP_CACHES = Paths.get("/proc/sys/vm/drop_caches");
+
+    @Param({"10000"})
+    private int issueCount;
+
+    private Path directory;
+    private Path xmlFile;
+    private Path binaryFile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        directory = Files.createTempDirectory("saveit-benchmark");
+        xmlFile = directory.resolve("saveit.xml");
+        binaryFile = directory.resolve("saveit.bin");
+        ReadOnlySaveIt saveIt = BenchmarkIssues.generate(issueCount);
+        new XmlSaveItStorage(xmlFile).saveSaveIt(saveIt);
+        new BinarySaveItStorage(binaryFile).saveSaveIt(saveIt);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        BenchmarkIssues.deleteDirectory(directory);
+    }
+
+    @Benchmark
+    public ReadOnlySaveIt openXml() throws Exception {
+        return new XmlSaveItStorage(xmlFile).readSaveIt().get();
+    }
+
+    @Benchmark
+    public ReadOnlySaveIt openEager() throws Exception {
+        return new BinarySaveItStorage(binaryFile).readSaveIt().get();
+    }
+
+    @Benchmark
+    public ReadOnlySaveIt openLazy() throws Exception {
+        return openAndClose(new LazyBinarySaveItStorage(binaryFile));
+    }
+
+    @Benchmark
+    public ReadOnlySaveIt openMapped() throws Exception {
+        return openAndClose(new MappedBinarySaveItStorage(binaryFile));
+    }
+
+    @Benchmark
+    public void openLazyAndLoadBodies(Blackhole blackhole) throws Exception {
+        LazyBinarySaveItStorage storage = new LazyBinarySaveItStorage(binaryFile);
+        try {
+            for (Issue issue : storage.readSaveIt().get().getIssueList()) {
+                blackhole.consume(issue.getDescription());
+            }
+        } finally {
+            storage.close();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 5)
+    @Measurement(iterations = 10)
+    public ReadOnlySaveIt coldOpenXml(ColdFileCache cache) throws Exception {
+        return openXml();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 5)
+    @Measurement(iterations = 10)
+    public ReadOnlySaveIt coldOpenEager(ColdFileCache cache) throws Exception {
+        return openEager();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 5)
+    @Measurement(iterations = 10)
+    public ReadOnlySaveIt coldOpenLazy(ColdFileCache cache) throws Exception {
+        return openLazy();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 5)
+    @Measurement(iterations = 10)
+    public ReadOnlySaveIt coldOpenMapped(ColdFileCache cache) throws Exception {
+        return openMapped();
+    }
+
+    private static ReadOnlySaveIt openAndClose(LazyBinarySaveItStorage storage) throws Exception {
+        try {
+            return storage.readSaveIt().get();
+        } finally {
+            storage.close();
+        }
+    }
+
+    /**
+     * Drops the operating system's file cache before every operation that uses it.
+     */
+    @State(Scope.Thread)
+    public static class ColdFileCache {
+        @Setup(Level.Invocation)
+        public void dropFileCache() throws IOException {
+            // the data files are synced when saved, so the cached pages are clean and are all dropped
+            Files.write(DROP_CACHES, "3".getBytes(StandardCharsets.US_ASCII));
+        }
+    }
+}
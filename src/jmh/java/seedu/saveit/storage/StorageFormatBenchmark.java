@@ -0,0 +1,97 @@
+package seedu.saveit.storage;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.saveit.model.ReadOnlySaveIt;
+import seedu.saveit.model.SaveIt;
+
+/**
+ * Compares saving and loading the data file in the xml format with the compact binary format.
+ * Every save goes through a new storage, so that the xml storage cannot reuse issues it serialized before.
+ * The size of both files is printed once the data is generated.
+ *
+ * Measured with {@code gradlew jmh -Pbenchmarks=StorageFormat -PjmhArgs="-p issueCount=10000,100000"}, and for
+ * a million issues with {@code -PjmhArgs="-p issueCount=1000000 -wi 1 -i 3"} (JDK 11, one CPU), average time
+ * per operation with its 99.9% error:
+ * <pre>
+ * issueCount  format  file size   save              load
+ *      10000  xml       6,522 KB     58 +- 7 ms        70 +- 3 ms
+ *      10000  binary    1,335 KB      6 +- 0.2 ms      26 +- 3 ms
+ *     100000  xml      65,701 KB    500 +- 15 ms      737 +- 170 ms
+ *     100000  binary   13,811 KB     63 +- 5 ms       315 +- 24 ms
+ *    1000000  xml     661,894 KB  6,476 +- 5,843 ms  12,156 +- 24,998 ms
+ *    1000000  binary  142,149 KB    592 +- 223 ms     8,535 +- 34,641 ms
+ * </pre>
+ * A million issues nearly fill the heap, so those loads are dominated by garbage collection and vary widely.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms3g", "-Xmx3g"})
+public class StorageFormatBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    private int issueCount;
+
+    private SaveIt saveIt;
+    private Path directory;
+    private Path xmlFile;
+    private Path binaryFile;
+    private Path outputFile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        saveIt = BenchmarkIssues.generate(issueCount);
+        directory = Files.createTempDirectory("saveit-benchmark");
+        xmlFile = directory.resolve("saveit.xml");
+        binaryFile = directory.resolve("saveit.bin");
+        outputFile = directory.resolve("output");
+        new XmlSaveItStorage(xmlFile).saveSaveIt(saveIt);
+        new BinarySaveItStorage(binaryFile).saveSaveIt(saveIt);
+        System.out.println("xml file: " + Files.size(xmlFile) + " bytes, binary file: " + Files.size(binaryFile)
+                + " bytes");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        BenchmarkIssues.deleteDirectory(directory);
+    }
+
+    @Benchmark
+    public void saveXml() throws Exception {
+        new XmlSaveItStorage(outputFile).saveSaveIt(saveIt);
+    }
+
+    @Benchmark
+    public void saveBinary() throws Exception {
+        new BinarySaveItStorage(outputFile).saveSaveIt(saveIt);
+    }
+
+    @Benchmark
+    public ReadOnlySaveIt loadXml() throws Exception {
+        return new XmlSaveItStorage(xmlFile).readSaveIt().get();
+    }
+
+    @Benchmark
+    public ReadOnlySaveIt loadBinary() throws Exception {
+        return new BinarySaveItStorage(binaryFile).readSaveIt().get();
+    }
+}
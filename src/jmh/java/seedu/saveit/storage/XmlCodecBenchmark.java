@@ -0,0 +1,86 @@
+package seedu.saveit.storage;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.saveit.model.SaveIt;
+
+/**
+ * Compares reading and writing the xml data file through JAXB, which builds the whole document as objects,
+ * with the streaming StAX codec, which reads and writes one issue at a time.
+ *
+ * Measured with {@code gradlew jmh -Pbenchmarks=XmlCodec} (JDK 11, one CPU), average time per operation
+ * with its 99.9% error:
+ * <pre>
+ * issueCount  jaxb save     streaming save  jaxb load     streaming load
+ *      10000  76 +- 11 ms  97 +- 6 ms      185 +- 83 ms  147 +- 14 ms
+ * </pre>
+ * The streaming codec loads faster but saves slower than JAXB at this size; its gain is that it never holds
+ * the whole document in memory, which these timings do not show.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+public class XmlCodecBenchmark {
+
+    @Param({"10000"})
+    private int issueCount;
+
+    private SaveIt saveIt;
+    private Path directory;
+    private Path savedFile;
+    private Path outputFile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        saveIt = BenchmarkIssues.generate(issueCount);
+        directory = Files.createTempDirectory("saveit-benchmark");
+        savedFile = directory.resolve("saved.xml");
+        outputFile = directory.resolve("output.xml");
+        XmlStreamingSaveItCodec.saveSaveIt(savedFile, saveIt);
+        Files.copy(savedFile, outputFile);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        BenchmarkIssues.deleteDirectory(directory);
+    }
+
+    @Benchmark
+    public void saveWithJaxb() throws Exception {
+        XmlFileStorage.saveDataToFile(outputFile, new XmlSerializableSaveIt(saveIt));
+    }
+
+    @Benchmark
+    public void saveStreaming() throws Exception {
+        XmlStreamingSaveItCodec.saveSaveIt(outputFile, saveIt);
+    }
+
+    @Benchmark
+    public SaveIt loadWithJaxb() throws Exception {
+        return XmlFileStorage.loadDataFromSaveFile(savedFile).toModelType();
+    }
+
+    @Benchmark
+    public SaveIt loadStreaming() throws Exception {
+        return XmlStreamingSaveItCodec.readSaveIt(savedFile);
+    }
+}
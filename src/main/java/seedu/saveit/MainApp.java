@@ -2,6 +2,8 @@ package seedu.saveit;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -14,6 +16,7 @@ import seedu.saveit.commons.core.Config;
 import seedu.saveit.commons.core.EventsCenter;
 import seedu.saveit.commons.core.LogsCenter;
 import seedu.saveit.commons.core.Version;
+import seedu.saveit.commons.events.storage.DataSavingExceptionEvent;
 import seedu.saveit.commons.events.ui.ExitAppRequestEvent;
 import seedu.saveit.commons.exceptions.DataConversionException;
 import seedu.saveit.commons.util.ConfigUtil;
@@ -28,8 +31,15 @@ import seedu.saveit.model.ReadOnlySaveIt;
 import seedu.saveit.model.SaveIt;
 import seedu.saveit.model.UserPrefs;
 import seedu.saveit.model.util.SampleDataUtil;
+import seedu.saveit.storage.BinarySaveItStorage;
+import seedu.saveit.storage.JournaledSaveItStorage;
 import seedu.saveit.storage.JsonUserPrefsStorage;
+import seedu.saveit.storage.LazyBinarySaveItStorage;
+import seedu.saveit.storage.MappedBinarySaveItStorage;
+import seedu.saveit.storage.SaveItSnapshotCache;
 import seedu.saveit.storage.SaveItStorage;
+import seedu.saveit.storage.ShardedSaveItStorage;
+import seedu.saveit.storage.SqlSaveItStorage;
 import seedu.saveit.storage.Storage;
 import seedu.saveit.storage.StorageManager;
 import seedu.saveit.storage.UserPrefsStorage;
@@ -53,7 +63,9 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
     protected UserPrefs userPrefs;
-
+    /** The snapshot of the model written on a clean stop, or null if the storage format does not use one. */
+    protected SaveItSnapshotCache snapshotCache;
+    private volatile boolean hasSavingFailed;
 
     @Override
     public void init() throws Exception {
@@ -65,8 +77,9 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         userPrefs = initPrefs(userPrefsStorage);
-        SaveItStorage saveItStorage = new XmlSaveItStorage(userPrefs.getSaveItFilePath());
-        storage = new StorageManager(saveItStorage, userPrefsStorage);
+        SaveItStorage saveItStorage = initSaveItStorage(userPrefs);
+        storage = new StorageManager(saveItStorage, userPrefsStorage, userPrefs.getSaveDebounceMillis());
+        snapshotCache = initSnapshotCache(userPrefs, saveItStorage);
 
         initLogging(config);
 
@@ -81,12 +94,62 @@ public class MainApp extends Application {
         initEventsCenter();
     }
 
+    /**
+     * Returns the {@code SaveItStorage} for the data file format chosen in {@code userPrefs}.
+     */
+    private SaveItStorage initSaveItStorage(UserPrefs userPrefs) {
+        Path saveItFilePath = userPrefs.getSaveItFilePath();
+        switch (userPrefs.getSaveItStorageFormat()) {
+        case JOURNALED_XML:
+            return new JournaledSaveItStorage(saveItFilePath);
+        case BINARY:
+            return new BinarySaveItStorage(saveItFilePath);
+        case LAZY_BINARY:
+            return new LazyBinarySaveItStorage(saveItFilePath);
+        case MAPPED_BINARY:
+            return new MappedBinarySaveItStorage(saveItFilePath);
+        case SHARDED_XML:
+            return new ShardedSaveItStorage(saveItFilePath);
+        case SQL:
+            return new SqlSaveItStorage(saveItFilePath);
+        default:
+            return new XmlSaveItStorage(saveItFilePath);
+        }
+    }
+
+    /**
+     * Returns the snapshot cache of {@code saveItStorage}, which stores data in the format chosen in
+     * {@code userPrefs}, or null if that format does not use one.
+     * Only formats that are read in full at every start, and whose data files are all listed here, use one.
+     */
+    private SaveItSnapshotCache initSnapshotCache(UserPrefs userPrefs, SaveItStorage saveItStorage) {
+        Path saveItFilePath = userPrefs.getSaveItFilePath();
+        Path snapshotPath = SaveItSnapshotCache.getSnapshotPath(saveItFilePath);
+        switch (userPrefs.getSaveItStorageFormat()) {
+        case XML:
+        case BINARY:
+            return new SaveItSnapshotCache(snapshotPath, Collections.singletonList(saveItFilePath));
+        case JOURNALED_XML:
+            return new SaveItSnapshotCache(snapshotPath, Arrays.asList(saveItFilePath,
+                    ((JournaledSaveItStorage) saveItStorage).getJournalFilePath()));
+        default:
+            return null;
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s saveIt and {@code userPrefs}. <br>
-     * The data from the sample saveIt will be used instead if {@code storage}'s saveIt is not found,
+     * The data from the snapshot of the last session will be used instead if it is still up to date,
+     * the data from the sample saveIt will be used instead if {@code storage}'s saveIt is not found,
      * or an empty saveIt will be used instead if errors occur when reading {@code storage}'s saveIt.
      */
     private Model initModelManager(Storage storage, UserPrefs userPrefs) {
+        Optional<ReadOnlySaveIt> snapshotOptional = readSnapshot();
+        if (snapshotOptional.isPresent()) {
+            logger.info("Starting from the snapshot at " + snapshotCache.getSnapshotFilePath());
+            return new ModelManager(snapshotOptional.get(), userPrefs);
+        }
+
         Optional<ReadOnlySaveIt> saveItOptional;
         ReadOnlySaveIt initialData;
         try {
@@ -96,8 +159,8 @@ public class MainApp extends Application {
             }
             initialData = saveItOptional.orElseGet(SampleDataUtil::getSampleSaveIt);
         } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. Will be starting with an empty SaveIt");
-            initialData = new SaveIt();
+            logger.warning("Data file not in the correct format. Will be recovering the issues still intact in it");
+            initialData = recoverSaveIt(storage);
         } catch (IOException e) {
             logger.warning("Problem while reading from the file. Will be starting with an empty SaveIt");
             initialData = new SaveIt();
@@ -106,6 +169,54 @@ public class MainApp extends Application {
         return new ModelManager(initialData, userPrefs);
     }
 
+    /**
+     * Returns the data that can still be read from {@code storage}'s saveIt, which is not in the correct format,
+     * or an empty saveIt if nothing can be recovered from it.
+     */
+    private ReadOnlySaveIt recoverSaveIt(Storage storage) {
+        try {
+            Optional<ReadOnlySaveIt> recoveredOptional = storage.recoverSaveIt();
+            if (recoveredOptional.isPresent()) {
+                return recoveredOptional.get();
+            }
+        } catch (IOException e) {
+            logger.warning("Problem while recovering the data file : " + StringUtil.getDetails(e));
+        }
+        logger.warning("Nothing could be recovered from the data file. Will be starting with an empty SaveIt");
+        return new SaveIt();
+    }
+
+    private Optional<ReadOnlySaveIt> readSnapshot() {
+        if (snapshotCache == null) {
+            return Optional.empty();
+        }
+        try {
+            return snapshotCache.readSnapshot();
+        } catch (IOException e) {
+            logger.warning("Problem while reading the snapshot. Will be reading the data file instead");
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Writes the snapshot of the model for the next start, once every change has been saved.
+     * No snapshot is written if a save failed, as the data files would then not hold the data in the model.
+     */
+    private void saveSnapshot() {
+        if (snapshotCache == null) {
+            return;
+        }
+        try {
+            if (hasSavingFailed) {
+                snapshotCache.deleteSnapshot();
+                return;
+            }
+            snapshotCache.saveSnapshot(model.getSaveIt());
+        } catch (IOException e) {
+            logger.warning("Failed to save the snapshot " + StringUtil.getDetails(e));
+        }
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -192,6 +303,8 @@ public class MainApp extends Application {
     public void stop() {
         logger.info("============================ [ Stopping SaveIt ] =============================");
         ui.stop();
+        storage.close();
+        saveSnapshot();
         try {
             storage.saveUserPrefs(userPrefs);
         } catch (IOException e) {
@@ -201,6 +314,11 @@ public class MainApp extends Application {
         System.exit(0);
     }
 
+    @Subscribe
+    public void handleDataSavingExceptionEvent(DataSavingExceptionEvent event) {
+        hasSavingFailed = true;
+    }
+
     @Subscribe
     public void handleExitAppRequestEvent(ExitAppRequestEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
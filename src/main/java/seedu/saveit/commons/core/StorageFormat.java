@@ -0,0 +1,21 @@
+package seedu.saveit.commons.core;
+
+/**
+ * The formats SaveIt data can be stored in.
+ */
+public enum StorageFormat {
+    /** A single xml file, rewritten on every save. */
+    XML,
+    /** An xml snapshot with a journal of later changes, for quick saves of small edits. */
+    JOURNALED_XML,
+    /** A compact binary file, for large data sets. */
+    BINARY,
+    /** The binary format, with the description and solutions of each issue only read when first needed. */
+    LAZY_BINARY,
+    /** The lazily read binary format, mapped into memory instead of read, for read-mostly sessions. */
+    MAPPED_BINARY,
+    /** Xml files that each hold a run of issues, of which a save only rewrites those that changed. */
+    SHARDED_XML,
+    /** An embedded database, in which a save only changes the rows of the issues that changed. */
+    SQL
+}
@@ -0,0 +1,22 @@
+package seedu.saveit.commons.events.model;
+
+import seedu.saveit.commons.events.BaseEvent;
+import seedu.saveit.model.Issue;
+
+/** Indicates an issue was added to the SaveIt in the model */
+public class IssueAddedEvent extends BaseEvent {
+
+    public final Issue issue;
+    /** The position of the issue in the issue list once it was added. */
+    public final int index;
+
+    public IssueAddedEvent(Issue issue, int index) {
+        this.issue = issue;
+        this.index = index;
+    }
+
+    @Override
+    public String toString() {
+        return "added issue " + issue.getStatement();
+    }
+}
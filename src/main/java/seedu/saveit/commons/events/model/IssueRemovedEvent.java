@@ -0,0 +1,19 @@
+package seedu.saveit.commons.events.model;
+
+import seedu.saveit.commons.events.BaseEvent;
+import seedu.saveit.model.Issue;
+
+/** Indicates an issue was removed from the SaveIt in the model */
+public class IssueRemovedEvent extends BaseEvent {
+
+    public final Issue issue;
+
+    public IssueRemovedEvent(Issue issue) {
+        this.issue = issue;
+    }
+
+    @Override
+    public String toString() {
+        return "removed issue " + issue.getStatement();
+    }
+}
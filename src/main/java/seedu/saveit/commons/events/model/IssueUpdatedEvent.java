@@ -0,0 +1,24 @@
+package seedu.saveit.commons.events.model;
+
+import seedu.saveit.commons.events.BaseEvent;
+import seedu.saveit.model.Issue;
+
+/**
+ * Indicates an issue in the SaveIt in the model was replaced by an edited issue,
+ * or that its search frequency changed in place, in which case both issues are the same.
+ */
+public class IssueUpdatedEvent extends BaseEvent {
+
+    public final Issue oldIssue;
+    public final Issue newIssue;
+
+    public IssueUpdatedEvent(Issue oldIssue, Issue newIssue) {
+        this.oldIssue = oldIssue;
+        this.newIssue = newIssue;
+    }
+
+    @Override
+    public String toString() {
+        return "updated issue " + oldIssue.getStatement();
+    }
+}
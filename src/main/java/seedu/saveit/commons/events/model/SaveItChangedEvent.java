@@ -1,5 +1,7 @@
 package seedu.saveit.commons.events.model;
 
+import java.util.List;
+
 import seedu.saveit.commons.events.BaseEvent;
 import seedu.saveit.model.ReadOnlySaveIt;
 
@@ -7,13 +9,23 @@ import seedu.saveit.model.ReadOnlySaveIt;
 public class SaveItChangedEvent extends BaseEvent {
 
     public final ReadOnlySaveIt data;
+    /**
+     * The issue level events that lead from the data of the previous {@code SaveItChangedEvent} to {@code data},
+     * in order, or null if the issues were replaced as a whole.
+     */
+    public final List<BaseEvent> issueEvents;
 
     public SaveItChangedEvent(ReadOnlySaveIt data) {
+        this(data, null);
+    }
+
+    public SaveItChangedEvent(ReadOnlySaveIt data, List<BaseEvent> issueEvents) {
         this.data = data;
+        this.issueEvents = issueEvents;
     }
 
     @Override
     public String toString() {
-        return "number of issues " + data.getIssueList().size();
+        return "number of issues " + data.getIssueCount();
     }
 }
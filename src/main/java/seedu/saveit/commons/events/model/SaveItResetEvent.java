@@ -0,0 +1,23 @@
+package seedu.saveit.commons.events.model;
+
+import seedu.saveit.commons.events.BaseEvent;
+import seedu.saveit.model.ReadOnlySaveIt;
+
+/**
+ * Indicates the issues of the SaveIt in the model were replaced as a whole, e.g. by a clear, or by an undo or
+ * a redo whose changes were not recorded.
+ * No issue level events are raised for such a change.
+ */
+public class SaveItResetEvent extends BaseEvent {
+
+    public final ReadOnlySaveIt data;
+
+    public SaveItResetEvent(ReadOnlySaveIt data) {
+        this.data = data;
+    }
+
+    @Override
+    public String toString() {
+        return "reset to " + data.getIssueCount() + " issues";
+    }
+}
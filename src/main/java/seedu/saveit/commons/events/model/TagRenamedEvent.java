@@ -0,0 +1,27 @@
+package seedu.saveit.commons.events.model;
+
+import seedu.saveit.commons.events.BaseEvent;
+import seedu.saveit.model.issue.Tag;
+
+/**
+ * Indicates a tag was renamed in every issue of the SaveIt in the model.
+ * It is followed by an {@code IssueUpdatedEvent} for each issue that carried the tag.
+ */
+public class TagRenamedEvent extends BaseEvent {
+
+    public final Tag oldTag;
+    public final Tag newTag;
+    /** The number of {@code IssueUpdatedEvent}s that follow this event for the renamed issues. */
+    public final int renamedIssueCount;
+
+    public TagRenamedEvent(Tag oldTag, Tag newTag, int renamedIssueCount) {
+        this.oldTag = oldTag;
+        this.newTag = newTag;
+        this.renamedIssueCount = renamedIssueCount;
+    }
+
+    @Override
+    public String toString() {
+        return "renamed tag " + oldTag + " to " + newTag;
+    }
+}
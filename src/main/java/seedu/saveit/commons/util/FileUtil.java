@@ -1,10 +1,12 @@
 package seedu.saveit.commons.util;
 
 import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 
 /**
  * Writes and reads files
@@ -12,6 +14,7 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMPORARY_EXTENSION = ".tmp";
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -65,6 +68,26 @@ public class FileUtil {
         }
     }
 
+    /**
+     * Returns the path of the temporary file that a new version of {@code file} is written to,
+     * before it replaces {@code file}.
+     */
+    public static Path getTemporaryPath(Path file) {
+        return file.resolveSibling(file.getFileName() + TEMPORARY_EXTENSION);
+    }
+
+    /**
+     * Moves {@code source} over {@code target}, atomically where the file system supports it,
+     * so that a crash during the move leaves either the old or the new version of {@code target}.
+     */
+    public static void replaceFile(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException amnse) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
     /**
      * Assumes file exists
      */
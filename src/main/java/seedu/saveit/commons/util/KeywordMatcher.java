@@ -0,0 +1,107 @@
+package seedu.saveit.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.saveit.commons.util.AppUtil.checkArgument;
+
+/**
+ * Matches a keyword against sentences, ignoring case.
+ * The keyword is checked and prepared once, so that a matcher can be applied to many sentences
+ * without compiling a pattern or allocating for each of them.
+ * The keyword is matched literally, so characters that are special in regular expressions need no escaping.
+ * Case is ignored by folding each character with {@link #foldCase(char)}, which does not depend on the locale,
+ * so that an index built over folded text agrees with the matcher.
+ */
+public class KeywordMatcher {
+
+    private final String foldedKeyword;
+    private final boolean isFromStart;
+
+    private KeywordMatcher(String keyword, boolean isFromStart) {
+        this.foldedKeyword = foldCase(keyword);
+        this.isFromStart = isFromStart;
+    }
+
+    /**
+     * Returns {@code c} with its case folded, as {@code String#regionMatches(boolean, ...)} compares characters
+     * when ignoring case. Two characters are equal ignoring case exactly when their folded forms are equal.
+     */
+    public static char foldCase(char c) {
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    /**
+     * Returns {@code text} with the case of every character folded by {@link #foldCase(char)}.
+     * Unlike {@code String#toLowerCase()}, the result does not depend on the locale and has the length of {@code text}.
+     */
+    public static String foldCase(String text) {
+        requireNonNull(text);
+        char[] folded = new char[text.length()];
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = foldCase(text.charAt(i));
+        }
+        return new String(folded);
+    }
+
+    /**
+     * Returns a matcher for sentences containing {@code word} anywhere, ignoring case.
+     * A full word is not required, e.g. "ello" matches "hello there".
+     * @param word cannot be null or empty, must be a single word
+     */
+    public static KeywordMatcher partial(String word) {
+        requireNonNull(word);
+        String preppedWord = word.trim();
+        checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
+        checkArgument(!containsWhitespace(preppedWord), "Word parameter should be a single word");
+        return new KeywordMatcher(preppedWord, false);
+    }
+
+    /**
+     * Returns a matcher for sentences starting with {@code word}, ignoring case.
+     * @param word cannot be null or empty
+     */
+    public static KeywordMatcher fromStart(String word) {
+        requireNonNull(word);
+        String preppedWord = word.trim();
+        checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
+        return new KeywordMatcher(preppedWord, true);
+    }
+
+    /**
+     * Returns true if {@code sentence} is matched by this matcher.
+     */
+    public boolean matches(String sentence) {
+        requireNonNull(sentence);
+        if (isFromStart) {
+            return matchesAt(sentence, 0);
+        }
+
+        int lastStart = sentence.length() - foldedKeyword.length();
+        for (int start = 0; start <= lastStart; start++) {
+            if (matchesAt(sentence, start)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean matchesAt(String sentence, int start) {
+        if (start + foldedKeyword.length() > sentence.length()) {
+            return false;
+        }
+        for (int i = 0; i < foldedKeyword.length(); i++) {
+            if (foldCase(sentence.charAt(start + i)) != foldedKeyword.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean containsWhitespace(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            if (Character.isWhitespace(word.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,7 +1,6 @@
 package seedu.saveit.commons.util;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.saveit.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
@@ -15,8 +14,6 @@ import seedu.saveit.logic.parser.Prefix;
  */
 public class StringUtil {
 
-    private static final String PARTIAL_MATCH_REGEX = "(.*)";
-
     /**
      * Returns true if the {@code sentence} is partially matched with the {@code word}
      *   Ignores cases and full word is not required.
@@ -26,16 +23,11 @@ public class StringUtil {
      * @param sentence cannot be null
      * @param word cannot be null or empty, must be a single word
      * @return
+     * @see KeywordMatcher#partial(String) to match the same word against many sentences
      */
     public static boolean partialMatch(String sentence, String word) {
         requireNonNull(sentence);
-        requireNonNull(word);
-
-        String preppedWord = word.trim();
-        checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
-        checkArgument(preppedWord.split("\\s+").length == 1, "Word parameter should be a single word");
-
-        return sentence.toLowerCase().matches(PARTIAL_MATCH_REGEX + preppedWord.toLowerCase() + PARTIAL_MATCH_REGEX);
+        return KeywordMatcher.partial(word).matches(sentence);
     }
 
     /**
@@ -43,12 +35,7 @@ public class StringUtil {
      */
     public static boolean partialMatchFromStart(String sentence, String word) {
         requireNonNull(sentence);
-        requireNonNull(word);
-
-        String preppedWord = word.trim();
-        checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
-
-        return sentence.toLowerCase().matches(preppedWord.toLowerCase() + PARTIAL_MATCH_REGEX);
+        return KeywordMatcher.fromStart(word).matches(sentence);
     }
 
     /**
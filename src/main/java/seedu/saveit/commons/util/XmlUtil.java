@@ -2,9 +2,15 @@ package seedu.saveit.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedOutputStream;
 import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
@@ -16,6 +22,9 @@ import javax.xml.bind.Unmarshaller;
  */
 public class XmlUtil {
 
+    /** Contexts are expensive to create and thread-safe, so one is kept for each class. */
+    private static final Map<Class<?>, JAXBContext> contexts = new ConcurrentHashMap<>();
+
     /**
      * Returns the xml data in the file as an object of the specified type.
      *
@@ -37,7 +46,7 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(classToConvert);
+        JAXBContext context = getContext(classToConvert);
         Unmarshaller um = context.createUnmarshaller();
 
         return ((T) um.unmarshal(file.toFile()));
@@ -45,14 +54,17 @@ public class XmlUtil {
 
     /**
      * Saves the data in the file in xml format.
+     * The data is written to a temporary file and forced to the disk first, which then replaces the file,
+     * so that a crash while saving leaves the previous contents of the file intact.
      *
      * @param file Points to a valid xml file containing data that match the {@code classToConvert}.
      *             Cannot be null.
      * @throws FileNotFoundException Thrown if the file is missing.
+     * @throws IOException           Thrown if there is an error writing to the temporary file or replacing the file.
      * @throws JAXBException         Thrown if there is an error during converting the data
      *                               into xml and writing to the file.
      */
-    public static <T> void saveDataToFile(Path file, T data) throws FileNotFoundException, JAXBException {
+    public static <T> void saveDataToFile(Path file, T data) throws IOException, JAXBException {
 
         requireNonNull(file);
         requireNonNull(data);
@@ -61,11 +73,30 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(data.getClass());
+        JAXBContext context = getContext(data.getClass());
         Marshaller m = context.createMarshaller();
         m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
 
-        m.marshal(data, file.toFile());
+        Path temporaryFile = FileUtil.getTemporaryPath(file);
+        try (FileOutputStream fileOut = new FileOutputStream(temporaryFile.toFile());
+             OutputStream out = new BufferedOutputStream(fileOut)) {
+            m.marshal(data, out);
+            out.flush();
+            fileOut.getFD().sync();
+        }
+        FileUtil.replaceFile(temporaryFile, file);
+    }
+
+    /**
+     * Returns the JAXB context for {@code type}, creating it on first use.
+     */
+    private static JAXBContext getContext(Class<?> type) throws JAXBException {
+        JAXBContext context = contexts.get(type);
+        if (context == null) {
+            context = JAXBContext.newInstance(type);
+            contexts.putIfAbsent(type, context);
+        }
+        return context;
     }
 
 }
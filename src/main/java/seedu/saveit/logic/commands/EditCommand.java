@@ -138,7 +138,7 @@ public class EditCommand extends Command {
         Set<Tag> updatedTags = editIssueDescriptor.getTags().orElse(issueToEdit.getTags());
 
         return new Issue(updatedName, updatedDescription, updatedSolutions, updatedTags,
-            issueToEdit.getFrequency(), issueToEdit.getCreatedTime());
+            issueToEdit.getFrequency(), issueToEdit.getCreatedTime(), issueToEdit.getId());
     }
 
     /**
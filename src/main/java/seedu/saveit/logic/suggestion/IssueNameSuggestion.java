@@ -2,9 +2,7 @@ package seedu.saveit.logic.suggestion;
 
 import java.util.LinkedList;
 import java.util.List;
-import java.util.stream.Collectors;
 
-import seedu.saveit.commons.util.StringUtil;
 import seedu.saveit.logic.parser.ArgumentTokenizer;
 import seedu.saveit.logic.parser.Prefix;
 import seedu.saveit.model.Model;
@@ -34,11 +32,7 @@ public class IssueNameSuggestion implements Suggestion {
      */
     @Override
     public SuggestionResult evaluate() {
-        List<String> statements = model.getCurrentIssueStatementSet()
-                .stream()
-                .filter(statement -> StringUtil.partialMatchFromStart(statement, argument))
-                .collect(Collectors.toList());
-        statements.sort(String.CASE_INSENSITIVE_ORDER);
+        List<String> statements = model.completeIssueStatement(argument.trim(), MAX_NUMBER_SUGGESTIONS);
 
         LinkedList<SuggestionValue> values = new LinkedList<>();
         for (String statement : statements) {
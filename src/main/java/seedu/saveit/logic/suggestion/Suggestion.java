@@ -5,6 +5,9 @@ package seedu.saveit.logic.suggestion;
  */
 public interface Suggestion {
 
+    /** The number of suggestion values shown to the user */
+    int MAX_NUMBER_SUGGESTIONS = 5;
+
     /**
      * Returns a {@code SuggestionResult}
      */
@@ -4,9 +4,7 @@ import static seedu.saveit.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.LinkedList;
 import java.util.List;
-import java.util.stream.Collectors;
 
-import seedu.saveit.commons.util.StringUtil;
 import seedu.saveit.logic.parser.ArgumentTokenizer;
 import seedu.saveit.logic.parser.Prefix;
 import seedu.saveit.model.Model;
@@ -36,11 +34,7 @@ public class TagNameSuggestion implements Suggestion {
      */
     @Override
     public SuggestionResult evaluate() {
-        List<String> tags = model.getCurrentTagSet()
-                .stream()
-                .filter(tagName -> StringUtil.partialMatchFromStart(tagName, argument))
-                .collect(Collectors.toList());
-        tags.sort(String.CASE_INSENSITIVE_ORDER);
+        List<String> tags = model.completeTagName(argument.trim(), MAX_NUMBER_SUGGESTIONS);
 
         LinkedList<SuggestionValue> values = new LinkedList<>();
         for (String tag : tags) {
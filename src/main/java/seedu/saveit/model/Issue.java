@@ -1,5 +1,7 @@
 package seedu.saveit.model;
 
+import static seedu.saveit.commons.util.AppUtil.checkArgument;
+
 import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -7,42 +9,63 @@ import java.util.Date;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.saveit.commons.util.CollectionUtil;
 import seedu.saveit.model.issue.Description;
+import seedu.saveit.model.issue.IssueBody;
+import seedu.saveit.model.issue.IssueBodyLoader;
 import seedu.saveit.model.issue.IssueSearchFrequency;
 import seedu.saveit.model.issue.IssueStatement;
 import seedu.saveit.model.issue.PrimarySolution;
 import seedu.saveit.model.issue.Solution;
 import seedu.saveit.model.issue.Tag;
+import seedu.saveit.model.issue.exceptions.IssueBodyUnavailableException;
 
 /**
  * Represents a Issue in the remark book.
- * Guarantees: details are present and not null, field values are validated, immutable.
+ * Guarantees: details are present and not null, field values are validated.
+ * The fields of an issue do not change once it is created, except for its search frequency, which is counted
+ * in place, and its description and solutions, which may be left in storage until they are first needed.
+ *
+ * Every issue has an id that is kept by the issues it is edited into and stored with it, so that an issue can be
+ * referred to by a number that stays the same for as long as the issue exists. Ids are unique within a SaveIt.
  */
 public class Issue {
 
+    public static final String MESSAGE_ID_CONSTRAINTS = "Issue ids should be positive numbers";
+
     private static final int RESET_PRIMARY_SOLUTION = -1;
 
+    /** The id given to the next new issue, kept above the id of every issue created so far. */
+    private static final AtomicLong nextId = new AtomicLong(1);
+
     // Identity fields
+    private final long id;
     private final IssueStatement statement;
 
     // Data fields
     private final List<Solution> solutions = new ArrayList<>();
-    private final Description description;
+    /** Set at most once after construction, before {@code bodyLoader} is cleared. */
+    private volatile Description description;
     private final IssueSearchFrequency frequency;
     private final Set<Tag> tags = new LinkedHashSet<>();
     private final Timestamp lastModifiedTime;
     private final Timestamp createdTime;
 
+    /** Loads the description and solutions, or null once they are in memory. */
+    private volatile IssueBodyLoader bodyLoader;
+
     /**
      * Initialize constructor for Issue. -> Add
      */
     public Issue(IssueStatement statement, Description description, List<Solution> solutions, Set<Tag> tags) {
         CollectionUtil.requireAllNonNull(statement, description, solutions, tags);
+        this.id = generateId();
         this.statement = statement;
         this.description = description;
         this.solutions.addAll(solutions);
@@ -53,11 +76,12 @@ public class Issue {
     }
 
     /**
-     * Overloaded constructor with additional {@code frequency} and {@code createdTime} field -> Edit
+     * Overloaded constructor with additional {@code frequency}, {@code createdTime} and {@code id} field -> Edit
      */
     public Issue(IssueStatement statement, Description description, List<Solution> solutions,
-                 Set<Tag> tags, IssueSearchFrequency frequency, Timestamp createdTime) {
+                 Set<Tag> tags, IssueSearchFrequency frequency, Timestamp createdTime, long id) {
         CollectionUtil.requireAllNonNull(statement, description, solutions, tags);
+        this.id = reserveId(id);
         this.statement = statement;
         this.description = description;
         this.solutions.addAll(solutions);
@@ -68,11 +92,13 @@ public class Issue {
     }
 
     /**
-     * Overloaded constructor with additional {@code frequency},  {@code createdTime} and {@code lastModifiedTime} field
+     * Overloaded constructor with additional {@code frequency},  {@code createdTime}, {@code lastModifiedTime}
+     * and {@code id} field
      */
-    public Issue(IssueStatement statement, Description description, List<Solution> solutions,
-                 Set<Tag> tags, IssueSearchFrequency frequency, Timestamp createdTime, Timestamp lastModifiedTime) {
+    public Issue(IssueStatement statement, Description description, List<Solution> solutions, Set<Tag> tags,
+                 IssueSearchFrequency frequency, Timestamp createdTime, Timestamp lastModifiedTime, long id) {
         CollectionUtil.requireAllNonNull(statement, description, solutions, tags);
+        this.id = reserveId(id);
         this.statement = statement;
         this.description = description;
         this.solutions.addAll(solutions);
@@ -82,6 +108,49 @@ public class Issue {
         this.lastModifiedTime = lastModifiedTime;
     }
 
+    /**
+     * Overloaded constructor for an issue whose description and solutions are loaded by {@code bodyLoader}
+     * when they are first needed.
+     */
+    public Issue(IssueStatement statement, Set<Tag> tags, IssueSearchFrequency frequency, Timestamp createdTime,
+                 Timestamp lastModifiedTime, IssueBodyLoader bodyLoader, long id) {
+        CollectionUtil.requireAllNonNull(statement, tags, bodyLoader);
+        this.id = reserveId(id);
+        this.statement = statement;
+        this.tags.addAll(tags);
+        this.frequency = frequency;
+        this.createdTime = createdTime;
+        this.lastModifiedTime = lastModifiedTime;
+        this.bodyLoader = bodyLoader;
+    }
+
+    /**
+     * Returns an id that no issue created so far has.
+     */
+    public static long generateId() {
+        return nextId.getAndIncrement();
+    }
+
+    /**
+     * Returns true if {@code id} can be the id of an issue.
+     */
+    public static boolean isValidId(long id) {
+        return id > 0;
+    }
+
+    /**
+     * Returns {@code id}, making sure that it is not given to a new issue.
+     */
+    private static long reserveId(long id) {
+        checkArgument(isValidId(id), MESSAGE_ID_CONSTRAINTS);
+        nextId.accumulateAndGet(id + 1, Math::max);
+        return id;
+    }
+
+    public long getId() {
+        return id;
+    }
+
     public IssueStatement getStatement() {
         return statement;
     }
@@ -91,6 +160,7 @@ public class Issue {
      * if modification is attempted.
      */
     public List<Solution> getSolutions() {
+        loadBody();
         return Collections.unmodifiableList(solutions);
     }
 
@@ -98,13 +168,62 @@ public class Issue {
      * Returns ab observableList of solutions.
      */
     public ObservableList<Solution> getObservableSolutions() {
+        loadBody();
         return FXCollections.observableList(solutions);
     }
 
     public Description getDescription() {
+        loadBody();
         return description;
     }
 
+    /**
+     * Returns true if the description and solutions of this issue are in memory.
+     */
+    public boolean isBodyLoaded() {
+        return bodyLoader == null;
+    }
+
+    /**
+     * Returns the number of bytes the description and solutions of this issue take in storage,
+     * or -1 if they are in memory.
+     */
+    public int getStoredBodyLength() {
+        IssueBodyLoader loader = bodyLoader;
+        return loader == null ? -1 : loader.getStoredLength();
+    }
+
+    /**
+     * Returns the loader of the description and solutions of this issue, if they are still in storage.
+     * Copies of this issue that share its description and solutions share its loader.
+     */
+    public Optional<IssueBodyLoader> getBodyLoader() {
+        return Optional.ofNullable(bodyLoader);
+    }
+
+    /**
+     * Loads the description and solutions of this issue if they are still in storage.
+     * The loader is called without holding the lock of this issue, as it may take locks of its storage that are
+     * held while the storage reads this issue. Issues loaded by two threads at once are loaded twice,
+     * and only the first body is kept.
+     *
+     * @throws IssueBodyUnavailableException if they cannot be read from storage.
+     */
+    private void loadBody() {
+        IssueBodyLoader loader = bodyLoader;
+        if (loader == null) {
+            return;
+        }
+        IssueBody body = loader.load();
+        synchronized (this) {
+            if (bodyLoader != null) {
+                description = body.getDescription();
+                solutions.addAll(body.getSolutions());
+                bodyLoader = null;
+            }
+        }
+    }
+
     /**
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
@@ -159,6 +278,7 @@ public class Issue {
      * Updates the primary solution.
      */
     public Issue updatePrimarySolution(int index) {
+        loadBody();
         List<Solution> newSolutions = new ArrayList<>(this.solutions);
 
         for (int i = 0; i < newSolutions.size(); i++) {
@@ -173,7 +293,39 @@ public class Issue {
             newSolutions.set(index, newPrimarySolution);
         }
         return new Issue(this.statement, this.description, newSolutions, this.tags, this.frequency,
-                this.createdTime, this.lastModifiedTime);
+                this.createdTime, this.lastModifiedTime, this.id);
+    }
+
+    /**
+     * Returns a copy of this issue with {@code tags} instead of its tags, modified now.
+     * The copy shares the description and solutions of this issue, and loads them from storage
+     * only when it needs them if they are still there.
+     */
+    public Issue withTags(Set<Tag> tags) {
+        return withTags(tags, new Timestamp(new Date().getTime()));
+    }
+
+    /**
+     * Returns a copy of this issue with {@code newTag} in place of {@code oldTag}, which this issue must have,
+     * or without {@code oldTag} if {@code newTag} is null, modified at {@code lastModifiedTime}.
+     * {@code newTag} is put after the other tags, and the copy shares the description and solutions of this issue.
+     */
+    public Issue withTagReplaced(Tag oldTag, Tag newTag, Timestamp lastModifiedTime) {
+        checkArgument(tags.contains(oldTag), "The issue does not have the tag " + oldTag);
+        Set<Tag> newTags = new LinkedHashSet<>(tags);
+        newTags.remove(oldTag);
+        if (newTag != null) {
+            newTags.add(newTag);
+        }
+        return withTags(newTags, lastModifiedTime);
+    }
+
+    private Issue withTags(Set<Tag> tags, Timestamp lastModifiedTime) {
+        IssueBodyLoader loader = bodyLoader;
+        if (loader != null) {
+            return new Issue(statement, tags, frequency, createdTime, lastModifiedTime, loader, id);
+        }
+        return new Issue(statement, description, solutions, tags, frequency, createdTime, lastModifiedTime, id);
     }
 
     /**
@@ -208,8 +360,8 @@ public class Issue {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(statement, description, solutions, tags);
+        // issues are equal by statement, and hashing leaves a description and solutions in storage
+        return Objects.hash(statement);
     }
 
     @Override
@@ -0,0 +1,88 @@
+package seedu.saveit.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+
+/**
+ * A change of an issue list, recorded from a list change notification so that it can be applied again or undone.
+ * The change is made of parts in ascending order of position. Each part replaces the issues removed at its
+ * position with the issues added there, and its position counts the parts before it as already applied.
+ */
+final class IssueListChange {
+
+    private final List<Part> parts;
+
+    private IssueListChange(List<Part> parts) {
+        this.parts = parts;
+    }
+
+    /**
+     * Returns the change reported by {@code change}, or null if it reorders or updates issues in place,
+     * which cannot be told apart from the list alone.
+     */
+    static IssueListChange of(ListChangeListener.Change<? extends Issue> change) {
+        List<Part> parts = new ArrayList<>();
+        change.reset();
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                return null;
+            }
+            parts.add(new Part(change.getFrom(), new ArrayList<>(change.getRemoved()),
+                    new ArrayList<>(change.getAddedSubList())));
+        }
+        return new IssueListChange(parts);
+    }
+
+    /**
+     * Returns the changes which undo {@code changes}, when applied in order after them.
+     */
+    static List<IssueListChange> inverseOf(List<IssueListChange> changes) {
+        List<IssueListChange> inverse = new ArrayList<>(changes.size());
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            inverse.add(changes.get(i).inverse());
+        }
+        return inverse;
+    }
+
+    /**
+     * Returns the change which undoes this change. Its parts are in descending order of position,
+     * so that the position of every part counts the parts after it as not yet undone.
+     */
+    IssueListChange inverse() {
+        List<Part> inverseParts = new ArrayList<>(parts.size());
+        for (int i = parts.size() - 1; i >= 0; i--) {
+            Part part = parts.get(i);
+            inverseParts.add(new Part(part.from, part.added, part.removed));
+        }
+        return new IssueListChange(inverseParts);
+    }
+
+    List<Part> getParts() {
+        return Collections.unmodifiableList(parts);
+    }
+
+    /**
+     * Returns true if every part replaces as many issues as it removes, so that no issue changes its position.
+     */
+    boolean isReplacement() {
+        return parts.stream().allMatch(part -> part.removed.size() == part.added.size());
+    }
+
+    /**
+     * A run of issues removed from and added to one position of the list.
+     */
+    static final class Part {
+        final int from;
+        final List<Issue> removed;
+        final List<Issue> added;
+
+        Part(int from, List<Issue> removed, List<Issue> added) {
+            this.from = from;
+            this.removed = removed;
+            this.added = added;
+        }
+    }
+}
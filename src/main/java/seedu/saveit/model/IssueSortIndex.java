@@ -0,0 +1,189 @@
+package seedu.saveit.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.saveit.model.issue.IssueSortKey;
+import seedu.saveit.model.issue.KeyedIssueComparator;
+import seedu.saveit.model.issue.SortType;
+
+/**
+ * An index of the sort keys of every issue in an observable list, kept as one sorted ordering per sort type.
+ * A view sorted by a sort type is read off its ordering in O(n) instead of being sorted in O(n log n),
+ * and adding, editing or removing an issue costs O(log n) per ordering.
+ * The index listens to the list and is updated as issues are added, edited and removed.
+ *
+ * The search frequency of an issue is updated in place, without a change of the list, so the keys of a comparator
+ * with mutable keys are checked against their issues, in O(n), whenever its ordering is read.
+ */
+public class IssueSortIndex {
+
+    /** The listened list, kept so that a listened view of the underlying list stays reachable. */
+    private final ObservableList<Issue> issues;
+    private final List<Ordering> orderings = new ArrayList<>();
+
+    /**
+     * Creates an index over {@code issues} with an ordering for every keyed sort type, which stays up to date with it.
+     * Create the index before any other listener of {@code issues} that reads its orderings,
+     * so that the index is updated first.
+     */
+    public IssueSortIndex(ObservableList<Issue> issues) {
+        this(issues, SortType.getKeyedComparators());
+    }
+
+    /**
+     * Creates an index over {@code issues} with an ordering for each of {@code comparators}.
+     */
+    public IssueSortIndex(ObservableList<Issue> issues, List<? extends KeyedIssueComparator> comparators) {
+        requireNonNull(issues);
+        requireNonNull(comparators);
+        this.issues = issues;
+        comparators.forEach(comparator -> orderings.add(new Ordering(comparator)));
+        issues.forEach(this::add);
+        issues.addListener(this::onIssuesChanged);
+    }
+
+    /**
+     * Updates the index with every part of {@code change} at once. The removed issues are taken out before
+     * the added issues are put in, so that an issue replaced by one with the same id is keyed again.
+     */
+    private void onIssuesChanged(ListChangeListener.Change<? extends Issue> change) {
+        List<Issue> removedIssues = new ArrayList<>();
+        List<Issue> addedIssues = new ArrayList<>();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                continue;
+            }
+            if (change.wasUpdated()) {
+                List<? extends Issue> updatedIssues = change.getList().subList(change.getFrom(), change.getTo());
+                removedIssues.addAll(updatedIssues);
+                addedIssues.addAll(updatedIssues);
+                continue;
+            }
+            removedIssues.addAll(change.getRemoved());
+            addedIssues.addAll(change.getAddedSubList());
+        }
+
+        removedIssues.forEach(this::remove);
+        addedIssues.forEach(this::add);
+    }
+
+    private void add(Issue issue) {
+        for (Ordering ordering : orderings) {
+            ordering.put(ordering.comparator.getSortKey(issue));
+        }
+    }
+
+    private void remove(Issue issue) {
+        for (Ordering ordering : orderings) {
+            IssueSortKey key = ordering.keys.get(issue.getId());
+            if (key != null && key.getIssue() == issue) {
+                ordering.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Returns the ordering kept for {@code comparator}, or null if there is none.
+     */
+    private Ordering findOrdering(Comparator<? super Issue> comparator) {
+        for (Ordering ordering : orderings) {
+            if (ordering.comparator.equals(comparator)) {
+                return ordering;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns true if the index keeps an ordering for {@code comparator}.
+     */
+    public boolean hasOrdering(Comparator<? super Issue> comparator) {
+        return comparator != null && findOrdering(comparator) != null;
+    }
+
+    /**
+     * Returns the number of issues in the index.
+     */
+    public int size() {
+        return issues.size();
+    }
+
+    /**
+     * Returns the key of {@code issue} in the ordering for {@code comparator}.
+     * The key is computed afresh if the issue is not in the index.
+     */
+    public IssueSortKey getSortKey(KeyedIssueComparator comparator, Issue issue) {
+        requireNonNull(comparator);
+        requireNonNull(issue);
+        Ordering ordering = findOrdering(comparator);
+        IssueSortKey key = ordering == null ? null : ordering.keys.get(issue.getId());
+        return key != null && key.getIssue() == issue ? key : comparator.getSortKey(issue);
+    }
+
+    /**
+     * Returns a read-only view of the keys of every issue, sorted as {@code comparator} orders the issues.
+     *
+     * @throws IllegalArgumentException if the index keeps no ordering for {@code comparator}.
+     */
+    public NavigableSet<IssueSortKey> getSortedKeys(KeyedIssueComparator comparator) {
+        requireNonNull(comparator);
+        Ordering ordering = findOrdering(comparator);
+        if (ordering == null) {
+            throw new IllegalArgumentException("No ordering is kept for " + comparator);
+        }
+        if (comparator.hasMutableSortKeys()) {
+            ordering.refreshKeys();
+        }
+        return Collections.unmodifiableNavigableSet(ordering.sortedKeys);
+    }
+
+    /**
+     * The keys of every issue for one comparator, both in sorted order and by issue id.
+     */
+    private static final class Ordering {
+        private final KeyedIssueComparator comparator;
+        private final NavigableSet<IssueSortKey> sortedKeys = new TreeSet<>();
+        private final Map<Long, IssueSortKey> keys = new HashMap<>();
+
+        private Ordering(KeyedIssueComparator comparator) {
+            this.comparator = comparator;
+        }
+
+        private void put(IssueSortKey key) {
+            IssueSortKey replacedKey = keys.put(key.getIssue().getId(), key);
+            if (replacedKey != null) {
+                sortedKeys.remove(replacedKey);
+            }
+            sortedKeys.add(key);
+        }
+
+        private void remove(IssueSortKey key) {
+            keys.remove(key.getIssue().getId());
+            sortedKeys.remove(key);
+        }
+
+        /**
+         * Keys every issue whose key no longer matches it again.
+         */
+        private void refreshKeys() {
+            List<IssueSortKey> staleKeys = new ArrayList<>();
+            for (IssueSortKey key : keys.values()) {
+                if (!comparator.isSortKeyUpToDate(key)) {
+                    staleKeys.add(key);
+                }
+            }
+            staleKeys.forEach(key -> put(comparator.getSortKey(key.getIssue())));
+        }
+    }
+}
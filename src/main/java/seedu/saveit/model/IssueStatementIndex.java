@@ -0,0 +1,246 @@
+package seedu.saveit.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.saveit.commons.util.KeywordMatcher;
+import seedu.saveit.model.issue.IssueStatement;
+import seedu.saveit.model.util.CaseInsensitiveDictionary;
+import seedu.saveit.model.util.RankedPrefixTrie;
+
+/**
+ * An inverted trigram index over the statements of an observable list of issues.
+ * The index listens to the list and is updated as issues are added, edited and removed, so that a keyword
+ * search only looks at the statements sharing the keyword's trigrams instead of scanning every issue.
+ *
+ * Matching is case-insensitive and does not require a full word, as in {@code IssueContainsKeywordsPredicate}.
+ * Statements and keywords are folded with {@code KeywordMatcher#foldCase}, so that both agree on non-ASCII text.
+ */
+public class IssueStatementIndex {
+
+    private static final int GRAM_LENGTH = 3;
+    /** The number of statements each node of {@code rankedStatements} keeps at hand for completion. */
+    private static final int RANKED_COMPLETION_COUNT = 10;
+
+    /** The listened list, kept so that a listened view of the underlying list stays reachable. */
+    private final ObservableList<Issue> issues;
+    private final Map<String, Set<IssueStatement>> postings = new HashMap<>();
+    private final Map<IssueStatement, String> foldedStatements = new HashMap<>();
+    /** Statements too short to contain a trigram, which are matched by scanning. */
+    private final Set<IssueStatement> shortStatements = new HashSet<>();
+    private final CaseInsensitiveDictionary statementDictionary = new CaseInsensitiveDictionary();
+    /** The statements scored by the search frequency of their issues. */
+    private final RankedPrefixTrie rankedStatements = new RankedPrefixTrie(RANKED_COMPLETION_COUNT);
+    private final Map<String, Issue> issuesByStatement = new HashMap<>();
+    private long version;
+
+    /**
+     * Creates an index over {@code issues} which stays up to date with it.
+     * Create the index before any other listener of {@code issues} that evaluates its predicates,
+     * so that the index is updated first.
+     */
+    public IssueStatementIndex(ObservableList<Issue> issues) {
+        requireNonNull(issues);
+        this.issues = issues;
+        issues.forEach(this::add);
+        issues.addListener(this::onIssuesChanged);
+    }
+
+    /**
+     * Updates the index with every part of {@code change} at once. An issue replaced by one with the same statement
+     * keeps its entries, so that editing other fields of many issues does not rebuild their grams.
+     */
+    private void onIssuesChanged(ListChangeListener.Change<? extends Issue> change) {
+        Map<IssueStatement, Issue> removedIssues = new HashMap<>();
+        List<Issue> addedIssues = new ArrayList<>();
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(issue -> removedIssues.put(issue.getStatement(), issue));
+            addedIssues.addAll(change.getAddedSubList());
+        }
+
+        List<Issue> issuesToAdd = new ArrayList<>();
+        for (Issue issue : addedIssues) {
+            if (removedIssues.remove(issue.getStatement()) != null) {
+                issuesByStatement.put(issue.getStatement().getValue(), issue);
+                updateSearchFrequency(issue);
+            } else {
+                issuesToAdd.add(issue);
+            }
+        }
+        removedIssues.values().forEach(this::remove);
+        issuesToAdd.forEach(this::add);
+        version++;
+    }
+
+    private void add(Issue issue) {
+        IssueStatement statement = issue.getStatement();
+        String folded = fold(statement.getValue());
+        foldedStatements.put(statement, folded);
+        statementDictionary.add(statement.getValue());
+        issuesByStatement.put(statement.getValue(), issue);
+        rankedStatements.put(statement.getValue(), issue.getFrequency().getValue());
+        if (folded.length() < GRAM_LENGTH) {
+            shortStatements.add(statement);
+            return;
+        }
+        for (String gram : grams(folded)) {
+            postings.computeIfAbsent(gram, unused -> new HashSet<>()).add(statement);
+        }
+    }
+
+    private void remove(Issue issue) {
+        IssueStatement statement = issue.getStatement();
+        String folded = foldedStatements.remove(statement);
+        if (folded == null) {
+            return;
+        }
+        statementDictionary.remove(statement.getValue());
+        issuesByStatement.remove(statement.getValue());
+        rankedStatements.remove(statement.getValue());
+        if (folded.length() < GRAM_LENGTH) {
+            shortStatements.remove(statement);
+            return;
+        }
+        for (String gram : grams(folded)) {
+            Set<IssueStatement> posting = postings.get(gram);
+            if (posting != null && posting.remove(statement) && posting.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * Returns the statements that contain any of {@code keywords}, ignoring case.
+     */
+    public Set<IssueStatement> findStatementsContainingAny(List<String> keywords) {
+        requireNonNull(keywords);
+        Set<IssueStatement> matches = new HashSet<>();
+        for (String keyword : keywords) {
+            String foldedKeyword = fold(keyword.trim());
+            if (foldedKeyword.isEmpty()) {
+                continue;
+            }
+            if (foldedKeyword.length() < GRAM_LENGTH) {
+                addShortKeywordMatches(foldedKeyword, matches);
+            } else {
+                addKeywordMatches(foldedKeyword, matches);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Adds the statements containing {@code foldedKeyword} to {@code matches}.
+     * Candidates are taken from the smallest posting list among the keyword's trigrams, then verified.
+     */
+    private void addKeywordMatches(String foldedKeyword, Set<IssueStatement> matches) {
+        Set<IssueStatement> candidates = null;
+        for (String gram : grams(foldedKeyword)) {
+            Set<IssueStatement> posting = postings.get(gram);
+            if (posting == null) {
+                return;
+            }
+            if (candidates == null || posting.size() < candidates.size()) {
+                candidates = posting;
+            }
+        }
+        for (IssueStatement candidate : candidates) {
+            if (foldedStatements.get(candidate).contains(foldedKeyword)) {
+                matches.add(candidate);
+            }
+        }
+    }
+
+    /**
+     * Adds the statements containing {@code foldedKeyword}, which is shorter than a trigram, to {@code matches}.
+     * Every statement long enough to contain the keyword is found in the posting of some trigram containing it.
+     */
+    private void addShortKeywordMatches(String foldedKeyword, Set<IssueStatement> matches) {
+        postings.forEach((gram, posting) -> {
+            if (gram.contains(foldedKeyword)) {
+                matches.addAll(posting);
+            }
+        });
+        for (IssueStatement statement : shortStatements) {
+            if (foldedStatements.get(statement).contains(foldedKeyword)) {
+                matches.add(statement);
+            }
+        }
+    }
+
+    /**
+     * Returns a predicate that tests whether an issue's statement contains any of {@code keywords}, ignoring case.
+     * The matching statements are looked up from this index, and looked up again after the index changes.
+     */
+    public Predicate<Issue> containsAnyKeyword(List<String> keywords) {
+        requireNonNull(keywords);
+        List<String> keywordsCopy = new ArrayList<>(keywords);
+        return new Predicate<Issue>() {
+            private Set<IssueStatement> matches;
+            private long matchesVersion;
+
+            @Override
+            public boolean test(Issue issue) {
+                if (matches == null || matchesVersion != version) {
+                    matches = findStatementsContainingAny(keywordsCopy);
+                    matchesVersion = version;
+                }
+                return matches.contains(issue.getStatement());
+            }
+        };
+    }
+
+    /**
+     * Returns a read-only view of the indexed statements, sorted ignoring case.
+     */
+    public NavigableSet<String> getStatements() {
+        return statementDictionary.asSortedSet();
+    }
+
+    /**
+     * Returns up to {@code limit} statements starting with {@code prefix}, ignoring case.
+     * A statement equal to {@code prefix} comes first, then the statements are ranked by the search frequency of
+     * their issues, most searched first, and then sorted ignoring case.
+     * Runs in O(prefix + limit) for up to {@code RANKED_COMPLETION_COUNT} statements, however many there are.
+     */
+    public List<String> completeStatement(String prefix, int limit) {
+        requireNonNull(prefix);
+        return rankedStatements.complete(prefix, limit);
+    }
+
+    /**
+     * Ranks the statement of {@code issue} again, after the search frequency of the issue changed in place.
+     */
+    public void updateSearchFrequency(Issue issue) {
+        requireNonNull(issue);
+        String statement = issue.getStatement().getValue();
+        if (issuesByStatement.get(statement) == issue) {
+            rankedStatements.put(statement, issue.getFrequency().getValue());
+        }
+    }
+
+    private static List<String> grams(String folded) {
+        List<String> grams = new ArrayList<>();
+        for (int i = 0; i + GRAM_LENGTH <= folded.length(); i++) {
+            grams.add(folded.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    private static String fold(String value) {
+        return KeywordMatcher.foldCase(value);
+    }
+}
@@ -0,0 +1,235 @@
+package seedu.saveit.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.saveit.model.issue.Tag;
+import seedu.saveit.model.util.CaseInsensitiveDictionary;
+
+/**
+ * A tag to issue posting index over an observable list of issues.
+ * Every issue is given a small ordinal, and the issues carrying a tag are kept as a bitset of ordinals,
+ * so that finding the issues with several tags is an intersection of bitsets instead of a scan of every issue.
+ * The index listens to the list and is updated as issues are added, edited and removed.
+ *
+ * Tag names are matched exactly, as in {@code IssueHasTagsPredicate}.
+ */
+public class IssueTagIndex {
+
+    /** The listened list, kept so that a listened view of the underlying list stays reachable. */
+    private final ObservableList<Issue> issues;
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    /** The issue given each ordinal in use, or null for a free ordinal. */
+    private final List<Issue> issuesByOrdinal = new ArrayList<>();
+    /** Ordinals released by removed issues, reused first so that the bitsets stay small. */
+    private final BitSet freeOrdinals = new BitSet();
+    private final BitSet usedOrdinals = new BitSet();
+    private final NavigableMap<String, BitSet> postings = new TreeMap<>();
+    private final CaseInsensitiveDictionary tagNameDictionary = new CaseInsensitiveDictionary();
+    private long version;
+
+    /**
+     * Creates an index over {@code issues} which stays up to date with it.
+     * Create the index before any other listener of {@code issues} that evaluates its predicates,
+     * so that the index is updated first.
+     */
+    public IssueTagIndex(ObservableList<Issue> issues) {
+        requireNonNull(issues);
+        this.issues = issues;
+        issues.forEach(this::add);
+        issues.addListener(this::onIssuesChanged);
+    }
+
+    /**
+     * Updates the index with every part of {@code change} at once. An issue replaced by one with the same id keeps
+     * its ordinal, and only the postings of the tags added to or removed from it are updated.
+     */
+    private void onIssuesChanged(ListChangeListener.Change<? extends Issue> change) {
+        Map<Long, Issue> removedIssues = new HashMap<>();
+        List<Issue> addedIssues = new ArrayList<>();
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(issue -> removedIssues.put(issue.getId(), issue));
+            addedIssues.addAll(change.getAddedSubList());
+        }
+
+        List<Issue> issuesToAdd = new ArrayList<>();
+        for (Issue issue : addedIssues) {
+            Issue replacedIssue = removedIssues.remove(issue.getId());
+            if (replacedIssue != null && ordinals.containsKey(issue.getId())) {
+                replace(replacedIssue, issue);
+            } else {
+                issuesToAdd.add(issue);
+            }
+        }
+        removedIssues.values().forEach(this::remove);
+        issuesToAdd.forEach(this::add);
+        version++;
+    }
+
+    private void add(Issue issue) {
+        int ordinal = freeOrdinals.isEmpty() ? usedOrdinals.length() : freeOrdinals.nextSetBit(0);
+        freeOrdinals.clear(ordinal);
+        usedOrdinals.set(ordinal);
+        ordinals.put(issue.getId(), ordinal);
+        if (ordinal == issuesByOrdinal.size()) {
+            issuesByOrdinal.add(issue);
+        } else {
+            issuesByOrdinal.set(ordinal, issue);
+        }
+        for (Tag tag : issue.getTags()) {
+            postings.computeIfAbsent(tag.tagName, unused -> new BitSet()).set(ordinal);
+            tagNameDictionary.add(tag.tagName);
+        }
+    }
+
+    private void replace(Issue replacedIssue, Issue issue) {
+        int ordinal = ordinals.get(issue.getId());
+        issuesByOrdinal.set(ordinal, issue);
+        for (Tag tag : replacedIssue.getTags()) {
+            if (!issue.getTags().contains(tag)) {
+                removePosting(tag, ordinal);
+            }
+        }
+        for (Tag tag : issue.getTags()) {
+            if (!replacedIssue.getTags().contains(tag)) {
+                postings.computeIfAbsent(tag.tagName, unused -> new BitSet()).set(ordinal);
+                tagNameDictionary.add(tag.tagName);
+            }
+        }
+    }
+
+    private void remove(Issue issue) {
+        Integer ordinal = ordinals.remove(issue.getId());
+        if (ordinal == null) {
+            return;
+        }
+        for (Tag tag : issue.getTags()) {
+            removePosting(tag, ordinal);
+        }
+        usedOrdinals.clear(ordinal);
+        freeOrdinals.set(ordinal);
+        issuesByOrdinal.set(ordinal, null);
+    }
+
+    private void removePosting(Tag tag, int ordinal) {
+        BitSet posting = postings.get(tag.tagName);
+        if (posting == null) {
+            return;
+        }
+        posting.clear(ordinal);
+        tagNameDictionary.remove(tag.tagName);
+        if (posting.isEmpty()) {
+            postings.remove(tag.tagName);
+        }
+    }
+
+    /**
+     * Returns the ordinals of the issues that have all of {@code tagNames}.
+     * Every issue is returned if {@code tagNames} is empty.
+     */
+    private BitSet findOrdinalsWithAllTags(List<String> tagNames) {
+        List<BitSet> matchedPostings = new ArrayList<>();
+        for (String tagName : tagNames) {
+            BitSet posting = postings.get(tagName);
+            if (posting == null) {
+                return new BitSet();
+            }
+            matchedPostings.add(posting);
+        }
+        if (matchedPostings.isEmpty()) {
+            return (BitSet) usedOrdinals.clone();
+        }
+
+        matchedPostings.sort((first, second) -> Integer.compare(first.cardinality(), second.cardinality()));
+        BitSet result = (BitSet) matchedPostings.get(0).clone();
+        for (int i = 1; i < matchedPostings.size() && !result.isEmpty(); i++) {
+            result.and(matchedPostings.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the issues that have the tag {@code tagName}, in no particular order.
+     */
+    public List<Issue> findIssuesWithTag(String tagName) {
+        requireNonNull(tagName);
+        BitSet posting = postings.get(tagName);
+        if (posting == null) {
+            return new ArrayList<>();
+        }
+        List<Issue> matches = new ArrayList<>(posting.cardinality());
+        posting.stream().forEach(ordinal -> matches.add(issuesByOrdinal.get(ordinal)));
+        return matches;
+    }
+
+    /**
+     * Returns the number of issues that have all of {@code tagNames}.
+     */
+    public int countIssuesWithAllTags(List<String> tagNames) {
+        requireNonNull(tagNames);
+        return findOrdinalsWithAllTags(tagNames).cardinality();
+    }
+
+    /**
+     * Returns a predicate that tests whether an issue has all of {@code tagNames}.
+     * The matching issues are looked up from this index, and looked up again after the index changes.
+     */
+    public Predicate<Issue> hasAllTags(List<String> tagNames) {
+        requireNonNull(tagNames);
+        List<String> tagNamesCopy = new ArrayList<>(tagNames);
+        return new Predicate<Issue>() {
+            private BitSet matches;
+            private long matchesVersion;
+
+            @Override
+            public boolean test(Issue issue) {
+                if (matches == null || matchesVersion != version) {
+                    matches = findOrdinalsWithAllTags(tagNamesCopy);
+                    matchesVersion = version;
+                }
+                Integer ordinal = ordinals.get(issue.getId());
+                return ordinal != null && matches.get(ordinal);
+            }
+        };
+    }
+
+    /**
+     * Returns a read-only view of the names of the tags used by at least one issue, sorted ignoring case.
+     * Tag names differing only in case are listed once.
+     */
+    public NavigableSet<String> getTagNames() {
+        return tagNameDictionary.asSortedSet();
+    }
+
+    /**
+     * Returns up to {@code limit} tag names starting with {@code prefix}, ignoring case, sorted ignoring case.
+     */
+    public List<String> completeTagName(String prefix, int limit) {
+        requireNonNull(prefix);
+        return tagNameDictionary.complete(prefix, limit);
+    }
+
+    /**
+     * Returns the number of issues using each tag, keyed by tag name in natural order.
+     */
+    public SortedMap<String, Integer> getTagCounts() {
+        SortedMap<String, Integer> tagCounts = new TreeMap<>();
+        postings.forEach((tagName, posting) -> tagCounts.put(tagName, posting.cardinality()));
+        return tagCounts;
+    }
+}
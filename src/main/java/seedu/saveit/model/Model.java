@@ -1,8 +1,10 @@
 package seedu.saveit.model;
 
 import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
 import java.util.Set;
-import java.util.TreeSet;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -103,14 +105,31 @@ public interface Model {
     void addTag(Set<Index> indexSet, Set<Tag> tagList);
 
     /**
-     * Returns a Set of strings representing all the Tag(s) contained in the issues
+     * Returns a read-only Set of strings representing all the Tag(s) contained in the issues, sorted ignoring case
      */
-    TreeSet<String> getCurrentTagSet();
+    NavigableSet<String> getCurrentTagSet();
 
     /**
-     * Returns a Set of strings representing all the IssueStatement(s) contained in the issues
+     * Returns the number of issues using each Tag contained in the issues, keyed by tag name
      */
-    TreeSet<String> getCurrentIssueStatementSet();
+    Map<String, Integer> getCurrentTagCounts();
+
+    /**
+     * Returns a read-only Set of strings representing all the IssueStatement(s) contained in the issues,
+     * sorted ignoring case
+     */
+    NavigableSet<String> getCurrentIssueStatementSet();
+
+    /**
+     * Returns up to {@code limit} Tag names starting with {@code prefix}, ignoring case, sorted ignoring case
+     */
+    List<String> completeTagName(String prefix, int limit);
+
+    /**
+     * Returns up to {@code limit} IssueStatement(s) starting with {@code prefix}, ignoring case,
+     * most searched first
+     */
+    List<String> completeIssueStatement(String prefix, int limit);
 
     /**
      * Returns true if the model has previous saveIt states to restore.
@@ -3,36 +3,56 @@ package seedu.saveit.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.saveit.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
 import java.util.Set;
-import java.util.TreeSet;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
-import javafx.collections.transformation.SortedList;
 import seedu.saveit.commons.core.ComponentManager;
 import seedu.saveit.commons.core.LogsCenter;
 import seedu.saveit.commons.core.directory.Directory;
 import seedu.saveit.commons.core.index.Index;
+import seedu.saveit.commons.events.BaseEvent;
+import seedu.saveit.commons.events.model.IssueAddedEvent;
+import seedu.saveit.commons.events.model.IssueRemovedEvent;
+import seedu.saveit.commons.events.model.IssueUpdatedEvent;
 import seedu.saveit.commons.events.model.SaveItChangedEvent;
+import seedu.saveit.commons.events.model.SaveItResetEvent;
+import seedu.saveit.commons.events.model.TagRenamedEvent;
+import seedu.saveit.model.issue.IssueContainsKeywordsPredicate;
+import seedu.saveit.model.issue.IssueHasTagsPredicate;
 import seedu.saveit.model.issue.Solution;
 import seedu.saveit.model.issue.SortType;
 import seedu.saveit.model.issue.Tag;
 
 /**
  * Represents the in-memory model of the saveIt data.
+ * Every change raises a {@code SaveItChangedEvent} carrying the whole saveIt and the events describing only what
+ * changed, which are then raised too, so that subscribers can do work proportional to the change.
  */
 public class ModelManager extends ComponentManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
     private final VersionedSaveIt versionedSaveIt;
+    private final IssueStatementIndex statementIndex;
+    private final IssueTagIndex tagIndex;
+    private final IssueSortIndex sortIndex;
+    /** The listened issue list, kept so that the listened view of the underlying list stays reachable. */
+    private final ObservableList<Issue> issues;
+    /** Issue level events recorded from the issue list, raised once the change is complete. */
+    private final List<BaseEvent> pendingIssueEvents = new ArrayList<>();
     private FilteredList<Issue> filteredIssues;
-    private SortedList<Issue> filteredAndSortedIssues;
+    private SortedIssueList filteredAndSortedIssues;
 
     /**
      * Initializes a ModelManager with the given saveIt and userPrefs.
@@ -43,9 +63,16 @@ public class ModelManager extends ComponentManager implements Model {
 
         logger.fine("Initializing with SaveIt: " + saveIt + " and user prefs " + userPrefs);
 
-        versionedSaveIt = new VersionedSaveIt(saveIt);
+        versionedSaveIt = new VersionedSaveIt(saveIt, userPrefs.getUndoHistoryLimit(),
+                userPrefs.getUndoHistoryByteBudget());
+        // the indexes must listen to the issue list before the filtered list does
+        statementIndex = new IssueStatementIndex(versionedSaveIt.getIssueList());
+        tagIndex = new IssueTagIndex(versionedSaveIt.getIssueList());
+        sortIndex = new IssueSortIndex(versionedSaveIt.getIssueList());
         filteredIssues = new FilteredList<>(versionedSaveIt.getIssueList());
-        filteredAndSortedIssues = new SortedList<>(filteredIssues);
+        filteredAndSortedIssues = new SortedIssueList(filteredIssues, sortIndex);
+        issues = versionedSaveIt.getIssueList();
+        issues.addListener(this::recordIssueChanges);
     }
 
     public ModelManager() {
@@ -55,7 +82,7 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void resetData(ReadOnlySaveIt newData) {
         versionedSaveIt.resetData(newData);
-        indicateSaveItChanged();
+        indicateSaveItReset();
     }
 
     @Override
@@ -79,9 +106,48 @@ public class ModelManager extends ComponentManager implements Model {
         return versionedSaveIt;
     }
 
-    /** Raises an event to indicate the model has changed */
+    /**
+     * Raises an event to indicate the model has changed.
+     * The event carries an immutable snapshot, so that it can be saved while the model keeps changing.
+     */
     private void indicateSaveItChanged() {
-        raise(new SaveItChangedEvent(versionedSaveIt));
+        List<BaseEvent> issueEvents = Collections.unmodifiableList(new ArrayList<>(pendingIssueEvents));
+        pendingIssueEvents.clear();
+        raise(new SaveItChangedEvent(versionedSaveIt.takeSnapshot(), issueEvents));
+        issueEvents.forEach(this::raise);
+    }
+
+    /**
+     * Raises events to indicate the issues of the model were replaced as a whole.
+     */
+    private void indicateSaveItReset() {
+        pendingIssueEvents.clear();
+        ReadOnlySaveIt snapshot = versionedSaveIt.takeSnapshot();
+        raise(new SaveItChangedEvent(snapshot));
+        raise(new SaveItResetEvent(snapshot));
+    }
+
+    /**
+     * Records an issue level event for each issue added, replaced or removed in {@code change}.
+     */
+    private void recordIssueChanges(ListChangeListener.Change<? extends Issue> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            List<? extends Issue> removed = change.getRemoved();
+            List<? extends Issue> added = change.getAddedSubList();
+            if (removed.size() == added.size()) {
+                for (int i = 0; i < removed.size(); i++) {
+                    pendingIssueEvents.add(new IssueUpdatedEvent(removed.get(i), added.get(i)));
+                }
+                continue;
+            }
+            removed.forEach(issue -> pendingIssueEvents.add(new IssueRemovedEvent(issue)));
+            for (int i = 0; i < added.size(); i++) {
+                pendingIssueEvents.add(new IssueAddedEvent(added.get(i), change.getFrom() + i));
+            }
+        }
     }
 
     @Override
@@ -129,6 +195,9 @@ public class ModelManager extends ComponentManager implements Model {
         // Update the search frequencies after filtering
         for (Issue issue : filteredIssues) {
             issue.updateFrequency();
+            statementIndex.updateSearchFrequency(issue);
+            // raised with the next change, so that the new frequency is saved with it
+            pendingIssueEvents.add(new IssueUpdatedEvent(issue, issue));
         }
     }
 
@@ -150,7 +219,13 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public boolean refactorTag(Tag oldTag, Tag newTag) {
         requireAllNonNull(oldTag, newTag);
-        boolean isEdit = versionedSaveIt.refactorTag(oldTag, newTag);
+        int firstEventIndex = pendingIssueEvents.size();
+        boolean isEdit = versionedSaveIt.refactorTag(tagIndex.findIssuesWithTag(oldTag.tagName),
+                oldTag, newTag);
+        if (isEdit) {
+            pendingIssueEvents.add(firstEventIndex,
+                    new TagRenamedEvent(oldTag, newTag, pendingIssueEvents.size() - firstEventIndex));
+        }
 
         indicateSaveItChanged();
         return isEdit;
@@ -159,7 +234,7 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public boolean refactorTag(Tag tag) {
         requireAllNonNull(tag);
-        boolean isEdit = versionedSaveIt.refactorTag(tag);
+        boolean isEdit = versionedSaveIt.refactorTag(tagIndex.findIssuesWithTag(tag.tagName), tag);
 
         indicateSaveItChanged();
         return isEdit;
@@ -194,7 +269,20 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void updateFilteredIssueList(Predicate<Issue> predicate) {
         requireNonNull(predicate);
-        filteredIssues.setPredicate(predicate);
+        filteredIssues.setPredicate(toIndexedPredicate(predicate));
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that is answered from the search indexes where possible.
+     */
+    private Predicate<Issue> toIndexedPredicate(Predicate<Issue> predicate) {
+        if (predicate instanceof IssueContainsKeywordsPredicate) {
+            return statementIndex.containsAnyKeyword(((IssueContainsKeywordsPredicate) predicate).getKeywords());
+        }
+        if (predicate instanceof IssueHasTagsPredicate) {
+            return tagIndex.hasAllTags(((IssueHasTagsPredicate) predicate).getKeywords());
+        }
+        return predicate;
     }
 
     //=========== Sorted Issue List Accessors =============================================================
@@ -216,19 +304,29 @@ public class ModelManager extends ComponentManager implements Model {
 
     //=========== Tag Set Accessors ======================================================================
     @Override
-    public TreeSet<String> getCurrentTagSet() {
-        TreeSet<String> tagSet = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
-        versionedSaveIt.getIssueList().forEach(issue -> issue.getTags()
-                .forEach(tag -> tagSet.add(tag.tagName)));
-        return tagSet;
+    public NavigableSet<String> getCurrentTagSet() {
+        return tagIndex.getTagNames();
+    }
+
+    @Override
+    public Map<String, Integer> getCurrentTagCounts() {
+        return tagIndex.getTagCounts();
     }
 
     //=========== Tag Set Accessors ======================================================================
     @Override
-    public TreeSet<String> getCurrentIssueStatementSet() {
-        TreeSet<String> statementSet = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
-        versionedSaveIt.getIssueList().forEach(issue -> statementSet.add(issue.getStatement().getValue()));
-        return statementSet;
+    public NavigableSet<String> getCurrentIssueStatementSet() {
+        return statementIndex.getStatements();
+    }
+
+    @Override
+    public List<String> completeTagName(String prefix, int limit) {
+        return tagIndex.completeTagName(prefix, limit);
+    }
+
+    @Override
+    public List<String> completeIssueStatement(String prefix, int limit) {
+        return statementIndex.completeStatement(prefix, limit);
     }
 
 
@@ -246,19 +344,30 @@ public class ModelManager extends ComponentManager implements Model {
 
     @Override
     public void undoSaveIt() {
-        versionedSaveIt.undo();
-        indicateSaveItChanged();
+        indicateSaveItRestored(versionedSaveIt.undo());
     }
 
     @Override
     public void redoSaveIt() {
-        versionedSaveIt.redo();
-        indicateSaveItChanged();
+        indicateSaveItRestored(versionedSaveIt.redo());
+    }
+
+    /**
+     * Raises events for the issues an undo or redo replaced, or for all of them if {@code isIncremental} is false.
+     */
+    private void indicateSaveItRestored(boolean isIncremental) {
+        if (isIncremental) {
+            indicateSaveItChanged();
+        } else {
+            indicateSaveItReset();
+        }
     }
 
     @Override
     public void commitSaveIt() {
         versionedSaveIt.commit();
+        logger.fine("Undo history: " + versionedSaveIt.getHistorySize() + " states, about "
+                + versionedSaveIt.getEstimatedHistoryBytes() / 1024 + " KB");
     }
 
     @Override
@@ -16,6 +16,13 @@ public interface ReadOnlySaveIt {
      */
     ObservableList<Issue> getIssueList();
 
+    /**
+     * Returns the number of issues, without building the issue list if it is not built yet.
+     */
+    default int getIssueCount() {
+        return getIssueList().size();
+    }
+
     Directory getCurrentDirectory();
 
     Comparator<Issue> getCurrentSortType();
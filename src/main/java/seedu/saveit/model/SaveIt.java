@@ -3,11 +3,14 @@ package seedu.saveit.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.saveit.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.Iterator;
+import java.util.Date;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import javafx.collections.ObservableList;
@@ -98,6 +101,40 @@ public class SaveIt implements ReadOnlySaveIt {
         setCurrentSortType(newData.getCurrentSortType());
     }
 
+    /**
+     * Returns an immutable snapshot of the current state.
+     * The snapshot shares its issues with this {@code SaveIt} and is taken in O(1).
+     */
+    SaveItSnapshot takeSnapshot() {
+        return new SaveItSnapshot(issues.asPersistentList(), currentDirectory, currentSortType);
+    }
+
+    /**
+     * Restores the state captured in {@code snapshot}.
+     * The issues of the snapshot are shared rather than copied, but the issue list still rebuilds its indexes
+     * from them and replaces its observable contents as a whole, in O(n).
+     */
+    void restoreSnapshot(SaveItSnapshot snapshot) {
+        requireNonNull(snapshot);
+        issues.setIssues(snapshot.getPersistentIssueList());
+        setCurrentDirectory(snapshot.getCurrentDirectory());
+        setCurrentSortType(snapshot.getCurrentSortType());
+    }
+
+    /**
+     * Restores the state captured in {@code snapshot} by applying {@code changes}, which lead from the current
+     * issues to those of {@code snapshot}, so that only the changed issues are replaced in the issue list.
+     *
+     * @return false if the issues were replaced as a whole instead.
+     */
+    boolean restoreSnapshot(SaveItSnapshot snapshot, List<IssueListChange> changes) {
+        requireAllNonNull(snapshot, changes);
+        boolean isApplied = issues.applyChanges(changes, snapshot.getPersistentIssueList());
+        setCurrentDirectory(snapshot.getCurrentDirectory());
+        setCurrentSortType(snapshot.getCurrentSortType());
+        return isApplied;
+    }
+
     //// issue-level operations
 
     /**
@@ -132,7 +169,8 @@ public class SaveIt implements ReadOnlySaveIt {
         List<Solution> solutionsToUpdate = new ArrayList<>(targetIssue.getSolutions());
         solutionsToUpdate.add(solution);
         Issue updateIssue = new Issue(targetIssue.getStatement(), targetIssue.getDescription(),
-                solutionsToUpdate, targetIssue.getTags(), targetIssue.getFrequency(), targetIssue.getCreatedTime());
+                solutionsToUpdate, targetIssue.getTags(), targetIssue.getFrequency(), targetIssue.getCreatedTime(),
+                targetIssue.getId());
         updateIssue(targetIssue, updateIssue);
     }
 
@@ -150,68 +188,78 @@ public class SaveIt implements ReadOnlySaveIt {
 
     /**
      * Adds tag(s) to the existing data of this {@code SaveIt} with {@code tagList} for a range of {@code issues}.
+     * The edited issues are replaced together, in a single change of the issue list.
      */
     public void addTag(Set<Issue> issues, Set<Tag> tagList) {
-        requireNonNull(tagList);
-        Iterator<Issue> issueIterator = issues.iterator();
-        boolean added = false;
-
-        while (issueIterator.hasNext()) {
-            Issue issueToEdit = issueIterator.next();
-            Set<Tag> currentTags = new LinkedHashSet<>(issueToEdit.getTags());
-            Set<Tag> updateTags = new LinkedHashSet<>();
-            updateTags.addAll(currentTags);
-            updateTags.addAll(tagList);
-
-            if (currentTags.size() != updateTags.size()) {
-                added = true;
-                updateTags(issueToEdit, updateTags);
+        requireAllNonNull(issues, tagList);
+        Map<Issue, Issue> editedIssues = new IdentityHashMap<>();
+        for (Issue issueToEdit : issues) {
+            if (issueToEdit.getTags().containsAll(tagList)) {
+                continue;
             }
+            Set<Tag> tagsToUpdate = new LinkedHashSet<>(issueToEdit.getTags());
+            tagsToUpdate.addAll(tagList);
+            editedIssues.put(issueToEdit, issueToEdit.withTags(tagsToUpdate));
         }
 
-        if (!added) {
+        if (editedIssues.isEmpty()) {
             throw new IssueNotFoundException();
         }
+        this.issues.setIssues(editedIssues);
     }
 
     /**
      * Replace the {@code oldTag} to the {@code newTag} for all issue entries in the {@code SaveIt}
      */
     public boolean refactorTag(Tag oldTag, Tag newTag) {
-        boolean isEdit = false;
-        requireNonNull(oldTag);
-        for (Issue issueToUpdate : issues) {
-            Set<Tag> tagsToUpdate = new LinkedHashSet<>(issueToUpdate.getTags());
-            if (tagsToUpdate.remove(oldTag)) {
-                tagsToUpdate.add(newTag);
-                isEdit = true;
-                updateTags(issueToUpdate, tagsToUpdate);
-            }
+        return refactorTag(issues, oldTag, newTag);
+    }
 
-        }
-        return isEdit;
+    /**
+     * Replace the {@code oldTag} to the {@code newTag} for the issue entries among {@code candidates}
+     * which have {@code oldTag}. {@code candidates} only needs to include the issues with {@code oldTag},
+     * such as those found through a tag index, and the edited issues are replaced in a single change.
+     */
+    public boolean refactorTag(Iterable<Issue> candidates, Tag oldTag, Tag newTag) {
+        requireAllNonNull(candidates, oldTag, newTag);
+        return replaceTag(candidates, oldTag, newTag);
     }
 
     /**
      * remove the {@code oldTag} of {@code SaveIt} for all issue entries.
      */
     public boolean refactorTag(Tag tag) {
-        boolean isEdit = false;
-        requireNonNull(tag);
-        for (Issue issueToUpdate : issues) {
-            Set<Tag> tagsToUpdate = new LinkedHashSet<>(issueToUpdate.getTags());
-            if (tagsToUpdate.remove(tag)) {
-                isEdit = true;
-                updateTags(issueToUpdate, tagsToUpdate);
+        return refactorTag(issues, tag);
+    }
+
+    /**
+     * Removes {@code tag} from the issue entries among {@code candidates} which have it.
+     * {@code candidates} only needs to include the issues with {@code tag}.
+     */
+    public boolean refactorTag(Iterable<Issue> candidates, Tag tag) {
+        requireAllNonNull(candidates, tag);
+        return replaceTag(candidates, tag, null);
+    }
+
+    /**
+     * Replaces {@code oldTag} with {@code newTag}, or removes it if {@code newTag} is null, for every issue among
+     * {@code candidates} which has {@code oldTag}, replacing all the edited issues at once.
+     * The edited issues are all modified at the same time, so that the change can be recorded as a single rename.
+     */
+    private boolean replaceTag(Iterable<Issue> candidates, Tag oldTag, Tag newTag) {
+        Map<Issue, Issue> editedIssues = new IdentityHashMap<>();
+        Timestamp now = new Timestamp(new Date().getTime());
+        for (Issue issueToUpdate : candidates) {
+            if (issueToUpdate.getTags().contains(oldTag)) {
+                editedIssues.put(issueToUpdate, issueToUpdate.withTagReplaced(oldTag, newTag, now));
             }
         }
-        return isEdit;
-    }
 
-    private void updateTags(Issue issueToUpdate, Set<Tag> tagsToUpdate) {
-        Issue updateIssue = new Issue(issueToUpdate.getStatement(), issueToUpdate.getDescription(),
-            issueToUpdate.getSolutions(), tagsToUpdate, issueToUpdate.getFrequency(), issueToUpdate.getCreatedTime());
-        updateIssue(issueToUpdate, updateIssue);
+        if (editedIssues.isEmpty()) {
+            return false;
+        }
+        issues.setIssues(editedIssues);
+        return true;
     }
 
     /**
@@ -0,0 +1,129 @@
+package seedu.saveit.model;
+
+import static seedu.saveit.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Comparator;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.saveit.commons.core.directory.Directory;
+import seedu.saveit.model.issue.Solution;
+import seedu.saveit.model.issue.Tag;
+import seedu.saveit.model.util.PersistentList;
+
+/**
+ * An immutable snapshot of a {@code SaveIt} state.
+ * The issues are held in a {@code PersistentList}, so snapshots taken around a small change
+ * share every unchanged issue instead of each holding a full copy of the list.
+ */
+class SaveItSnapshot implements ReadOnlySaveIt {
+
+    /** Rough heap cost of one tree node of the {@code PersistentList}. */
+    private static final long NODE_BYTES = 48;
+    /** Rough heap cost of an {@code Issue} and its field objects, excluding the characters of its strings. */
+    private static final long ISSUE_BYTES = 320;
+    /** Rough heap cost of a {@code Solution} or {@code Tag}, excluding the characters of its strings. */
+    private static final long PART_BYTES = 96;
+
+    private final PersistentList<Issue> issues;
+    private final Directory currentDirectory;
+    private final Comparator<Issue> currentSortType;
+
+    private ObservableList<Issue> issueListView;
+
+    SaveItSnapshot(PersistentList<Issue> issues, Directory currentDirectory, Comparator<Issue> currentSortType) {
+        requireAllNonNull(issues, currentDirectory);
+        this.issues = issues;
+        this.currentDirectory = currentDirectory;
+        this.currentSortType = currentSortType;
+    }
+
+    PersistentList<Issue> getPersistentIssueList() {
+        return issues;
+    }
+
+    /**
+     * Returns the estimated number of bytes this snapshot retains in addition to {@code previous},
+     * from which it must have been derived.
+     */
+    long estimateBytesRetainedSince(SaveItSnapshot previous) {
+        PersistentList<Issue> base = previous.issues;
+        long[] bytes = {0};
+        issues.forEachChangedSince(base, (issue, index) -> {
+            bytes[0] += NODE_BYTES;
+            if (index >= base.size() || base.get(index) != issue) {
+                bytes[0] += estimateBytes(issue);
+            }
+        });
+        return bytes[0];
+    }
+
+    /**
+     * Returns the estimated heap cost of {@code issue}.
+     * A description and solutions still in storage are estimated from their stored length, without loading them.
+     */
+    private static long estimateBytes(Issue issue) {
+        long chars = issue.getStatement().getValue().length();
+        long bytes = ISSUE_BYTES;
+        int storedBodyLength = issue.getStoredBodyLength();
+        if (storedBodyLength >= 0) {
+            chars += storedBodyLength;
+        } else {
+            chars += issue.getDescription().getValue().length();
+            for (Solution solution : issue.getSolutions()) {
+                chars += solution.getLink().getValue().length() + solution.getRemark().getValue().length();
+                bytes += PART_BYTES;
+            }
+        }
+        for (Tag tag : issue.getTags()) {
+            chars += tag.tagName.length();
+            bytes += PART_BYTES;
+        }
+        return bytes + 2 * chars;
+    }
+
+    @Override
+    public int getIssueCount() {
+        return issues.size();
+    }
+
+    /**
+     * Returns an unmodifiable view of the issues list.
+     * The view is only materialised the first time it is requested.
+     */
+    @Override
+    public ObservableList<Issue> getIssueList() {
+        if (issueListView == null) {
+            issueListView = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(issues.toList()));
+        }
+        return issueListView;
+    }
+
+    @Override
+    public Directory getCurrentDirectory() {
+        return currentDirectory;
+    }
+
+    @Override
+    public Comparator<Issue> getCurrentSortType() {
+        return currentSortType;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SaveItSnapshot // instanceof handles nulls
+                && issues.equals(((SaveItSnapshot) other).issues));
+    }
+
+    @Override
+    public int hashCode() {
+        return issues.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return issues.size() + " issues";
+    }
+}
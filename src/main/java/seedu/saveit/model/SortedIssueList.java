@@ -0,0 +1,331 @@
+package seedu.saveit.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+import seedu.saveit.model.issue.IssueSortKey;
+import seedu.saveit.model.issue.KeyedIssueComparator;
+import seedu.saveit.model.util.PersistentList;
+
+/**
+ * A sorted view of an observable list of issues, kept sorted as the source list changes.
+ * When sorted by a comparator that an {@code IssueSortIndex} keeps an ordering for, the view is read off
+ * that ordering in O(n), and every issue added to or removed from the source afterwards is placed by a binary
+ * search of its precomputed key, in O(log n), instead of the view being sorted again.
+ * Other comparators sort the view as {@code SortedList} does, and without a comparator
+ * the view keeps the order of the source.
+ *
+ * The positions of the issues in the source are remembered as they are looked up, so that mapping an index of the
+ * view to the source does not search the source again. A change of the source only makes the positions from its
+ * first changed index onwards stale, which are looked up again when they are next needed.
+ */
+public class SortedIssueList extends TransformationList<Issue, Issue> {
+
+    /** Changes of fewer issues than this are always applied one by one rather than by rebuilding the view. */
+    private static final int MIN_CHANGED_ISSUES_TO_REBUILD = 16;
+    /** Changes of more issues than this fraction of the view rebuild the view instead. */
+    private static final int REBUILD_FRACTION_DIVISOR = 8;
+
+    private final IssueSortIndex sortIndex;
+    private final Map<Issue, IssueSortKey> keys = new IdentityHashMap<>();
+    private final Map<Issue, Integer> sourcePositions = new IdentityHashMap<>();
+    /** The number of issues at the start of the source whose positions are known to be up to date. */
+    private int upToDateSourcePositionCount;
+    private Comparator<? super Issue> comparator;
+    /** The comparator if {@code sortIndex} keeps an ordering for it, or null otherwise. */
+    private KeyedIssueComparator keyedComparator;
+    private PersistentList<Issue> view;
+
+    /**
+     * Creates a view of {@code source} in its own order.
+     * {@code source} must be {@code sortIndex}'s list or a filtered view of it.
+     */
+    public SortedIssueList(ObservableList<Issue> source, IssueSortIndex sortIndex) {
+        super(source);
+        requireNonNull(sortIndex);
+        this.sortIndex = sortIndex;
+        view = PersistentList.of(source);
+    }
+
+    public Comparator<? super Issue> getComparator() {
+        return comparator;
+    }
+
+    /**
+     * Sorts the view by {@code comparator}, or by the order of the source if it is null.
+     * The view is sorted again even if {@code comparator} is the current one, so that issues whose search frequency
+     * changed in place are moved.
+     */
+    public void setComparator(Comparator<? super Issue> comparator) {
+        this.comparator = comparator;
+        keyedComparator = sortIndex.hasOrdering(comparator) && comparator instanceof KeyedIssueComparator
+                ? (KeyedIssueComparator) comparator : null;
+        rebuild();
+    }
+
+    @Override
+    public Issue get(int index) {
+        return view.get(index);
+    }
+
+    @Override
+    public int size() {
+        return view.size();
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        if (comparator == null) {
+            return index;
+        }
+        return sourcePositionOf(get(index));
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        if (comparator == null) {
+            return index;
+        }
+        return indexInView(getSource().get(index));
+    }
+
+    @Override
+    protected void sourceChanged(ListChangeListener.Change<? extends Issue> change) {
+        forgetSourcePositions(change);
+        change.reset();
+        if (comparator == null) {
+            applyInSourceOrder(change);
+            return;
+        }
+
+        List<Issue> removedIssues = new ArrayList<>();
+        List<Issue> addedIssues = new ArrayList<>();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                continue;
+            }
+            if (change.wasUpdated()) {
+                List<? extends Issue> updatedIssues = change.getList().subList(change.getFrom(), change.getTo());
+                removedIssues.addAll(updatedIssues);
+                addedIssues.addAll(updatedIssues);
+                continue;
+            }
+            removedIssues.addAll(change.getRemoved());
+            addedIssues.addAll(change.getAddedSubList());
+        }
+        if (isRebuildCheaper(removedIssues.size() + addedIssues.size())) {
+            rebuild();
+            return;
+        }
+
+        beginChange();
+        try {
+            for (Issue issue : removedIssues) {
+                int index = indexInView(issue);
+                if (index >= 0) {
+                    view = view.remove(index);
+                    keys.remove(issue);
+                    nextRemove(index, issue);
+                }
+            }
+            for (Issue issue : addedIssues) {
+                int index = insertionIndex(issue);
+                view = view.add(index, issue);
+                nextAdd(index, index + 1);
+            }
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Applies {@code change} to the view part by part, at the same positions as in the source.
+     */
+    private void applyInSourceOrder(ListChangeListener.Change<? extends Issue> change) {
+        int changedIssues = 0;
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                rebuild();
+                return;
+            }
+            changedIssues += change.getRemovedSize() + change.getAddedSize();
+        }
+        if (isRebuildCheaper(changedIssues)) {
+            rebuild();
+            return;
+        }
+
+        change.reset();
+        beginChange();
+        try {
+            while (change.next()) {
+                int from = change.getFrom();
+                for (int i = 0; i < change.getRemovedSize(); i++) {
+                    view = view.remove(from);
+                }
+                if (change.wasRemoved()) {
+                    nextRemove(from, change.getRemoved());
+                }
+                List<? extends Issue> addedIssues = change.getAddedSubList();
+                for (int i = 0; i < addedIssues.size(); i++) {
+                    view = view.add(from + i, addedIssues.get(i));
+                }
+                if (change.wasAdded()) {
+                    nextAdd(from, from + addedIssues.size());
+                }
+            }
+        } finally {
+            endChange();
+        }
+    }
+
+    private boolean isRebuildCheaper(int changedIssues) {
+        return changedIssues >= MIN_CHANGED_ISSUES_TO_REBUILD
+                && changedIssues > Math.max(view.size(), getSource().size()) / REBUILD_FRACTION_DIVISOR;
+    }
+
+    /**
+     * Sorts the view again from the source and reports it as replaced as a whole.
+     */
+    private void rebuild() {
+        List<Issue> oldIssues = view.toList();
+        view = PersistentList.of(computeSortedIssues());
+        beginChange();
+        try {
+            nextReplace(0, view.size(), oldIssues);
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Returns the issues of the source sorted by the comparator.
+     * A keyed comparator reads the issues off the ordering of the index, skipping those the source does not have.
+     */
+    private List<Issue> computeSortedIssues() {
+        keys.clear();
+        ObservableList<? extends Issue> source = getSource();
+        if (keyedComparator != null) {
+            Set<Issue> sourceIssues = null;
+            if (source.size() != sortIndex.size()) {
+                sourceIssues = Collections.newSetFromMap(new IdentityHashMap<>());
+                sourceIssues.addAll(source);
+            }
+            List<Issue> sortedIssues = new ArrayList<>(source.size());
+            for (IssueSortKey key : sortIndex.getSortedKeys(keyedComparator)) {
+                if (sourceIssues == null || sourceIssues.contains(key.getIssue())) {
+                    sortedIssues.add(key.getIssue());
+                    keys.put(key.getIssue(), key);
+                }
+            }
+            if (sortedIssues.size() == source.size()) {
+                return sortedIssues;
+            }
+            // the source is not a view of the indexed list, so sort it by its own keys
+            keys.clear();
+            source.forEach(issue -> keys.put(issue, keyedComparator.getSortKey(issue)));
+        }
+
+        List<Issue> sortedIssues = new ArrayList<>(source);
+        if (keyedComparator != null) {
+            sortedIssues.sort((first, second) -> keys.get(first).compareTo(keys.get(second)));
+        } else if (comparator != null) {
+            sortedIssues.sort(comparator);
+        }
+        return sortedIssues;
+    }
+
+    /**
+     * Returns the position of {@code issue}, which is in the view, in the source, bringing the positions that were
+     * made stale by changes of the source up to date if it is after them.
+     */
+    private int sourcePositionOf(Issue issue) {
+        ObservableList<? extends Issue> source = getSource();
+        Integer position = sourcePositions.get(issue);
+        if (position != null && position < upToDateSourcePositionCount && source.get(position) == issue) {
+            return position;
+        }
+        while (upToDateSourcePositionCount < source.size()) {
+            int sourcePosition = upToDateSourcePositionCount++;
+            Issue sourceIssue = source.get(sourcePosition);
+            sourcePositions.put(sourceIssue, sourcePosition);
+            if (sourceIssue == issue) {
+                return sourcePosition;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Forgets the source positions of the issues removed by {@code change}, and marks the positions from the first
+     * index it changes onwards as stale.
+     */
+    private void forgetSourcePositions(ListChangeListener.Change<? extends Issue> change) {
+        while (change.next()) {
+            upToDateSourcePositionCount = Math.min(upToDateSourcePositionCount, change.getFrom());
+            if (change.wasRemoved()) {
+                change.getRemoved().forEach(sourcePositions::remove);
+            }
+        }
+    }
+
+    /**
+     * Returns the index of {@code issue} in the view, or -1 if it is not in the view.
+     * An issue that a plain comparator no longer places where it is, as its fields changed in place,
+     * is searched for in the whole view.
+     */
+    private int indexInView(Issue issue) {
+        if (keyedComparator != null) {
+            IssueSortKey key = keys.get(issue);
+            if (key == null) {
+                return -1;
+            }
+            int index = view.binarySearch(viewIssue -> keys.get(viewIssue).compareTo(key));
+            return Math.max(index, -1);
+        }
+        if (comparator != null) {
+            int index = -view.binarySearch(viewIssue -> comparator.compare(viewIssue, issue) < 0 ? -1 : 1) - 1;
+            for (; index < view.size() && comparator.compare(view.get(index), issue) == 0; index++) {
+                if (view.get(index) == issue) {
+                    return index;
+                }
+            }
+        }
+        return indexOfIdentical(view, issue);
+    }
+
+    /**
+     * Returns the index at which {@code issue} is to be inserted into the view, after every issue that is
+     * not ordered after it.
+     */
+    private int insertionIndex(Issue issue) {
+        if (keyedComparator == null) {
+            return -view.binarySearch(viewIssue -> comparator.compare(viewIssue, issue) <= 0 ? -1 : 1) - 1;
+        }
+        IssueSortKey key = sortIndex.getSortKey(keyedComparator, issue);
+        keys.put(issue, key);
+        int index = view.binarySearch(viewIssue -> keys.get(viewIssue).compareTo(key));
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private static int indexOfIdentical(Iterable<? extends Issue> issues, Issue issue) {
+        int index = 0;
+        for (Issue other : issues) {
+            if (other == issue) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+}
@@ -3,14 +3,25 @@ package seedu.saveit.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.saveit.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.saveit.commons.core.index.Index;
+import seedu.saveit.model.issue.IssueStatement;
 import seedu.saveit.model.issue.exceptions.DuplicateIssueException;
 import seedu.saveit.model.issue.exceptions.IssueNotFoundException;
+import seedu.saveit.model.util.BatchObservableList;
+import seedu.saveit.model.util.PersistentList;
 
 /**
  * A list of issues that enforces uniqueness between its elements and does not allow nulls.
@@ -19,20 +30,33 @@ import seedu.saveit.model.issue.exceptions.IssueNotFoundException;
  * unique in terms of identity in the UniqueIssueList. However, the removal of an issue uses Issue#equals(Object) so
  * as to ensure that the issue with exactly the same fields will be removed.
  *
+ * A hash index keyed by {@code IssueStatement} is kept in sync with the backing list, so that uniqueness checks
+ * and bulk replacements cost O(1) per issue instead of scanning the whole list. The contents are also mirrored in
+ * a {@code PersistentList}, so that an immutable snapshot of the list can be taken in O(1).
+ * The ids of the issues, which are unique too, are mapped to their positions in the list, so that an issue is
+ * updated or removed without searching the list for it. A removal shifts the issues after it, whose positions are
+ * brought up to date only when one of them is next looked up.
+ * Many issues can be replaced at once, which listeners of the list see as a single change.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Issue#isSameIssue(Issue)
  */
 public class UniqueIssueList implements Iterable<Issue> {
 
-    private final ObservableList<Issue> internalList = FXCollections.observableArrayList();
+    private final BatchObservableList<Issue> internalList = new BatchObservableList<>();
+    private final Map<IssueStatement, Issue> statementIndex = new HashMap<>();
+    private final Map<Long, Integer> positions = new HashMap<>();
+    /** The number of issues at the start of the list whose positions are known to be up to date. */
+    private int upToDatePositionCount;
+    private PersistentList<Issue> persistentIssues = PersistentList.empty();
 
     /**
      * Returns true if the list contains an equivalent issue as the given argument.
      */
     public boolean contains(Issue toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameIssue);
+        return statementIndex.containsKey(toCheck.getStatement());
     }
 
     /**
@@ -41,9 +65,15 @@ public class UniqueIssueList implements Iterable<Issue> {
      */
     public void add(Issue toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        if (contains(toAdd) || positions.containsKey(toAdd.getId())) {
             throw new DuplicateIssueException();
         }
+        if (upToDatePositionCount == internalList.size()) {
+            upToDatePositionCount++;
+        }
+        positions.put(toAdd.getId(), internalList.size());
+        statementIndex.put(toAdd.getStatement(), toAdd);
+        persistentIssues = persistentIssues.add(toAdd);
         internalList.add(toAdd);
     }
 
@@ -59,31 +89,102 @@ public class UniqueIssueList implements Iterable<Issue> {
     public void setIssue(Issue target, Issue editedIssue) {
         requireAllNonNull(target, editedIssue);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Issue storedTarget = statementIndex.get(target.getStatement());
+        if (storedTarget == null) {
             throw new IssueNotFoundException();
         }
 
         if (!target.isSameIssue(editedIssue) && contains(editedIssue)) {
             throw new DuplicateIssueException();
         }
+        if (editedIssue.getId() != storedTarget.getId() && positions.containsKey(editedIssue.getId())) {
+            throw new DuplicateIssueException();
+        }
 
+        int index = positionOf(storedTarget);
+        positions.remove(storedTarget.getId());
+        positions.put(editedIssue.getId(), index);
+        statementIndex.remove(target.getStatement());
+        statementIndex.put(editedIssue.getStatement(), editedIssue);
+        persistentIssues = persistentIssues.set(index, editedIssue);
         internalList.set(index, editedIssue);
     }
 
+    /**
+     * Replaces every target issue, a key of {@code editedIssues}, with the issue it is mapped to, in one change.
+     * Every target must exist in the list.
+     * The issue identities of the edited issues must not be the same as each other, or as another existing issue
+     * in the list which is not replaced.
+     */
+    public void setIssues(Map<Issue, Issue> editedIssues) {
+        requireNonNull(editedIssues);
+        int[] indices = new int[editedIssues.size()];
+        Map<Integer, Issue> editedIssueAtIndex = new HashMap<>(indices.length * 2);
+        List<Issue> storedTargets = new ArrayList<>(indices.length);
+        boolean isIdentityEdited = false;
+        int count = 0;
+        for (Map.Entry<Issue, Issue> entry : editedIssues.entrySet()) {
+            requireAllNonNull(entry.getKey(), entry.getValue());
+            Issue storedTarget = statementIndex.get(entry.getKey().getStatement());
+            if (storedTarget == null) {
+                throw new IssueNotFoundException();
+            }
+            Issue editedIssue = entry.getValue();
+            isIdentityEdited |= !isSameIdentity(storedTarget, editedIssue);
+            storedTargets.add(storedTarget);
+            indices[count] = positionOf(storedTarget);
+            if (editedIssueAtIndex.put(indices[count], editedIssue) != null) {
+                throw new DuplicateIssueException();
+            }
+            count++;
+        }
+        if (isIdentityEdited) {
+            checkEditedIdentities(storedTargets, editedIssues.values());
+            for (Issue storedTarget : storedTargets) {
+                positions.remove(storedTarget.getId());
+                statementIndex.remove(storedTarget.getStatement());
+            }
+        }
+
+        Arrays.sort(indices);
+        List<Issue> replacements = new ArrayList<>(indices.length);
+        for (int index : indices) {
+            Issue editedIssue = editedIssueAtIndex.get(index);
+            if (isIdentityEdited) {
+                positions.put(editedIssue.getId(), index);
+            }
+            statementIndex.put(editedIssue.getStatement(), editedIssue);
+            persistentIssues = persistentIssues.set(index, editedIssue);
+            replacements.add(editedIssue);
+        }
+        internalList.setAll(indices, replacements);
+    }
+
     /**
      * Removes the equivalent issue from the list.
      * The issue must exist in the list.
      */
     public void remove(Issue toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Issue storedIssue = statementIndex.remove(toRemove.getStatement());
+        if (storedIssue == null) {
             throw new IssueNotFoundException();
         }
+        int index = positionOf(storedIssue);
+        positions.remove(storedIssue.getId());
+        upToDatePositionCount = Math.min(upToDatePositionCount, index);
+        persistentIssues = persistentIssues.remove(index);
+        internalList.remove(index);
     }
 
     public void setIssues(UniqueIssueList replacement) {
         requireNonNull(replacement);
+        statementIndex.clear();
+        statementIndex.putAll(replacement.statementIndex);
+        positions.clear();
+        positions.putAll(replacement.positions);
+        upToDatePositionCount = replacement.upToDatePositionCount;
+        persistentIssues = replacement.persistentIssues;
         internalList.setAll(replacement.internalList);
     }
 
@@ -93,13 +194,170 @@ public class UniqueIssueList implements Iterable<Issue> {
      */
     public void setIssues(List<Issue> issues) {
         requireAllNonNull(issues);
-        if (!issuesAreUnique(issues)) {
+        Map<IssueStatement, Issue> replacementIndex = buildStatementIndex(issues);
+        Map<Long, Integer> replacementPositions = buildPositions(issues);
+        if (replacementIndex == null || replacementPositions == null) {
+            throw new DuplicateIssueException();
+        }
+
+        statementIndex.clear();
+        statementIndex.putAll(replacementIndex);
+        positions.clear();
+        positions.putAll(replacementPositions);
+        upToDatePositionCount = issues.size();
+        persistentIssues = PersistentList.of(issues);
+        internalList.setAll(issues);
+    }
+
+    /**
+     * Replaces the contents of this list with the issues in {@code replacement}, sharing it as the new snapshot.
+     * {@code replacement} must not contain duplicate issues.
+     * Only the snapshot is shared: the statement index and the positions are rebuilt, and {@code replacement}
+     * is checked for duplicates while they are, so this runs in O(n).
+     */
+    public void setIssues(PersistentList<Issue> replacement) {
+        requireNonNull(replacement);
+        List<Issue> issues = replacement.toList();
+        Map<IssueStatement, Issue> replacementIndex = buildStatementIndex(issues);
+        Map<Long, Integer> replacementPositions = buildPositions(issues);
+        if (replacementIndex == null || replacementPositions == null) {
             throw new DuplicateIssueException();
         }
 
+        statementIndex.clear();
+        statementIndex.putAll(replacementIndex);
+        positions.clear();
+        positions.putAll(replacementPositions);
+        upToDatePositionCount = issues.size();
+        persistentIssues = replacement;
         internalList.setAll(issues);
     }
 
+    /**
+     * Applies {@code changes} in order, so that listeners of the list are only told about the issues they change.
+     * {@code result} must hold the issues the list is left with, and is shared as the new snapshot.
+     * The changes are replayed on the snapshot before any is applied, in O(m log n) for m changed issues.
+     * If an issue they remove is not the one at its position, or they do not leave the list with as many issues
+     * as {@code result}, the contents are replaced with {@code result} instead, and listeners are only told that.
+     *
+     * @return false if the contents were replaced as a whole.
+     */
+    boolean applyChanges(List<IssueListChange> changes, PersistentList<Issue> result) {
+        requireAllNonNull(changes, result);
+        if (!isApplicable(changes, result)) {
+            setIssues(result);
+            return false;
+        }
+
+        for (IssueListChange change : changes) {
+            if (change.isReplacement()) {
+                applyReplacement(change);
+            } else {
+                applyParts(change);
+            }
+        }
+        persistentIssues = result;
+        return true;
+    }
+
+    /**
+     * Returns true if {@code changes} remove the issues at their positions, one change after another,
+     * and leave the list with as many issues as {@code result}.
+     */
+    private boolean isApplicable(List<IssueListChange> changes, PersistentList<Issue> result) {
+        PersistentList<Issue> issues = persistentIssues;
+        for (IssueListChange change : changes) {
+            for (IssueListChange.Part part : change.getParts()) {
+                if (part.from + part.removed.size() > issues.size()) {
+                    return false;
+                }
+                for (Issue removedIssue : part.removed) {
+                    if (issues.get(part.from) != removedIssue) {
+                        return false;
+                    }
+                    issues = issues.remove(part.from);
+                }
+                for (int i = 0; i < part.added.size(); i++) {
+                    issues = issues.add(part.from + i, part.added.get(i));
+                }
+            }
+        }
+        return issues.size() == result.size();
+    }
+
+    /**
+     * Applies {@code change}, which moves no issue, as a single replacement of every changed position.
+     */
+    private void applyReplacement(IssueListChange change) {
+        List<IssueListChange.Part> parts = new ArrayList<>(change.getParts());
+        parts.sort(Comparator.comparingInt(part -> part.from));
+        int size = parts.stream().mapToInt(part -> part.added.size()).sum();
+        int[] indices = new int[size];
+        List<Issue> replacements = new ArrayList<>(size);
+        for (IssueListChange.Part part : parts) {
+            for (int i = 0; i < part.removed.size(); i++) {
+                if (!isSameIdentity(part.removed.get(i), part.added.get(i))) {
+                    forget(part.removed.get(i));
+                }
+            }
+        }
+        for (IssueListChange.Part part : parts) {
+            for (int i = 0; i < part.added.size(); i++) {
+                Issue addedIssue = part.added.get(i);
+                indices[replacements.size()] = part.from + i;
+                if (!isSameIdentity(part.removed.get(i), addedIssue)) {
+                    positions.put(addedIssue.getId(), part.from + i);
+                }
+                statementIndex.put(addedIssue.getStatement(), addedIssue);
+                replacements.add(addedIssue);
+            }
+        }
+        internalList.setAll(indices, replacements);
+    }
+
+    /**
+     * Applies the parts of {@code change} one after another, as removals and insertions of issues.
+     * The identities of all removed issues are released before any added issue takes one.
+     */
+    private void applyParts(IssueListChange change) {
+        change.getParts().forEach(part -> part.removed.forEach(this::forget));
+        for (IssueListChange.Part part : change.getParts()) {
+            if (!part.removed.isEmpty()) {
+                internalList.remove(part.from, part.from + part.removed.size());
+            }
+            if (part.removed.size() != part.added.size()) {
+                upToDatePositionCount = Math.min(upToDatePositionCount, part.from);
+            }
+            for (int i = 0; i < part.added.size(); i++) {
+                Issue addedIssue = part.added.get(i);
+                positions.put(addedIssue.getId(), part.from + i);
+                statementIndex.put(addedIssue.getStatement(), addedIssue);
+            }
+            if (!part.added.isEmpty()) {
+                internalList.addAll(part.from, part.added);
+            }
+        }
+    }
+
+    private static boolean isSameIdentity(Issue issue, Issue otherIssue) {
+        return issue.isSameIssue(otherIssue) && issue.getId() == otherIssue.getId();
+    }
+
+    /**
+     * Releases the identity and id of {@code issue}, which is being removed from the list.
+     */
+    private void forget(Issue issue) {
+        statementIndex.remove(issue.getStatement());
+        positions.remove(issue.getId());
+    }
+
+    /**
+     * Returns an immutable snapshot of the current contents. Runs in O(1).
+     */
+    public PersistentList<Issue> asPersistentList() {
+        return persistentIssues;
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -125,17 +383,71 @@ public class UniqueIssueList implements Iterable<Issue> {
     }
 
     /**
-     * Returns true if {@code issues} contains only unique issues.
+     * Returns the statement index of {@code issues} built in a single pass,
+     * or null if {@code issues} contains duplicate issues.
      */
-    private boolean issuesAreUnique(List<Issue> issues) {
-        for (int i = 0; i < issues.size() - 1; i++) {
-            for (int j = i + 1; j < issues.size(); j++) {
-                if (issues.get(i).isSameIssue(issues.get(j))) {
-                    return false;
-                }
+    private Map<IssueStatement, Issue> buildStatementIndex(List<Issue> issues) {
+        Map<IssueStatement, Issue> index = new HashMap<>(issues.size() * 2);
+        for (Issue issue : issues) {
+            if (index.put(issue.getStatement(), issue) != null) {
+                return null;
             }
         }
-        return true;
+        return index;
+    }
+
+    /**
+     * Returns the positions of {@code issues} keyed by their ids, or null if two of them have the same id.
+     */
+    private Map<Long, Integer> buildPositions(List<Issue> issues) {
+        Map<Long, Integer> issuePositions = new HashMap<>(issues.size() * 2);
+        for (int i = 0; i < issues.size(); i++) {
+            if (issuePositions.put(issues.get(i).getId(), i) != null) {
+                return null;
+            }
+        }
+        return issuePositions;
+    }
+
+    /**
+     * Throws {@code DuplicateIssueException} if two of {@code editedIssues} have the same identity or id, or if one
+     * of them has the identity or id of an issue in the list which is not among {@code storedTargets}.
+     */
+    private void checkEditedIdentities(List<Issue> storedTargets, Collection<Issue> editedIssues) {
+        Set<IssueStatement> replacedStatements = new HashSet<>();
+        Set<Long> replacedIds = new HashSet<>();
+        for (Issue storedTarget : storedTargets) {
+            replacedStatements.add(storedTarget.getStatement());
+            replacedIds.add(storedTarget.getId());
+        }
+
+        Set<IssueStatement> editedStatements = new HashSet<>();
+        Set<Long> editedIds = new HashSet<>();
+        for (Issue editedIssue : editedIssues) {
+            IssueStatement statement = editedIssue.getStatement();
+            long id = editedIssue.getId();
+            if (!editedStatements.add(statement) || !editedIds.add(id)
+                    || (contains(editedIssue) && !replacedStatements.contains(statement))
+                    || (positions.containsKey(id) && !replacedIds.contains(id))) {
+                throw new DuplicateIssueException();
+            }
+        }
+    }
+
+    /**
+     * Returns the position of {@code issue}, which is in the list, bringing the positions that were shifted by
+     * earlier removals up to date if it is one of them.
+     */
+    private int positionOf(Issue issue) {
+        int position = positions.get(issue.getId());
+        if (position < internalList.size() && internalList.get(position) == issue) {
+            return position;
+        }
+        for (int i = upToDatePositionCount; i < internalList.size(); i++) {
+            positions.put(internalList.get(i).getId(), i);
+        }
+        upToDatePositionCount = internalList.size();
+        return positions.get(issue.getId());
     }
 
     /**
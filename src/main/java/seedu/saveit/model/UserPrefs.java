@@ -5,6 +5,7 @@ import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.saveit.commons.core.GuiSettings;
+import seedu.saveit.commons.core.StorageFormat;
 
 /**
  * Represents User's preferences.
@@ -13,6 +14,10 @@ public class UserPrefs {
 
     private GuiSettings guiSettings;
     private Path saveItFilePath = Paths.get("data" , "saveit.xml");
+    private StorageFormat saveItStorageFormat = StorageFormat.XML;
+    private int undoHistoryLimit = 100;
+    private long undoHistoryByteBudget = 64L * 1024 * 1024;
+    private long saveDebounceMillis = 200;
 
     public UserPrefs() {
         setGuiSettings(500, 500, 0, 0);
@@ -38,6 +43,51 @@ public class UserPrefs {
         this.saveItFilePath = saveItFilePath;
     }
 
+    /**
+     * Returns the format the data file at {@code saveItFilePath} is stored in.
+     */
+    public StorageFormat getSaveItStorageFormat() {
+        return saveItStorageFormat;
+    }
+
+    public void setSaveItStorageFormat(StorageFormat saveItStorageFormat) {
+        this.saveItStorageFormat = saveItStorageFormat;
+    }
+
+    /**
+     * Returns the maximum number of commands that can be undone.
+     */
+    public int getUndoHistoryLimit() {
+        return undoHistoryLimit;
+    }
+
+    public void setUndoHistoryLimit(int undoHistoryLimit) {
+        this.undoHistoryLimit = undoHistoryLimit;
+    }
+
+    /**
+     * Returns the estimated number of bytes the undo history may retain before the oldest states are dropped.
+     */
+    public long getUndoHistoryByteBudget() {
+        return undoHistoryByteBudget;
+    }
+
+    public void setUndoHistoryByteBudget(long undoHistoryByteBudget) {
+        this.undoHistoryByteBudget = undoHistoryByteBudget;
+    }
+
+    /**
+     * Returns how long, in milliseconds, changes are collected before they are written to the data file together.
+     * Changes are written as they happen if this is not positive.
+     */
+    public long getSaveDebounceMillis() {
+        return saveDebounceMillis;
+    }
+
+    public void setSaveDebounceMillis(long saveDebounceMillis) {
+        this.saveDebounceMillis = saveDebounceMillis;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -50,12 +100,17 @@ public class UserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return Objects.equals(guiSettings, o.guiSettings)
-                && Objects.equals(saveItFilePath, o.saveItFilePath);
+                && Objects.equals(saveItFilePath, o.saveItFilePath)
+                && saveItStorageFormat == o.saveItStorageFormat
+                && undoHistoryLimit == o.undoHistoryLimit
+                && undoHistoryByteBudget == o.undoHistoryByteBudget
+                && saveDebounceMillis == o.saveDebounceMillis;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, saveItFilePath);
+        return Objects.hash(guiSettings, saveItFilePath, saveItStorageFormat, undoHistoryLimit,
+                undoHistoryByteBudget, saveDebounceMillis);
     }
 
     @Override
@@ -63,6 +118,10 @@ public class UserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings.toString());
         sb.append("\nLocal data file location : " + saveItFilePath);
+        sb.append("\nLocal data file format : " + saveItStorageFormat);
+        sb.append("\nUndo history limit : " + undoHistoryLimit);
+        sb.append("\nUndo history byte budget : " + undoHistoryByteBudget);
+        sb.append("\nSave debounce (ms) : " + saveDebounceMillis);
         return sb.toString();
     }
 
@@ -1,58 +1,182 @@
 package seedu.saveit.model;
 
+import static seedu.saveit.commons.util.AppUtil.checkArgument;
+
 import java.util.ArrayList;
 import java.util.List;
 
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
 /**
  * {@code SaveIt} that keeps track of its own history.
+ * Each state is kept as a {@code SaveItSnapshot}, which shares unchanged issues with the other states.
+ * The history is bounded by a maximum number of undoable states and by an estimated byte budget;
+ * the oldest states are dropped first once either bound is exceeded.
+ * The changes of the issue list leading to each state are recorded too, so that undo and redo replace only the
+ * issues that differ between the states, falling back to replacing every issue when the changes are not known.
  */
 public class VersionedSaveIt extends SaveIt {
 
-    private final List<ReadOnlySaveIt> saveItStateList;
+    public static final int DEFAULT_UNDO_LIMIT = Integer.MAX_VALUE;
+    public static final long DEFAULT_BYTE_BUDGET = Long.MAX_VALUE;
+
+    private final List<SaveItSnapshot> saveItStateList;
+    /** Estimated bytes retained by each state on top of the state before it. */
+    private final List<Long> stateSizeList;
+    /** The changes of the issue list leading to each state from the state before it, or null if not known. */
+    private final List<List<IssueListChange>> stateChangesList;
+    /** The listened issue list, kept so that the listened view of the underlying list stays reachable. */
+    private final ObservableList<Issue> issues;
+    /** The changes of the issue list since the current state, or null if not known. */
+    private List<IssueListChange> uncommittedChanges;
+    private final int undoLimit;
+    private final long byteBudget;
+    private long historyBytes;
     private int currentStatePointer;
 
     public VersionedSaveIt(ReadOnlySaveIt initialState) {
+        this(initialState, DEFAULT_UNDO_LIMIT, DEFAULT_BYTE_BUDGET);
+    }
+
+    /**
+     * Creates a {@code VersionedSaveIt} that keeps at most {@code undoLimit} undoable states,
+     * and drops the oldest states once the history is estimated to retain more than {@code byteBudget} bytes.
+     */
+    public VersionedSaveIt(ReadOnlySaveIt initialState, int undoLimit, long byteBudget) {
         super(initialState);
+        checkArgument(undoLimit >= 0, "Undo limit cannot be negative");
+        checkArgument(byteBudget >= 0, "Undo history byte budget cannot be negative");
 
+        this.undoLimit = undoLimit;
+        this.byteBudget = byteBudget;
         saveItStateList = new ArrayList<>();
-        saveItStateList.add(new SaveIt(initialState));
+        stateSizeList = new ArrayList<>();
+        stateChangesList = new ArrayList<>();
+        saveItStateList.add(takeSnapshot());
+        stateSizeList.add(0L);
+        stateChangesList.add(new ArrayList<>());
+        historyBytes = 0;
         currentStatePointer = 0;
+        uncommittedChanges = new ArrayList<>();
+        issues = getIssueList();
+        issues.addListener(this::recordIssueListChange);
+    }
+
+    private void recordIssueListChange(ListChangeListener.Change<? extends Issue> change) {
+        if (uncommittedChanges == null) {
+            return;
+        }
+        IssueListChange recordedChange = IssueListChange.of(change);
+        if (recordedChange == null) {
+            uncommittedChanges = null;
+        } else {
+            uncommittedChanges.add(recordedChange);
+        }
     }
 
     /**
-     * Saves a copy of the current {@code SaveIt} state at the end of the state list.
-     * Undone states are removed from the state list.
+     * Saves a snapshot of the current {@code SaveIt} state at the end of the state list.
+     * Undone states are removed from the state list, and the oldest states are removed
+     * if the history exceeds its limits.
      */
     public void commit() {
         removeStatesAfterCurrentPointer();
-        saveItStateList.add(new SaveIt(this));
+        SaveItSnapshot snapshot = takeSnapshot();
+        long snapshotBytes = snapshot.estimateBytesRetainedSince(saveItStateList.get(currentStatePointer));
+        saveItStateList.add(snapshot);
+        stateSizeList.add(snapshotBytes);
+        stateChangesList.add(uncommittedChanges);
+        uncommittedChanges = new ArrayList<>();
+        historyBytes += snapshotBytes;
         currentStatePointer++;
+        removeStatesBeyondLimits();
     }
 
     private void removeStatesAfterCurrentPointer() {
+        List<Long> removedSizes = stateSizeList.subList(currentStatePointer + 1, stateSizeList.size());
+        removedSizes.forEach(size -> historyBytes -= size);
+        removedSizes.clear();
         saveItStateList.subList(currentStatePointer + 1, saveItStateList.size()).clear();
+        stateChangesList.subList(currentStatePointer + 1, stateChangesList.size()).clear();
+    }
+
+    /**
+     * Drops the oldest states until the history is within its limits. The current state is never dropped.
+     */
+    private void removeStatesBeyondLimits() {
+        while (currentStatePointer > 0
+                && (currentStatePointer > undoLimit || historyBytes > byteBudget)) {
+            saveItStateList.remove(0);
+            stateSizeList.remove(0);
+            stateChangesList.remove(0);
+            // the new oldest state becomes the base of the history and no longer counts towards it
+            historyBytes -= stateSizeList.set(0, 0L);
+            currentStatePointer--;
+        }
+    }
+
+    /**
+     * Returns the number of states currently kept in the history, including the current state.
+     */
+    public int getHistorySize() {
+        return saveItStateList.size();
+    }
+
+    /**
+     * Returns the estimated number of bytes retained by the history, counted as the changes between consecutive
+     * states starting from the oldest one.
+     */
+    public long getEstimatedHistoryBytes() {
+        return historyBytes;
     }
 
     /**
      * Restores the saveIt to its previous state.
+     *
+     * @return true if only the changed issues were replaced in the issue list, or false if the issues were
+     *     replaced as a whole.
      */
-    public void undo() {
+    public boolean undo() {
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
+        List<IssueListChange> changes = stateChangesList.get(currentStatePointer);
         currentStatePointer--;
-        resetData(saveItStateList.get(currentStatePointer));
+        return restoreState(changes == null ? null : IssueListChange.inverseOf(changes));
     }
 
     /**
      * Restores the saveIt to its previously undone state.
+     *
+     * @return true if only the changed issues were replaced in the issue list, or false if the issues were
+     *     replaced as a whole.
      */
-    public void redo() {
+    public boolean redo() {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
         currentStatePointer++;
-        resetData(saveItStateList.get(currentStatePointer));
+        return restoreState(stateChangesList.get(currentStatePointer));
+    }
+
+    /**
+     * Restores the current state, applying {@code changes} after undoing the uncommitted changes if both are known.
+     *
+     * @return false if the issues were replaced as a whole.
+     */
+    private boolean restoreState(List<IssueListChange> changes) {
+        SaveItSnapshot state = saveItStateList.get(currentStatePointer);
+        boolean isApplied = false;
+        if (changes == null || uncommittedChanges == null) {
+            restoreSnapshot(state);
+        } else {
+            List<IssueListChange> changesToApply = IssueListChange.inverseOf(uncommittedChanges);
+            changesToApply.addAll(changes);
+            isApplied = restoreSnapshot(state, changesToApply);
+        }
+        uncommittedChanges = new ArrayList<>();
+        return isApplied;
     }
 
     /**
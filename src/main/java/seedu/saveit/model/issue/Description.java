@@ -2,6 +2,8 @@ package seedu.saveit.model.issue;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.regex.Pattern;
+
 import seedu.saveit.commons.util.AppUtil;
 
 /**
@@ -14,6 +16,7 @@ public class Description {
     public static final String MESSAGE_DESCRIPTION_CONSTRAINTS =
         "Issue description can take any values, but it should not be blank.";
     public static final String DESCRIPTION_VALIDATION_REGEX = "[^\\s].*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(DESCRIPTION_VALIDATION_REGEX);
     private final String value;
 
     /**
@@ -38,7 +41,7 @@ public class Description {
      * Returns true if a given string is a valid descriptions number.
      */
     public static boolean isValidDescription(String test) {
-        return test.matches(DESCRIPTION_VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -0,0 +1,31 @@
+package seedu.saveit.model.issue;
+
+import static seedu.saveit.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Represents the description and solutions of an Issue, which storage may load only when they are first needed.
+ * Guarantees: details are present and not null, immutable.
+ */
+public class IssueBody {
+
+    private final Description description;
+    private final List<Solution> solutions;
+
+    public IssueBody(Description description, List<Solution> solutions) {
+        requireAllNonNull(description, solutions);
+        this.description = description;
+        this.solutions = Collections.unmodifiableList(new ArrayList<>(solutions));
+    }
+
+    public Description getDescription() {
+        return description;
+    }
+
+    public List<Solution> getSolutions() {
+        return solutions;
+    }
+}
@@ -0,0 +1,24 @@
+package seedu.saveit.model.issue;
+
+import seedu.saveit.model.issue.exceptions.IssueBodyUnavailableException;
+
+/**
+ * Loads the body of an Issue that was left in storage when the issue was loaded.
+ */
+@FunctionalInterface
+public interface IssueBodyLoader {
+
+    /**
+     * Returns the body of the issue.
+     *
+     * @throws IssueBodyUnavailableException if the body cannot be read from storage.
+     */
+    IssueBody load();
+
+    /**
+     * Returns the number of bytes the body takes in storage, or 0 if it is not known.
+     */
+    default int getStoredLength() {
+        return 0;
+    }
+}
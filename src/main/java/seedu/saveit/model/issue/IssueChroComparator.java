@@ -1,13 +1,11 @@
 package seedu.saveit.model.issue;
 
-import java.util.Comparator;
-
 import seedu.saveit.model.Issue;
 
 /**
  * Comparator used to sort the Issues in chronological order
  */
-public class IssueChroComparator implements Comparator<Issue> {
+public class IssueChroComparator implements KeyedIssueComparator {
     /**
      * Compare Issue a and b with their lastModifiedTime.
      * If lastModifiedTime are the same, sort by created time.
@@ -21,6 +19,11 @@ public class IssueChroComparator implements Comparator<Issue> {
         }
     }
 
+    @Override
+    public IssueSortKey getSortKey(Issue issue) {
+        return IssueSortKey.byLastModifiedTime(issue);
+    }
+
     @Override
     public String toString() {
         return "Chronological";
@@ -1,9 +1,10 @@
 package seedu.saveit.model.issue;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Predicate;
 
-import seedu.saveit.commons.util.StringUtil;
+import seedu.saveit.commons.util.KeywordMatcher;
 import seedu.saveit.model.Issue;
 
 /**
@@ -11,15 +12,29 @@ import seedu.saveit.model.Issue;
  */
 public class IssueContainsKeywordsPredicate implements Predicate<Issue> {
     private final List<String> keywords;
+    private List<KeywordMatcher> matchers;
 
     public IssueContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Issue issue) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.partialMatch(issue.getStatement().getValue(), keyword));
+        if (matchers == null) {
+            matchers = new ArrayList<>();
+            keywords.forEach(keyword -> matchers.add(KeywordMatcher.partial(keyword)));
+        }
+        String statement = issue.getStatement().getValue();
+        for (KeywordMatcher matcher : matchers) {
+            if (matcher.matches(statement)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
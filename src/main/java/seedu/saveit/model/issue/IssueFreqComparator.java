@@ -1,13 +1,11 @@
 package seedu.saveit.model.issue;
 
-import java.util.Comparator;
-
 import seedu.saveit.model.Issue;
 
 /**
  * Comparator used to sort the Issues in search frequency order
  */
-public class IssueFreqComparator implements Comparator<Issue> {
+public class IssueFreqComparator implements KeyedIssueComparator {
     /**
      * Compare Issue a and b with their searchFrequency.
      * If searchFrequency are the same, sort by created time.
@@ -21,6 +19,27 @@ public class IssueFreqComparator implements Comparator<Issue> {
         }
     }
 
+    @Override
+    public IssueSortKey getSortKey(Issue issue) {
+        return IssueSortKey.byFrequency(issue);
+    }
+
+    /**
+     * Returns true, as the search frequency of an issue is updated in place.
+     */
+    @Override
+    public boolean hasMutableSortKeys() {
+        return true;
+    }
+
+    /**
+     * Returns true if the search frequency of the issue of {@code key} has not changed since it was keyed.
+     */
+    @Override
+    public boolean isSortKeyUpToDate(IssueSortKey key) {
+        return key.getPrimary() == -(long) key.getIssue().getFrequency().getValue();
+    }
+
     @Override
     public String toString() {
         return "Search Frequency";
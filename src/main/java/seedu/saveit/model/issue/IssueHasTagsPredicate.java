@@ -1,6 +1,8 @@
 package seedu.saveit.model.issue;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.saveit.model.Issue;
@@ -10,14 +12,23 @@ import seedu.saveit.model.Issue;
  */
 public class IssueHasTagsPredicate implements Predicate<Issue> {
     private final List<String> keywords;
+    private Set<Tag> tags;
 
     public IssueHasTagsPredicate(List<String> keywords) {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Issue issue) {
-        return keywords.stream().allMatch(keyword -> issue.getTags().contains(new Tag(keyword)));
+        if (tags == null) {
+            tags = new HashSet<>();
+            keywords.forEach(keyword -> tags.add(new Tag(keyword)));
+        }
+        return issue.getTags().containsAll(tags);
     }
 
     @Override
@@ -0,0 +1,102 @@
+package seedu.saveit.model.issue;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Iterator;
+import java.util.Set;
+
+import seedu.saveit.model.Issue;
+
+/**
+ * A precomputed key of an issue, which orders issues as one of the issue comparators does
+ * by comparing a few primitive fields, instead of the fields of the issues themselves.
+ * Issues that the comparator considers equal are ordered by id, so that the keys of different issues never tie.
+ */
+public final class IssueSortKey implements Comparable<IssueSortKey> {
+
+    /** Joins the tag names of a tags key; it sorts before every printable character. */
+    private static final char TAG_NAME_SEPARATOR = '\u0000';
+
+    private final Issue issue;
+    private final long primary;
+    private final String tagNames;
+    private final long createdTime;
+
+    private IssueSortKey(Issue issue, long primary, String tagNames) {
+        requireNonNull(issue);
+        this.issue = issue;
+        this.primary = primary;
+        this.tagNames = tagNames;
+        this.createdTime = issue.getCreatedTime().getTime();
+    }
+
+    /**
+     * Returns the key ordering {@code issue} by descending search frequency, then by created time.
+     */
+    public static IssueSortKey byFrequency(Issue issue) {
+        return new IssueSortKey(issue, -(long) issue.getFrequency().getValue(), "");
+    }
+
+    /**
+     * Returns the key ordering {@code issue} by descending last modified time, then by created time.
+     */
+    public static IssueSortKey byLastModifiedTime(Issue issue) {
+        return new IssueSortKey(issue, -issue.getLastModifiedTime().getTime(), "");
+    }
+
+    /**
+     * Returns the key ordering {@code issue} by its tag names compared one by one, then by the number of tags,
+     * then by created time. Issues without tags are ordered last.
+     */
+    public static IssueSortKey byTags(Issue issue) {
+        Set<Tag> tags = issue.getTags();
+        StringBuilder tagNames = new StringBuilder();
+        Iterator<Tag> tagIterator = tags.iterator();
+        while (tagIterator.hasNext()) {
+            tagNames.append(tagIterator.next().tagName);
+            if (tagIterator.hasNext()) {
+                tagNames.append(TAG_NAME_SEPARATOR);
+            }
+        }
+        return new IssueSortKey(issue, tags.isEmpty() ? 1 : 0, tagNames.toString());
+    }
+
+    public Issue getIssue() {
+        return issue;
+    }
+
+    long getPrimary() {
+        return primary;
+    }
+
+    @Override
+    public int compareTo(IssueSortKey other) {
+        int primaryDiff = Long.compare(primary, other.primary);
+        if (primaryDiff != 0) {
+            return primaryDiff;
+        }
+        int tagNamesDiff = tagNames.compareTo(other.tagNames);
+        if (tagNamesDiff != 0) {
+            return tagNamesDiff;
+        }
+        int createdTimeDiff = Long.compare(createdTime, other.createdTime);
+        if (createdTimeDiff != 0) {
+            return createdTimeDiff;
+        }
+        return Long.compare(issue.getId(), other.issue.getId());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof IssueSortKey // instanceof handles nulls
+                && issue == ((IssueSortKey) other).issue
+                && primary == ((IssueSortKey) other).primary
+                && tagNames.equals(((IssueSortKey) other).tagNames));
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(issue.getId()) * 31 + Long.hashCode(primary);
+    }
+}
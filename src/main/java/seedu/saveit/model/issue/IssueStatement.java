@@ -2,6 +2,8 @@ package seedu.saveit.model.issue;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.regex.Pattern;
+
 import seedu.saveit.commons.util.AppUtil;
 
 /**
@@ -21,6 +23,7 @@ public class IssueStatement {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String ISSUE_STATEMENT_VALIDATION_REGEX = "[^\\s].*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(ISSUE_STATEMENT_VALIDATION_REGEX);
 
     private final String issue;
 
@@ -46,7 +49,7 @@ public class IssueStatement {
      * Returns true if a given string is a valid issuestatement.
      */
     public static boolean isValidIssueStatement(String test) {
-        return test.matches(ISSUE_STATEMENT_VALIDATION_REGEX) && test.length() <= LENGTH_LIMIT;
+        return VALIDATION_PATTERN.matcher(test).matches() && test.length() <= LENGTH_LIMIT;
     }
 
 
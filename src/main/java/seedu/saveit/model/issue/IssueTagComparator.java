@@ -1,6 +1,5 @@
 package seedu.saveit.model.issue;
 
-import java.util.Comparator;
 import java.util.Iterator;
 import java.util.Set;
 
@@ -9,7 +8,7 @@ import seedu.saveit.model.Issue;
 /**
  * Comparator used to sort the Issues in order
  */
-public class IssueTagComparator implements Comparator<Issue> {
+public class IssueTagComparator implements KeyedIssueComparator {
     /**
      * Compare Issue a and b with their tags in the tag set. Tag is compared based on String tagName.
      * Compare tags one by one until one tag set reach to the end. In that case, compare tag set size.
@@ -45,6 +44,11 @@ public class IssueTagComparator implements Comparator<Issue> {
         }
     }
 
+    @Override
+    public IssueSortKey getSortKey(Issue issue) {
+        return IssueSortKey.byTags(issue);
+    }
+
     @Override
     public String toString() {
         return "Tag";
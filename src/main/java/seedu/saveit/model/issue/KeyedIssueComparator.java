@@ -0,0 +1,31 @@
+package seedu.saveit.model.issue;
+
+import java.util.Comparator;
+
+import seedu.saveit.model.Issue;
+
+/**
+ * A comparator of issues whose order can be precomputed as an {@code IssueSortKey} per issue.
+ */
+public interface KeyedIssueComparator extends Comparator<Issue> {
+
+    /**
+     * Returns the key of {@code issue}, which orders it as this comparator does, with ties broken by issue id.
+     */
+    IssueSortKey getSortKey(Issue issue);
+
+    /**
+     * Returns true if the key of an issue can change while the issue stays the same, so that keys computed earlier
+     * must be checked against the issue before they are relied on.
+     */
+    default boolean hasMutableSortKeys() {
+        return false;
+    }
+
+    /**
+     * Returns true if {@code key}, computed earlier by this comparator, still matches its issue.
+     */
+    default boolean isSortKeyUpToDate(IssueSortKey key) {
+        return getSortKey(key.getIssue()).equals(key);
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.saveit.model.issue;
 
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
 
 import seedu.saveit.model.Issue;
 
@@ -39,6 +41,13 @@ public class SortType {
         }
     }
 
+    /**
+     * Returns a comparator for every sort type that orders issues by precomputed keys.
+     */
+    public static List<KeyedIssueComparator> getKeyedComparators() {
+        return Arrays.asList(new IssueFreqComparator(), new IssueChroComparator(), new IssueTagComparator());
+    }
+
     public Comparator<Issue> getComparator() {
         return this.comparator;
     }
@@ -2,6 +2,8 @@ package seedu.saveit.model.issue;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.regex.Pattern;
+
 import seedu.saveit.commons.util.AppUtil;
 
 /**
@@ -17,6 +19,8 @@ public class Tag {
 
     public static final int LENGTH_LIMIT = 20;
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(TAG_VALIDATION_REGEX);
+
     public final String tagName;
 
     /**
@@ -34,7 +38,7 @@ public class Tag {
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(TAG_VALIDATION_REGEX) && test.length() <= LENGTH_LIMIT;
+        return VALIDATION_PATTERN.matcher(test).matches() && test.length() <= LENGTH_LIMIT;
     }
 
     /**
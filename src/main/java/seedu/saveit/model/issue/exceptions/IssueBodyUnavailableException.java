@@ -0,0 +1,10 @@
+package seedu.saveit.model.issue.exceptions;
+
+/**
+ * Signals that the description and solutions of an Issue could not be loaded from storage.
+ */
+public class IssueBodyUnavailableException extends RuntimeException {
+    public IssueBodyUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
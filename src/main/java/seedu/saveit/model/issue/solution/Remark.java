@@ -2,6 +2,8 @@ package seedu.saveit.model.issue.solution;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.regex.Pattern;
+
 import seedu.saveit.commons.util.AppUtil;
 
 /**
@@ -17,6 +19,7 @@ public class Remark {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String REMARK_VALIDATION_REGEX = "[^\\s].*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(REMARK_VALIDATION_REGEX);
 
     private final String value;
 
@@ -39,7 +42,7 @@ public class Remark {
      * Returns true if a given string is a valid remark.
      */
     public static boolean isValidRemark(String test) {
-        return test.matches(REMARK_VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
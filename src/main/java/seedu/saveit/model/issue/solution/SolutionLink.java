@@ -2,6 +2,8 @@ package seedu.saveit.model.issue.solution;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.regex.Pattern;
+
 import seedu.saveit.commons.util.AppUtil;
 
 /**
@@ -14,6 +16,7 @@ public class SolutionLink {
 
     public static final String SOLUTION_LINK_VALIDATION_REGEX =
             "https?:\\/\\/(www\\.)?[-a-zA-Z0-9@:%._\\+~#=]{2,256}\\.[a-z]{2,6}\\b([-a-zA-Z0-9@:%_\\+.~#?&//=]*)";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(SOLUTION_LINK_VALIDATION_REGEX);
 
     private static final String linkPrefix = "https://";
     private final String value;
@@ -34,7 +37,7 @@ public class SolutionLink {
      */
     public static boolean isValidLink(String test) {
         test = appendUrlPrefix(test);
-        return test.matches(SOLUTION_LINK_VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     public String getValue() {
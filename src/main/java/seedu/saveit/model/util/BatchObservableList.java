@@ -0,0 +1,64 @@
+package seedu.saveit.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable array list that can replace elements at many positions in a single change.
+ * Listeners see one change made of a replacement per position, instead of one change per replaced element,
+ * so that the views and indexes over the list are brought up to date once for the whole batch.
+ */
+public class BatchObservableList<E> extends ModifiableObservableListBase<E> {
+
+    private final List<E> elements = new ArrayList<>();
+
+    /**
+     * Replaces the element at each of {@code indices} with the element at the same position in {@code replacements}.
+     * {@code indices} must be sorted in ascending order without repeats.
+     */
+    public void setAll(int[] indices, List<? extends E> replacements) {
+        requireNonNull(indices);
+        requireNonNull(replacements);
+        if (indices.length != replacements.size()) {
+            throw new IllegalArgumentException("Every index must have one replacement");
+        }
+
+        beginChange();
+        try {
+            for (int i = 0; i < indices.length; i++) {
+                set(indices[i], replacements.get(i));
+            }
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        elements.add(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        return elements.set(index, element);
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        return elements.remove(index);
+    }
+}
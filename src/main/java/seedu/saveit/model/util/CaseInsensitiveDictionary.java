@@ -0,0 +1,84 @@
+package seedu.saveit.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+
+/**
+ * A sorted dictionary of words that ignores case, updated one word at a time.
+ * A word may be added several times, in any spelling, and stays in the dictionary until each of its additions
+ * has been removed. Words differing only in case are listed once, under one of their current spellings.
+ *
+ * Words starting with the same prefix, ignoring case, are next to each other in the dictionary,
+ * so completing a prefix is a range scan of the sorted words rather than a test of every word.
+ */
+public class CaseInsensitiveDictionary {
+
+    /** The current spellings of each word and the number of times each was added, keyed by the listed spelling. */
+    private final NavigableMap<String, Map<String, Integer>> words = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    private final NavigableSet<String> view = Collections.unmodifiableNavigableSet(words.navigableKeySet());
+
+    /**
+     * Adds one occurrence of {@code word}.
+     */
+    public void add(String word) {
+        requireNonNull(word);
+        words.computeIfAbsent(word, unused -> new HashMap<>()).merge(word, 1, Integer::sum);
+    }
+
+    /**
+     * Removes one occurrence of {@code word}, if there is any.
+     */
+    public void remove(String word) {
+        requireNonNull(word);
+        String listedSpelling = words.ceilingKey(word);
+        if (listedSpelling == null || !listedSpelling.equalsIgnoreCase(word)) {
+            return;
+        }
+
+        Map<String, Integer> spellings = words.get(listedSpelling);
+        spellings.computeIfPresent(word, (unused, count) -> count == 1 ? null : count - 1);
+        if (spellings.containsKey(listedSpelling)) {
+            return;
+        }
+        words.remove(listedSpelling);
+        if (!spellings.isEmpty()) {
+            words.put(spellings.keySet().iterator().next(), spellings);
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} words starting with {@code prefix}, ignoring case, sorted ignoring case.
+     * Runs in O(log n + limit) comparisons for a dictionary of n words.
+     */
+    public List<String> complete(String prefix, int limit) {
+        requireNonNull(prefix);
+        List<String> completions = new ArrayList<>();
+        for (String word : words.tailMap(prefix, true).keySet()) {
+            if (completions.size() >= limit || !startsWithIgnoreCase(word, prefix)) {
+                break;
+            }
+            completions.add(word);
+        }
+        return completions;
+    }
+
+    private static boolean startsWithIgnoreCase(String word, String prefix) {
+        return word.regionMatches(true, 0, prefix, 0, prefix.length());
+    }
+
+    /**
+     * Returns a read-only view of the words, sorted ignoring case.
+     * The view reflects later updates of this dictionary.
+     */
+    public NavigableSet<String> asSortedSet() {
+        return view;
+    }
+}
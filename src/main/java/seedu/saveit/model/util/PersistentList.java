@@ -0,0 +1,347 @@
+package seedu.saveit.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * An immutable, indexed list backed by a persistent AVL tree.
+ * Every update returns a new list that shares all untouched nodes with the old one,
+ * so an update costs O(log n) time and memory, and keeping many versions of a large list
+ * only costs memory proportional to the number of changes between them.
+ */
+public final class PersistentList<E> implements Iterable<E> {
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    /** Source of node creation stamps; a node is always stamped after its children. */
+    private static final AtomicLong NEXT_STAMP = new AtomicLong();
+
+    private final Node<E> root;
+
+    private PersistentList(Node<E> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Returns a list containing {@code elements} in order. Runs in O(n).
+     */
+    public static <E> PersistentList<E> of(List<? extends E> elements) {
+        requireNonNull(elements);
+        return new PersistentList<>(build(new ArrayList<>(elements), 0, elements.size()));
+    }
+
+    public int size() {
+        return size(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the element at {@code index}.
+     */
+    public E get(int index) {
+        checkIndex(index, size());
+        Node<E> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.value;
+            }
+        }
+    }
+
+    /**
+     * Searches this list, which must be sorted in ascending order as told by {@code comparison}, for an element.
+     * {@code comparison} returns a negative number, zero or a positive number as an element is less than,
+     * equal to or greater than the element searched for.
+     * Returns the index of a matching element if there is one, or {@code -(insertion point) - 1} otherwise,
+     * as {@code Collections.binarySearch} does. Runs in O(log n), as it descends the tree once.
+     */
+    public int binarySearch(ToIntFunction<? super E> comparison) {
+        requireNonNull(comparison);
+        Node<E> node = root;
+        int offset = 0;
+        while (node != null) {
+            int result = comparison.applyAsInt(node.value);
+            if (result < 0) {
+                offset += size(node.left) + 1;
+                node = node.right;
+            } else if (result > 0) {
+                node = node.left;
+            } else {
+                return offset + size(node.left);
+            }
+        }
+        return -offset - 1;
+    }
+
+    /**
+     * Returns a list with the element at {@code index} replaced by {@code element}.
+     */
+    public PersistentList<E> set(int index, E element) {
+        checkIndex(index, size());
+        return new PersistentList<>(set(root, index, element));
+    }
+
+    /**
+     * Returns a list with {@code element} appended to the end.
+     */
+    public PersistentList<E> add(E element) {
+        return add(size(), element);
+    }
+
+    /**
+     * Returns a list with {@code element} inserted at {@code index}.
+     */
+    public PersistentList<E> add(int index, E element) {
+        checkIndex(index, size() + 1);
+        return new PersistentList<>(insert(root, index, element));
+    }
+
+    /**
+     * Returns a list with the element at {@code index} removed.
+     */
+    public PersistentList<E> remove(int index) {
+        checkIndex(index, size());
+        return new PersistentList<>(remove(root, index));
+    }
+
+    /**
+     * Returns the elements of this list as a new mutable {@code List}.
+     */
+    public List<E> toList() {
+        List<E> result = new ArrayList<>(size());
+        forEach(result::add);
+        return result;
+    }
+
+    /**
+     * Performs {@code action} on the index and element of every node of this list that is not shared with
+     * {@code base}. This list is assumed to have been derived from {@code base} through updates, so that the
+     * visited nodes are exactly the memory this list retains in addition to {@code base}.
+     * Runs in time proportional to the number of visited nodes.
+     */
+    public void forEachChangedSince(PersistentList<E> base, ObjIntConsumer<? super E> action) {
+        requireNonNull(base);
+        requireNonNull(action);
+        long cutoff = base.root == null ? -1 : base.root.stamp;
+        forEachNewerThan(root, 0, cutoff, action);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private final Deque<Node<E>> stack = new ArrayDeque<>();
+            {
+                pushLeft(root);
+            }
+
+            private void pushLeft(Node<E> node) {
+                for (Node<E> n = node; n != null; n = n.left) {
+                    stack.push(n);
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !stack.isEmpty();
+            }
+
+            @Override
+            public E next() {
+                if (stack.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Node<E> node = stack.pop();
+                pushLeft(node.right);
+                return node.value;
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof PersistentList)) {
+            return false;
+        }
+
+        PersistentList<?> otherList = (PersistentList<?>) other;
+        if (root == otherList.root) {
+            return true;
+        }
+        if (size() != otherList.size()) {
+            return false;
+        }
+
+        Iterator<?> otherIterator = otherList.iterator();
+        for (E element : this) {
+            if (!element.equals(otherIterator.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        for (E element : this) {
+            hashCode = 31 * hashCode + element.hashCode();
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+
+    //// tree operations
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + bound);
+        }
+    }
+
+    private static <E> void forEachNewerThan(Node<E> node, int offset, long cutoff,
+                                              ObjIntConsumer<? super E> action) {
+        if (node == null || node.stamp <= cutoff) {
+            return;
+        }
+        int index = offset + size(node.left);
+        action.accept(node.value, index);
+        forEachNewerThan(node.left, offset, cutoff, action);
+        forEachNewerThan(node.right, index + 1, cutoff, action);
+    }
+
+    private static <E> Node<E> build(List<E> elements, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        return new Node<>(build(elements, from, mid), elements.get(mid), build(elements, mid + 1, to));
+    }
+
+    private static <E> Node<E> set(Node<E> node, int index, E element) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return new Node<>(set(node.left, index, element), node.value, node.right);
+        } else if (index > leftSize) {
+            return new Node<>(node.left, node.value, set(node.right, index - leftSize - 1, element));
+        } else {
+            return new Node<>(node.left, element, node.right);
+        }
+    }
+
+    private static <E> Node<E> insert(Node<E> node, int index, E element) {
+        if (node == null) {
+            return new Node<>(null, element, null);
+        }
+        int leftSize = size(node.left);
+        if (index <= leftSize) {
+            return balance(insert(node.left, index, element), node.value, node.right);
+        } else {
+            return balance(node.left, node.value, insert(node.right, index - leftSize - 1, element));
+        }
+    }
+
+    private static <E> Node<E> remove(Node<E> node, int index) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return balance(remove(node.left, index), node.value, node.right);
+        } else if (index > leftSize) {
+            return balance(node.left, node.value, remove(node.right, index - leftSize - 1));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        } else {
+            Node<E> successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            return balance(node.left, successor.value, remove(node.right, 0));
+        }
+    }
+
+    /**
+     * Returns a node holding {@code value} between {@code left} and {@code right}, rotating as needed.
+     * The heights of {@code left} and {@code right} may differ by at most 2.
+     */
+    private static <E> Node<E> balance(Node<E> left, E value, Node<E> right) {
+        int leftHeight = height(left);
+        int rightHeight = height(right);
+        if (leftHeight > rightHeight + 1) {
+            if (height(left.left) >= height(left.right)) {
+                return new Node<>(left.left, left.value, new Node<>(left.right, value, right));
+            }
+            return new Node<>(new Node<>(left.left, left.value, left.right.left), left.right.value,
+                    new Node<>(left.right.right, value, right));
+        }
+        if (rightHeight > leftHeight + 1) {
+            if (height(right.right) >= height(right.left)) {
+                return new Node<>(new Node<>(left, value, right.left), right.value, right.right);
+            }
+            return new Node<>(new Node<>(left, value, right.left.left), right.left.value,
+                    new Node<>(right.left.right, right.value, right.right));
+        }
+        return new Node<>(left, value, right);
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * An immutable tree node.
+     */
+    private static final class Node<E> {
+        private final Node<E> left;
+        private final Node<E> right;
+        private final E value;
+        private final int size;
+        private final int height;
+        private final long stamp;
+
+        private Node(Node<E> left, E value, Node<E> right) {
+            this.left = left;
+            this.value = value;
+            this.right = right;
+            this.size = size(left) + size(right) + 1;
+            this.height = Math.max(height(left), height(right)) + 1;
+            this.stamp = NEXT_STAMP.incrementAndGet();
+        }
+    }
+}
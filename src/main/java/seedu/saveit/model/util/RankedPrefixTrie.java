@@ -0,0 +1,197 @@
+package seedu.saveit.model.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.saveit.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A trie of scored words that ignores case, which completes a prefix with the best scored words starting with it.
+ * Words are ranked by score, highest first, and then sorted ignoring case. Words differing only in case are
+ * kept apart, each with a score of its own.
+ *
+ * Every node caches the best {@code cacheSize} words below it, and the caches on the path of a word are updated
+ * when it is added, removed or scored again. Completing a prefix with up to {@code cacheSize} words only walks
+ * the prefix and reads the cache of its node, in O(prefix + limit) regardless of the number of words.
+ */
+public class RankedPrefixTrie {
+
+    private final int cacheSize;
+    private final Map<String, Integer> scores = new HashMap<>();
+    private final Comparator<String> ranking = Comparator.<String>comparingInt(scores::get).reversed()
+            .thenComparing(String.CASE_INSENSITIVE_ORDER)
+            .thenComparing(Comparator.naturalOrder());
+    private final Node root = new Node(null, '\0');
+
+    /**
+     * Creates a trie whose nodes cache their best {@code cacheSize} words.
+     */
+    public RankedPrefixTrie(int cacheSize) {
+        checkArgument(cacheSize > 0, "Cache size must be positive");
+        this.cacheSize = cacheSize;
+    }
+
+    /**
+     * Adds {@code word} with {@code score}, or scores it again if it is already in the trie.
+     */
+    public void put(String word, int score) {
+        requireNonNull(word);
+        Integer oldScore = scores.put(word, score);
+        if (oldScore == null) {
+            Node node = root;
+            for (int i = 0; i < word.length(); i++) {
+                Node parent = node;
+                node = node.children.computeIfAbsent(fold(word.charAt(i)), key -> new Node(parent, key));
+            }
+            node.words.add(word);
+            promote(node, word);
+        } else if (score > oldScore) {
+            promote(findNode(word), word);
+        } else if (score < oldScore) {
+            demote(findNode(word), word);
+        }
+    }
+
+    /**
+     * Removes {@code word}, if it is in the trie.
+     */
+    public void remove(String word) {
+        requireNonNull(word);
+        if (!scores.containsKey(word)) {
+            return;
+        }
+        Node node = findNode(word);
+        node.words.remove(word);
+        demote(node, word);
+        scores.remove(word);
+        for (; node != root && node.words.isEmpty() && node.children.isEmpty(); node = node.parent) {
+            node.parent.children.remove(node.key);
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} words starting with {@code prefix}, ignoring case.
+     * The words equal to {@code prefix} ignoring case come first, and then the other words, best first.
+     * Runs in O(prefix + limit) if {@code limit} is at most the cache size, and otherwise ranks every word
+     * starting with {@code prefix}.
+     */
+    public List<String> complete(String prefix, int limit) {
+        requireNonNull(prefix);
+        List<String> completions = new ArrayList<>();
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.children.get(fold(prefix.charAt(i)));
+        }
+        if (node == null || limit <= 0) {
+            return completions;
+        }
+
+        List<String> exactWords = new ArrayList<>(node.words);
+        exactWords.sort(ranking);
+        completions.addAll(exactWords.subList(0, Math.min(limit, exactWords.size())));
+        boolean isCacheComplete = node.best.size() < cacheSize || limit <= cacheSize - exactWords.size();
+        List<String> candidates = isCacheComplete ? node.best : rankAllBelow(node);
+        for (String word : candidates) {
+            if (completions.size() >= limit) {
+                break;
+            }
+            if (!node.words.contains(word)) {
+                completions.add(word);
+            }
+        }
+        return completions;
+    }
+
+    /**
+     * Moves {@code word}, whose score went up, into the caches on the path from {@code node} to the root.
+     */
+    private void promote(Node node, String word) {
+        for (; node != null; node = node.parent) {
+            node.best.remove(word);
+            int position = insertionPoint(node.best, word);
+            if (position >= cacheSize) {
+                continue;
+            }
+            node.best.add(position, word);
+            if (node.best.size() > cacheSize) {
+                node.best.remove(cacheSize);
+            }
+        }
+    }
+
+    /**
+     * Rebuilds the caches holding {@code word}, whose score went down or which was removed, on the path from
+     * {@code node} to the root, as a word that was not cached may now belong in them.
+     */
+    private void demote(Node node, String word) {
+        for (; node != null; node = node.parent) {
+            if (!node.best.contains(word)) {
+                continue;
+            }
+            List<String> candidates = new ArrayList<>(node.words);
+            node.children.values().forEach(child -> candidates.addAll(child.best));
+            candidates.sort(ranking);
+            node.best = new ArrayList<>(candidates.subList(0, Math.min(cacheSize, candidates.size())));
+        }
+    }
+
+    private int insertionPoint(List<String> best, String word) {
+        int position = 0;
+        while (position < best.size() && ranking.compare(best.get(position), word) < 0) {
+            position++;
+        }
+        return position;
+    }
+
+    private List<String> rankAllBelow(Node node) {
+        List<String> words = new ArrayList<>();
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(node);
+        while (!pending.isEmpty()) {
+            Node next = pending.pop();
+            words.addAll(next.words);
+            next.children.values().forEach(pending::push);
+        }
+        words.sort(ranking);
+        return words;
+    }
+
+    private Node findNode(String word) {
+        Node node = root;
+        for (int i = 0; i < word.length(); i++) {
+            node = node.children.get(fold(word.charAt(i)));
+        }
+        return node;
+    }
+
+    /**
+     * Folds {@code c} as {@code String.CASE_INSENSITIVE_ORDER} compares characters.
+     */
+    private static char fold(char c) {
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    /**
+     * A node of the trie, reached by the folded characters of the words below it.
+     */
+    private static class Node {
+        final Node parent;
+        final char key;
+        final Map<Character, Node> children = new HashMap<>();
+        /** The words that end at this node. */
+        final List<String> words = new ArrayList<>(1);
+        /** The best words at or below this node, best first. */
+        List<String> best = new ArrayList<>();
+
+        Node(Node parent, char key) {
+            this.parent = parent;
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package seedu.saveit.storage;
+
+import seedu.saveit.commons.exceptions.IllegalValueException;
+import seedu.saveit.model.Issue;
+
+/**
+ * An issue as read from a data file, before it is converted into the model's Issue.
+ */
+public interface AdaptedIssue {
+
+    /**
+     * Converts this issue into the model's Issue object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in this issue.
+     */
+    Issue toModelType() throws IllegalValueException;
+
+    /**
+     * Returns false if this issue was stored without an id, and is given a new one when converted.
+     */
+    default boolean hasId() {
+        return true;
+    }
+}
@@ -0,0 +1,562 @@
+package seedu.saveit.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.saveit.commons.core.LogsCenter;
+import seedu.saveit.commons.exceptions.DataConversionException;
+import seedu.saveit.commons.exceptions.IllegalValueException;
+import seedu.saveit.commons.util.FileUtil;
+import seedu.saveit.model.Issue;
+import seedu.saveit.model.ReadOnlySaveIt;
+import seedu.saveit.model.issue.Solution;
+import seedu.saveit.model.issue.Tag;
+
+/**
+ * A class to access SaveIt data stored in a compact binary file on the hard disk.
+ *
+ * The file starts with a magic number and a format version. The bodies of the issues (descriptions and solutions)
+ * follow, one after another, and then the index: a dictionary of the strings that repeat across issues (tag names
+ * and the scheme and host part of solution links) and one length-prefixed header per issue (id, statement, tags,
+ * frequency, timestamps and the length of its body). The file ends with the position of the index, so the headers
+ * can be read without reading the bodies. Numbers are written as variable-length integers and strings as their
+ * length and UTF-8 bytes.
+ */
+public class BinarySaveItStorage implements SaveItStorage {
+
+    public static final int FORMAT_VERSION = 3;
+
+    public static final String MESSAGE_NOT_BINARY_FORMAT = "Not a SaveIt binary data file";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported SaveIt binary format version %d";
+    public static final String MESSAGE_CORRUPTED_RECORD = "Issue record %d is corrupted";
+    public static final String MESSAGE_CORRUPTED_INDEX = "The index of the data file is corrupted";
+
+    private static final Logger logger = LogsCenter.getLogger(BinarySaveItStorage.class);
+
+    private static final int MAGIC = 0x53564954; // "SVIT"
+    /** The magic number and the format version, which fits in one byte. */
+    private static final long BODIES_OFFSET = Integer.BYTES + 1;
+    private static final String SCHEME_SEPARATOR = "://";
+    private static final String TEMPORARY_EXTENSION = ".tmp";
+
+    private Path filePath;
+
+    public BinarySaveItStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getSaveItFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlySaveIt> readSaveIt() throws DataConversionException, IOException {
+        return readSaveIt(filePath);
+    }
+
+    /**
+     * Similar to {@link #readSaveIt()}
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlySaveIt> readSaveIt(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("SaveIt file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            FileIndex index = readIndex(channel);
+            DataInputStream bodies = new DataInputStream(new BufferedInputStream(
+                    Channels.newInputStream(channel.position(BODIES_OFFSET))));
+            ParallelIssueConverter converter = new ParallelIssueConverter();
+            List<XmlAdaptedIssue> batch = new ArrayList<>(ParallelIssueConverter.BATCH_SIZE);
+            byte[] body = new byte[0];
+            for (int i = 0; i < index.headers.size(); i++) {
+                IssueHeader header = index.headers.get(i);
+                if (body.length < header.bodyLength) {
+                    body = new byte[Math.max(header.bodyLength, body.length * 2)];
+                }
+                bodies.readFully(body, 0, header.bodyLength);
+                batch.add(readIssue(header, ByteBuffer.wrap(body, 0, header.bodyLength), index.dictionary, i));
+
+                if (batch.size() == ParallelIssueConverter.BATCH_SIZE) {
+                    converter.convert(batch);
+                    batch.clear();
+                }
+            }
+            converter.convert(batch);
+            return Optional.of(converter.toSaveIt());
+        } catch (EOFException eofe) {
+            logger.info("SaveIt file " + filePath + " ends unexpectedly");
+            throw new DataConversionException(eofe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Reads the dictionary and issue headers of the data file open in {@code channel}.
+     *
+     * @throws IllegalValueException if the file is not a binary data file of this version, or is corrupted.
+     */
+    static FileIndex readIndex(FileChannel channel) throws IOException, IllegalValueException {
+        long fileSize = channel.size();
+        if (fileSize < BODIES_OFFSET + Long.BYTES) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_FORMAT);
+        }
+        ByteBuffer prologue = ByteBuffer.allocate((int) BODIES_OFFSET);
+        readFully(channel, prologue, 0);
+        checkPrologue(prologue);
+        ByteBuffer trailer = ByteBuffer.allocate(Long.BYTES);
+        readFully(channel, trailer, fileSize - Long.BYTES);
+        long indexOffset = checkIndexOffset(trailer.getLong(0), fileSize);
+
+        long indexSize = fileSize - Long.BYTES - indexOffset;
+        if (indexSize > Integer.MAX_VALUE) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_INDEX);
+        }
+        ByteBuffer index = ByteBuffer.allocate((int) indexSize);
+        readFully(channel, index, indexOffset);
+        index.flip();
+        return readIndex(index, indexOffset);
+    }
+
+    /**
+     * Reads the dictionary and issue headers of the data file whose contents are {@code file}, from its start
+     * to its limit. The headers are decoded straight from {@code file}, which may be a mapping of the file.
+     *
+     * @throws IllegalValueException if the file is not a binary data file of this version, or is corrupted.
+     */
+    static FileIndex readIndex(ByteBuffer file) throws IllegalValueException {
+        int fileSize = file.limit();
+        if (fileSize < BODIES_OFFSET + Long.BYTES) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_FORMAT);
+        }
+        checkPrologue(file);
+        long indexOffset = checkIndexOffset(file.getLong(fileSize - Long.BYTES), fileSize);
+        return readIndex(slice(file, indexOffset, fileSize - Long.BYTES - indexOffset), indexOffset);
+    }
+
+    /**
+     * Checks the magic number and format version at the start of {@code prologue}.
+     */
+    private static void checkPrologue(ByteBuffer prologue) throws IllegalValueException {
+        if (prologue.getInt(0) != MAGIC) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_FORMAT);
+        }
+        if (prologue.get(Integer.BYTES) != FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, prologue.get(Integer.BYTES)));
+        }
+    }
+
+    private static long checkIndexOffset(long indexOffset, long fileSize) throws IllegalValueException {
+        if (indexOffset < BODIES_OFFSET || indexOffset > fileSize - Long.BYTES) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_INDEX);
+        }
+        return indexOffset;
+    }
+
+    /**
+     * Reads the dictionary and issue headers in {@code index}, the index of a file that starts at {@code indexOffset}.
+     */
+    private static FileIndex readIndex(ByteBuffer index, long indexOffset) throws IllegalValueException {
+        try {
+            // every count and length is checked against the bytes left in the index before anything is allocated
+            String[] dictionary = new String[readLength(index)];
+            for (int i = 0; i < dictionary.length; i++) {
+                dictionary[i] = readString(index);
+            }
+
+            int issueCount = readLength(index);
+            List<IssueHeader> headers = new ArrayList<>(issueCount);
+            long bodyOffset = BODIES_OFFSET;
+            for (int i = 0; i < issueCount; i++) {
+                int recordLength = readLength(index);
+                ByteBuffer record = slice(index, index.position(), recordLength);
+                index.position(index.position() + recordLength);
+                IssueHeader header = readHeader(record, dictionary, bodyOffset, i);
+                headers.add(header);
+                bodyOffset += header.bodyLength;
+            }
+            if (bodyOffset != indexOffset) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_INDEX);
+            }
+            return new FileIndex(dictionary, headers);
+        } catch (BufferUnderflowException | StreamCorruptedException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_INDEX, e);
+        }
+    }
+
+    private static IssueHeader readHeader(ByteBuffer in, String[] dictionary, long bodyOffset, int position)
+            throws IllegalValueException {
+        try {
+            long id = readVarLong(in);
+            String statement = readString(in);
+            int tagCount = readLength(in);
+            List<XmlAdaptedTag> tags = new ArrayList<>(tagCount);
+            for (int i = 0; i < tagCount; i++) {
+                tags.add(new XmlAdaptedTag(dictionary[readVarInt(in)]));
+            }
+            int frequency = (int) readSignedVarLong(in);
+            long createdTime = readSignedVarLong(in);
+            long lastModifiedTime = createdTime + readSignedVarLong(in);
+            int bodyLength = readVarInt(in);
+            if (in.hasRemaining()) {
+                throw new StreamCorruptedException("Unexpected bytes after the issue header");
+            }
+            return new IssueHeader(id, statement, tags, frequency, createdTime, lastModifiedTime, bodyOffset,
+                    bodyLength);
+        } catch (StreamCorruptedException | BufferUnderflowException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalValueException(String.format(MESSAGE_CORRUPTED_RECORD, position + 1), e);
+        }
+    }
+
+    /**
+     * Returns the issue with {@code header} and the body in {@code body}, from its position to its limit.
+     * The body is decoded straight from {@code body}, which may be a mapping of the file.
+     *
+     * @throws IllegalValueException if the body is corrupted.
+     */
+    static XmlAdaptedIssue readIssue(IssueHeader header, ByteBuffer body, String[] dictionary, int position)
+            throws IllegalValueException {
+        ByteBuffer in = body.duplicate();
+        try {
+            String description = readString(in);
+            int solutionCount = readLength(in);
+            List<XmlAdaptedSolution> solutions = new ArrayList<>(solutionCount);
+            for (int i = 0; i < solutionCount; i++) {
+                boolean isPrimarySolution = in.get() != 0;
+                String link = dictionary[readVarInt(in)] + readString(in);
+                String remark = readString(in);
+                solutions.add(new XmlAdaptedSolution(link, remark, isPrimarySolution));
+            }
+            if (in.hasRemaining()) {
+                throw new StreamCorruptedException("Unexpected bytes after the issue body");
+            }
+            return new XmlAdaptedIssue(header.statement, description, solutions, header.tags, header.frequency,
+                    header.createdTime, header.lastModifiedTime, header.id);
+        } catch (StreamCorruptedException | BufferUnderflowException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalValueException(String.format(MESSAGE_CORRUPTED_RECORD, position + 1), e);
+        }
+    }
+
+    /**
+     * Returns the {@code length} bytes at {@code offset} of {@code buffer} as a buffer of their own,
+     * sharing their content with {@code buffer}.
+     */
+    static ByteBuffer slice(ByteBuffer buffer, long offset, long length) {
+        ByteBuffer bytes = buffer.duplicate();
+        bytes.limit((int) (offset + length));
+        bytes.position((int) offset);
+        return bytes.slice();
+    }
+
+    /**
+     * Reads {@code buffer.remaining()} bytes at {@code position} of {@code channel} into {@code buffer}.
+     */
+    static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new EOFException();
+            }
+            position += read;
+        }
+    }
+
+    @Override
+    public void saveSaveIt(ReadOnlySaveIt saveIt) throws IOException {
+        saveSaveIt(saveIt, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveSaveIt(ReadOnlySaveIt)}
+     * The data is written to a temporary file first, which then replaces the file at {@code filePath}.
+     * @param filePath location of the data. Cannot be null
+     */
+    public void saveSaveIt(ReadOnlySaveIt saveIt, Path filePath) throws IOException {
+        requireNonNull(saveIt);
+        requireNonNull(filePath);
+
+        replaceFile(saveIt.getIssueList(), filePath);
+    }
+
+    /**
+     * Writes {@code issues} to a temporary file, which then replaces the file at {@code filePath}.
+     */
+    WrittenFile replaceFile(List<Issue> issues, Path filePath) throws IOException {
+        FileUtil.createParentDirsOfFile(filePath);
+        Path temporaryPath = filePath.resolveSibling(filePath.getFileName() + TEMPORARY_EXTENSION);
+        WrittenFile writtenFile = writeFile(issues, temporaryPath);
+        beforeReplacing(filePath);
+        try {
+            Files.move(temporaryPath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException amnse) {
+            Files.move(temporaryPath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return writtenFile;
+    }
+
+    /**
+     * Called once a new file has been written, just before it replaces the file at {@code filePath}.
+     */
+    void beforeReplacing(Path filePath) throws IOException {}
+
+    /**
+     * Writes {@code issues} to {@code filePath}, and forces them to the disk so that the file can replace the data
+     * file without a crash leaving it truncated.
+     */
+    private WrittenFile writeFile(List<Issue> issues, Path filePath) throws IOException {
+        Map<String, Integer> dictionary = createDictionary();
+        long[] bodyOffsets = new long[issues.size() + 1];
+
+        try (FileOutputStream fileOut = new FileOutputStream(filePath.toFile());
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fileOut))) {
+            out.writeInt(MAGIC);
+            out.writeByte(FORMAT_VERSION);
+
+            ByteArrayOutputStream record = new ByteArrayOutputStream();
+            DataOutputStream recordOut = new DataOutputStream(record);
+            bodyOffsets[0] = BODIES_OFFSET;
+            for (int i = 0; i < issues.size(); i++) {
+                record.reset();
+                writeBody(recordOut, issues.get(i), dictionary);
+                record.writeTo(out);
+                bodyOffsets[i + 1] = bodyOffsets[i] + record.size();
+            }
+
+            ByteArrayOutputStream index = new ByteArrayOutputStream();
+            DataOutputStream indexOut = new DataOutputStream(index);
+            writeVarInt(indexOut, issues.size());
+            for (int i = 0; i < issues.size(); i++) {
+                record.reset();
+                writeHeader(recordOut, issues.get(i), (int) (bodyOffsets[i + 1] - bodyOffsets[i]), dictionary);
+                writeVarInt(indexOut, record.size());
+                record.writeTo(indexOut);
+            }
+
+            // the dictionary is complete only once every issue has been written
+            writeVarInt(out, dictionary.size());
+            for (String entry : dictionary.keySet()) {
+                writeString(out, entry);
+            }
+            index.writeTo(out);
+            out.writeLong(bodyOffsets[issues.size()]);
+            out.flush();
+            fileOut.getFD().sync();
+        }
+        return new WrittenFile(dictionary.keySet().toArray(new String[0]), bodyOffsets);
+    }
+
+    /**
+     * Returns the dictionary that a file being written starts with.
+     */
+    Map<String, Integer> createDictionary() {
+        return new LinkedHashMap<>();
+    }
+
+    /**
+     * Writes the body of {@code issue}, adding the strings it refers to to {@code dictionary}.
+     */
+    void writeBody(DataOutput out, Issue issue, Map<String, Integer> dictionary) throws IOException {
+        writeString(out, issue.getDescription().getValue());
+        writeVarInt(out, issue.getSolutions().size());
+        for (Solution solution : issue.getSolutions()) {
+            String link = solution.getLink().toString();
+            String host = getHost(link);
+            out.writeBoolean(solution.isPrimarySolution());
+            writeVarInt(out, dictionary.computeIfAbsent(host, unused -> dictionary.size()));
+            writeString(out, link.substring(host.length()));
+            writeString(out, solution.getRemark().toString());
+        }
+    }
+
+    private static void writeHeader(DataOutput out, Issue issue, int bodyLength, Map<String, Integer> dictionary)
+            throws IOException {
+        writeVarLong(out, issue.getId());
+        writeString(out, issue.getStatement().getValue());
+        writeVarInt(out, issue.getTags().size());
+        for (Tag tag : issue.getTags()) {
+            writeVarInt(out, dictionary.computeIfAbsent(tag.tagName, unused -> dictionary.size()));
+        }
+
+        long createdTime = issue.getCreatedTime().getTime();
+        writeSignedVarLong(out, issue.getFrequency().getValue());
+        writeSignedVarLong(out, createdTime);
+        writeSignedVarLong(out, issue.getLastModifiedTime().getTime() - createdTime);
+        writeVarInt(out, bodyLength);
+    }
+
+    /**
+     * Returns the scheme and host part of {@code link}, or an empty string if it has none.
+     */
+    private static String getHost(String link) {
+        int schemeEnd = link.indexOf(SCHEME_SEPARATOR);
+        if (schemeEnd < 0) {
+            return "";
+        }
+        int hostEnd = link.indexOf('/', schemeEnd + SCHEME_SEPARATOR.length());
+        return hostEnd < 0 ? link : link.substring(0, hostEnd);
+    }
+
+    /**
+     * The dictionary and issue headers of a data file.
+     */
+    static class FileIndex {
+        final String[] dictionary;
+        final List<IssueHeader> headers;
+
+        FileIndex(String[] dictionary, List<IssueHeader> headers) {
+            this.dictionary = dictionary;
+            this.headers = headers;
+        }
+    }
+
+    /**
+     * The dictionary of a file that was written, and the positions of the bodies of its issues
+     * followed by the position of its index.
+     */
+    static class WrittenFile {
+        final String[] dictionary;
+        final long[] bodyOffsets;
+
+        WrittenFile(String[] dictionary, long[] bodyOffsets) {
+            this.dictionary = dictionary;
+            this.bodyOffsets = bodyOffsets;
+        }
+    }
+
+    /**
+     * The fields of an issue that are stored in the index, and where its body is stored.
+     */
+    static class IssueHeader {
+        final long id;
+        final String statement;
+        final List<XmlAdaptedTag> tags;
+        final int frequency;
+        final long createdTime;
+        final long lastModifiedTime;
+        final long bodyOffset;
+        final int bodyLength;
+
+        IssueHeader(long id, String statement, List<XmlAdaptedTag> tags, int frequency, long createdTime,
+                    long lastModifiedTime, long bodyOffset, int bodyLength) {
+            this.id = id;
+            this.statement = statement;
+            this.tags = tags;
+            this.frequency = frequency;
+            this.createdTime = createdTime;
+            this.lastModifiedTime = lastModifiedTime;
+            this.bodyOffset = bodyOffset;
+            this.bodyLength = bodyLength;
+        }
+    }
+
+    //// variable-length encoding
+
+    private static void writeVarInt(DataOutput out, int value) throws IOException {
+        writeVarLong(out, value & 0xffffffffL);
+    }
+
+    private static void writeSignedVarLong(DataOutput out, long value) throws IOException {
+        writeVarLong(out, (value << 1) ^ (value >> 63));
+    }
+
+    /**
+     * Writes {@code value} seven bits at a time, the high bit of each byte marking that more bytes follow.
+     */
+    private static void writeVarLong(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7fL) != 0) {
+            out.writeByte((int) ((value & 0x7f) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static void writeString(DataOutput out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static int readVarInt(ByteBuffer in) throws StreamCorruptedException {
+        long value = readVarLong(in);
+        if (value < 0 || value > Integer.MAX_VALUE) {
+            throw new StreamCorruptedException("Length out of range: " + value);
+        }
+        return (int) value;
+    }
+
+    private static long readSignedVarLong(ByteBuffer in) throws StreamCorruptedException {
+        long value = readVarLong(in);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static long readVarLong(ByteBuffer in) throws StreamCorruptedException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7f) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new StreamCorruptedException("Variable-length number is too long");
+    }
+
+    /**
+     * Reads a count or length, which cannot be more than the bytes left in {@code in} in a valid file.
+     */
+    private static int readLength(ByteBuffer in) throws StreamCorruptedException {
+        int length = readVarInt(in);
+        if (length > in.remaining()) {
+            throw new StreamCorruptedException("Length out of range: " + length);
+        }
+        return length;
+    }
+
+    /**
+     * Decodes a string from {@code in} without copying its bytes out of it first.
+     */
+    private static String readString(ByteBuffer in) throws StreamCorruptedException {
+        int length = readLength(in);
+        String value;
+        if (in.hasArray()) {
+            value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+        } else {
+            value = StandardCharsets.UTF_8.decode(slice(in, in.position(), length)).toString();
+        }
+        in.position(in.position() + length);
+        return value;
+    }
+}
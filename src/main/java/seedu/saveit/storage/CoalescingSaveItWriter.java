@@ -0,0 +1,201 @@
+package seedu.saveit.storage;
+
+import static seedu.saveit.commons.util.AppUtil.checkArgument;
+import static seedu.saveit.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.saveit.commons.core.LogsCenter;
+import seedu.saveit.commons.events.BaseEvent;
+import seedu.saveit.model.ReadOnlySaveIt;
+
+/**
+ * Writes SaveIt states to a {@code SaveItStorage} on a background thread.
+ * A submitted state is written once the debounce interval has passed since the first unwritten submission,
+ * and only the latest state submitted by then is written, so a burst of changes costs a single write.
+ *
+ * The issue level events submitted with the states written together are written together too.
+ *
+ * Submitted states must not be modified afterwards, as they are read on the writer thread.
+ */
+public class CoalescingSaveItWriter {
+
+    private static final Logger logger = LogsCenter.getLogger(CoalescingSaveItWriter.class);
+
+    private final SaveItStorage saveItStorage;
+    private final long debounceMillis;
+    private final Consumer<IOException> failureHandler;
+    private final ScheduledExecutorService executor;
+
+    private final Object lock = new Object();
+    private ReadOnlySaveIt pendingSaveIt;
+    /** The issue level events leading to {@code pendingSaveIt} from the state written last, or null if unknown. */
+    private List<BaseEvent> pendingIssueEvents;
+    private ScheduledFuture<?> scheduledWrite;
+    private boolean isClosed;
+    private long writeCount;
+    private long skippedWriteCount;
+    private long totalWriteNanos;
+
+    /**
+     * Creates a writer to {@code saveItStorage} that waits {@code debounceMillis} before each write.
+     * {@code failureHandler} is called on the writer thread when a write fails.
+     */
+    public CoalescingSaveItWriter(SaveItStorage saveItStorage, long debounceMillis,
+                                  Consumer<IOException> failureHandler) {
+        requireAllNonNull(saveItStorage, failureHandler);
+        checkArgument(debounceMillis >= 0, "Debounce interval must not be negative");
+        this.saveItStorage = saveItStorage;
+        this.debounceMillis = debounceMillis;
+        this.failureHandler = failureHandler;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "SaveIt writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Submits {@code saveIt} to be written, replacing any submitted state that has not been written yet.
+     */
+    public void submit(ReadOnlySaveIt saveIt) {
+        submit(saveIt, null);
+    }
+
+    /**
+     * Submits {@code saveIt}, which the issue level events in {@code issueEvents} lead to from the state submitted
+     * before, to be written. {@code issueEvents} is null if they are not known.
+     * @see SaveItStorage#saveChanges(ReadOnlySaveIt, List)
+     */
+    public void submit(ReadOnlySaveIt saveIt, List<BaseEvent> issueEvents) {
+        requireAllNonNull(saveIt);
+        synchronized (lock) {
+            if (isClosed) {
+                throw new IllegalStateException("Writer is closed");
+            }
+            if (pendingSaveIt != null) {
+                skippedWriteCount++;
+                if (pendingIssueEvents != null && issueEvents != null) {
+                    pendingIssueEvents.addAll(issueEvents);
+                } else {
+                    pendingIssueEvents = null;
+                }
+            } else {
+                pendingIssueEvents = issueEvents == null ? null : new ArrayList<>(issueEvents);
+            }
+            pendingSaveIt = saveIt;
+            if (scheduledWrite == null) {
+                scheduledWrite = executor.schedule(this::writePending, debounceMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Writes the state submitted last, if it has not been written yet, and waits until it is written.
+     */
+    public void flush() {
+        synchronized (lock) {
+            if (isClosed) {
+                return;
+            }
+            if (scheduledWrite != null) {
+                scheduledWrite.cancel(false);
+                scheduledWrite = null;
+            }
+        }
+        awaitWrite(executor.submit(this::writePending));
+    }
+
+    /**
+     * Flushes the writer and stops its thread. No state can be submitted afterwards.
+     */
+    public void close() {
+        flush();
+        synchronized (lock) {
+            isClosed = true;
+        }
+        executor.shutdown();
+    }
+
+    private void awaitWrite(Future<?> write) {
+        try {
+            write.get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            logger.warning("Interrupted while waiting for data to be saved");
+        } catch (ExecutionException ee) {
+            logger.warning("Unexpected error while saving data: " + ee.getCause());
+        }
+    }
+
+    /**
+     * Writes the pending state, if any. Runs on the writer thread.
+     */
+    private void writePending() {
+        ReadOnlySaveIt saveIt;
+        List<BaseEvent> issueEvents;
+        synchronized (lock) {
+            saveIt = pendingSaveIt;
+            issueEvents = pendingIssueEvents;
+            pendingSaveIt = null;
+            pendingIssueEvents = null;
+            scheduledWrite = null;
+        }
+        if (saveIt == null) {
+            return;
+        }
+
+        long startTime = System.nanoTime();
+        try {
+            saveItStorage.saveChanges(saveIt, issueEvents);
+        } catch (IOException e) {
+            failureHandler.accept(e);
+            return;
+        }
+        long writeNanos = System.nanoTime() - startTime;
+
+        synchronized (lock) {
+            writeCount++;
+            totalWriteNanos += writeNanos;
+            logger.fine("Saved data in " + TimeUnit.NANOSECONDS.toMillis(writeNanos) + " ms, "
+                    + skippedWriteCount + " of " + (writeCount + skippedWriteCount) + " saves skipped so far");
+        }
+    }
+
+    /**
+     * Returns the number of states written so far.
+     */
+    public long getWriteCount() {
+        synchronized (lock) {
+            return writeCount;
+        }
+    }
+
+    /**
+     * Returns the number of submitted states that were not written because a later state replaced them.
+     */
+    public long getSkippedWriteCount() {
+        synchronized (lock) {
+            return skippedWriteCount;
+        }
+    }
+
+    /**
+     * Returns the average time taken by a write so far, in milliseconds.
+     */
+    public double getAverageWriteMillis() {
+        synchronized (lock) {
+            return writeCount == 0 ? 0 : (double) totalWriteNanos / writeCount / TimeUnit.MILLISECONDS.toNanos(1);
+        }
+    }
+}
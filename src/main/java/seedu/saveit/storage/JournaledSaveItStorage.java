@@ -0,0 +1,403 @@
+package seedu.saveit.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.saveit.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+
+import seedu.saveit.commons.core.LogsCenter;
+import seedu.saveit.commons.events.BaseEvent;
+import seedu.saveit.commons.events.model.IssueAddedEvent;
+import seedu.saveit.commons.events.model.IssueRemovedEvent;
+import seedu.saveit.commons.events.model.IssueUpdatedEvent;
+import seedu.saveit.commons.events.model.TagRenamedEvent;
+import seedu.saveit.commons.exceptions.DataConversionException;
+import seedu.saveit.commons.exceptions.IllegalValueException;
+import seedu.saveit.model.Issue;
+import seedu.saveit.model.ReadOnlySaveIt;
+import seedu.saveit.model.SaveIt;
+import seedu.saveit.model.issue.exceptions.DuplicateIssueException;
+
+/**
+ * A class to access SaveIt data stored as an xml snapshot and an append-only journal of later changes.
+ * A save of changes appends one record per issue level event to the journal, for the issue added, updated or
+ * removed, or the tag renamed, so it costs time proportional to the change rather than to the number of issues.
+ * The journal is compacted into a new snapshot once it holds enough records, and whenever the changes are not
+ * known or do not add up to the issues saved.
+ *
+ * The journal starts with the checksum of the snapshot it applies to, so a journal left behind by a compaction
+ * that was interrupted is recognised and ignored. Each record is followed by its own checksum, so a record
+ * that was only partly written is ignored too. Every write to the journal is forced to the disk before the save
+ * returns, as the snapshot is.
+ */
+public class JournaledSaveItStorage implements SaveItStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 200;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledSaveItStorage.class);
+
+    private static final int JOURNAL_MAGIC = 0x53494a32; // "SIJ2"
+    /** The magic number and the snapshot checksum. */
+    private static final int JOURNAL_HEADER_BYTES = Integer.BYTES + Long.BYTES;
+    /** The length and the checksum of a record. */
+    private static final int RECORD_OVERHEAD_BYTES = Integer.BYTES + Long.BYTES;
+    private static final String JOURNAL_EXTENSION = ".journal";
+    private static final String TEMPORARY_EXTENSION = ".tmp";
+
+    private static JAXBContext recordContext;
+
+    private final Path filePath;
+    private final Path journalPath;
+    private final int compactionThreshold;
+    private final XmlSaveItStorage snapshotStorage;
+
+    /** The number of issues last saved to or read from {@code filePath}, or -1 if they are not known. */
+    private int savedIssueCount = -1;
+    /** Whether records appended to the journal will be replayed onto the current snapshot. */
+    private boolean isJournalUsable;
+    private int journalRecordCount;
+
+    public JournaledSaveItStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a storage that compacts the journal once it holds {@code compactionThreshold} records.
+     */
+    public JournaledSaveItStorage(Path filePath, int compactionThreshold) {
+        requireNonNull(filePath);
+        checkArgument(compactionThreshold > 0, "Compaction threshold must be positive");
+        this.filePath = filePath;
+        this.journalPath = filePath.resolveSibling(filePath.getFileName() + JOURNAL_EXTENSION);
+        this.compactionThreshold = compactionThreshold;
+        this.snapshotStorage = new XmlSaveItStorage(filePath);
+    }
+
+    @Override
+    public Path getSaveItFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the file path of the journal.
+     */
+    public Path getJournalFilePath() {
+        return journalPath;
+    }
+
+    @Override
+    public Optional<ReadOnlySaveIt> readSaveIt() throws DataConversionException, IOException {
+        return readSaveIt(filePath);
+    }
+
+    /**
+     * Similar to {@link #readSaveIt()}
+     * Only the data at {@link #getSaveItFilePath()} has a journal; other files are read as plain xml files.
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the file or its journal is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlySaveIt> readSaveIt(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            return snapshotStorage.readSaveIt(filePath);
+        }
+
+        savedIssueCount = -1;
+        Optional<ReadOnlySaveIt> snapshot = snapshotStorage.readSaveIt(filePath);
+        if (!snapshot.isPresent()) {
+            return Optional.empty();
+        }
+
+        List<Issue> issues = new ArrayList<>(snapshot.get().getIssueList());
+        journalRecordCount = replayJournal(issues);
+        SaveIt saveIt = new SaveIt();
+        try {
+            saveIt.setIssues(issues);
+        } catch (DuplicateIssueException die) {
+            throw new DataConversionException(die);
+        }
+        savedIssueCount = issues.size();
+        return Optional.of(saveIt);
+    }
+
+    @Override
+    public void saveSaveIt(ReadOnlySaveIt saveIt) throws IOException {
+        saveSaveIt(saveIt, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveSaveIt(ReadOnlySaveIt)}
+     * Only the data at {@link #getSaveItFilePath()} is journaled, and saving all of it compacts the journal;
+     * other files are written as plain xml files.
+     * @param filePath location of the data. Cannot be null
+     */
+    @Override
+    public void saveSaveIt(ReadOnlySaveIt saveIt, Path filePath) throws IOException {
+        requireNonNull(saveIt);
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            snapshotStorage.saveSaveIt(saveIt, filePath);
+            return;
+        }
+        compact(saveIt);
+    }
+
+    /**
+     * Appends a record for each of {@code issueEvents} to the journal. Compacts the journal instead if the events
+     * are not known, if the issues saved before are not known, or if the events do not lead from those to as many
+     * issues as {@code saveIt} has.
+     */
+    @Override
+    public void saveChanges(ReadOnlySaveIt saveIt, List<BaseEvent> issueEvents) throws IOException {
+        requireNonNull(saveIt);
+        if (issueEvents == null || savedIssueCount < 0 || !isJournalUsable) {
+            compact(saveIt);
+            return;
+        }
+
+        List<XmlAdaptedJournalRecord> records = new ArrayList<>();
+        int issueCount = toRecords(issueEvents, records);
+        if (issueCount != saveIt.getIssueCount()) {
+            logger.warning("Changes lead to " + issueCount + " issue(s) instead of " + saveIt.getIssueCount()
+                    + ", compacting " + journalPath);
+            compact(saveIt);
+            return;
+        }
+        if (records.isEmpty()) {
+            return;
+        }
+        if (journalRecordCount + records.size() >= compactionThreshold) {
+            compact(saveIt);
+            return;
+        }
+        try {
+            appendToJournal(records);
+        } catch (IOException ioe) {
+            // a record may be partly written, so the journal cannot be appended to until it is compacted
+            isJournalUsable = false;
+            throw ioe;
+        }
+        journalRecordCount += records.size();
+        savedIssueCount = issueCount;
+        logger.fine("Appended " + records.size() + " record(s) to " + journalPath);
+    }
+
+    /**
+     * Writes {@code saveIt} as a new snapshot and starts an empty journal for it.
+     */
+    private void compact(ReadOnlySaveIt saveIt) throws IOException {
+        savedIssueCount = -1;
+        isJournalUsable = false;
+        Path temporaryPath = filePath.resolveSibling(filePath.getFileName() + TEMPORARY_EXTENSION);
+        snapshotStorage.saveSaveIt(saveIt, temporaryPath);
+        try {
+            Files.move(temporaryPath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException amnse) {
+            Files.move(temporaryPath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        ByteArrayOutputStream header = new ByteArrayOutputStream(JOURNAL_HEADER_BYTES);
+        try (DataOutputStream out = new DataOutputStream(header)) {
+            out.writeInt(JOURNAL_MAGIC);
+            out.writeLong(checksumOf(filePath));
+        }
+        writeAndForce(journalPath, header.toByteArray(), StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        journalRecordCount = 0;
+        isJournalUsable = true;
+        savedIssueCount = saveIt.getIssueCount();
+        logger.fine("Compacted journal into " + filePath);
+    }
+
+    /**
+     * Adds a record for each of {@code issueEvents} to {@code records}, and returns the number of issues they lead
+     * to from the issues saved before. A tag renamed is a single record, which stands for the updates of the
+     * renamed issues following its event.
+     */
+    private int toRecords(List<BaseEvent> issueEvents, List<XmlAdaptedJournalRecord> records) {
+        int issueCount = savedIssueCount;
+        Iterator<BaseEvent> events = issueEvents.iterator();
+        while (events.hasNext()) {
+            BaseEvent event = events.next();
+            if (event instanceof IssueAddedEvent) {
+                IssueAddedEvent added = (IssueAddedEvent) event;
+                records.add(XmlAdaptedJournalRecord.added(added.issue, added.index));
+                issueCount++;
+            } else if (event instanceof IssueRemovedEvent) {
+                records.add(XmlAdaptedJournalRecord.removed(((IssueRemovedEvent) event).issue));
+                issueCount--;
+            } else if (event instanceof IssueUpdatedEvent) {
+                IssueUpdatedEvent updated = (IssueUpdatedEvent) event;
+                records.add(XmlAdaptedJournalRecord.updated(updated.oldIssue, updated.newIssue));
+            } else if (event instanceof TagRenamedEvent) {
+                TagRenamedEvent renamed = (TagRenamedEvent) event;
+                Issue firstRenamedIssue = null;
+                for (int i = 0; i < renamed.renamedIssueCount && events.hasNext(); i++) {
+                    Issue renamedIssue = ((IssueUpdatedEvent) events.next()).newIssue;
+                    firstRenamedIssue = firstRenamedIssue == null ? renamedIssue : firstRenamedIssue;
+                }
+                if (firstRenamedIssue != null) {
+                    records.add(XmlAdaptedJournalRecord.tagRenamed(renamed.oldTag, renamed.newTag,
+                            firstRenamedIssue.getLastModifiedTime()));
+                }
+            }
+        }
+        return issueCount;
+    }
+
+    private void appendToJournal(List<XmlAdaptedJournalRecord> records) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            for (XmlAdaptedJournalRecord record : records) {
+                byte[] bytes = marshal(record);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+                out.writeLong(checksumOf(bytes));
+            }
+        }
+        writeAndForce(journalPath, buffer.toByteArray(), StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Writes {@code bytes} to {@code file} opened with {@code options}, and forces them to the disk before returning,
+     * so that a record reported as saved survives a power loss.
+     */
+    private static void writeAndForce(Path file, byte[] bytes, OpenOption... options) throws IOException {
+        Set<OpenOption> openOptions = new HashSet<>(Arrays.asList(options));
+        openOptions.add(StandardOpenOption.WRITE);
+        try (FileChannel channel = FileChannel.open(file, openOptions)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Applies the records of the journal to {@code issues}, which hold the snapshot, and returns the number
+     * of records applied. A journal that is missing or belongs to another snapshot is ignored.
+     * Records can only be appended to the journal afterwards if all of it was read.
+     */
+    private int replayJournal(List<Issue> issues) throws DataConversionException, IOException {
+        isJournalUsable = false;
+        if (!Files.exists(journalPath)) {
+            return 0;
+        }
+
+        long remaining = Files.size(journalPath);
+        if (remaining < JOURNAL_HEADER_BYTES) {
+            logger.warning("Ignoring journal " + journalPath + " with an incomplete header");
+            return 0;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(journalPath)))) {
+            if (in.readInt() != JOURNAL_MAGIC) {
+                throw new DataConversionException(new IOException("Not a SaveIt journal: " + journalPath));
+            }
+            if (in.readLong() != checksumOf(filePath)) {
+                logger.info("Journal " + journalPath + " was already compacted into " + filePath);
+                return 0;
+            }
+            remaining -= JOURNAL_HEADER_BYTES;
+
+            int recordCount = 0;
+            while (remaining >= RECORD_OVERHEAD_BYTES) {
+                int length = in.readInt();
+                if (length < 0 || remaining < RECORD_OVERHEAD_BYTES + length) {
+                    break;
+                }
+                byte[] bytes = new byte[length];
+                in.readFully(bytes);
+                if (in.readLong() != checksumOf(bytes)) {
+                    break;
+                }
+                unmarshal(bytes).applyTo(issues);
+                remaining -= RECORD_OVERHEAD_BYTES + length;
+                recordCount++;
+            }
+
+            isJournalUsable = remaining == 0;
+            if (!isJournalUsable) {
+                logger.warning("Ignoring a partly written record at the end of " + journalPath);
+            }
+            return recordCount;
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + journalPath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    private static long checksumOf(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return crc.getValue();
+    }
+
+    private static long checksumOf(Path file) throws IOException {
+        CRC32 crc = new CRC32();
+        byte[] buffer = new byte[8192];
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) > 0) {
+                crc.update(buffer, 0, read);
+            }
+        }
+        return crc.getValue();
+    }
+
+    private static byte[] marshal(XmlAdaptedJournalRecord record) throws IOException {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            Marshaller marshaller = getRecordContext().createMarshaller();
+            marshaller.setProperty(Marshaller.JAXB_FRAGMENT, true);
+            marshaller.marshal(record, bytes);
+            return bytes.toByteArray();
+        } catch (JAXBException e) {
+            throw new AssertionError("Unexpected exception " + e.getMessage(), e);
+        }
+    }
+
+    private static XmlAdaptedJournalRecord unmarshal(byte[] bytes) throws DataConversionException {
+        try {
+            return (XmlAdaptedJournalRecord) getRecordContext().createUnmarshaller()
+                    .unmarshal(new ByteArrayInputStream(bytes));
+        } catch (JAXBException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    private static synchronized JAXBContext getRecordContext() throws JAXBException {
+        if (recordContext == null) {
+            recordContext = JAXBContext.newInstance(XmlAdaptedJournalRecord.class);
+        }
+        return recordContext;
+    }
+}
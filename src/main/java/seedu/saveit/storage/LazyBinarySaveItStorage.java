@@ -0,0 +1,358 @@
+package seedu.saveit.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.saveit.commons.core.LogsCenter;
+import seedu.saveit.commons.exceptions.DataConversionException;
+import seedu.saveit.commons.exceptions.IllegalValueException;
+import seedu.saveit.model.Issue;
+import seedu.saveit.model.ReadOnlySaveIt;
+import seedu.saveit.model.issue.IssueBody;
+import seedu.saveit.model.issue.IssueBodyLoader;
+import seedu.saveit.model.issue.IssueSearchFrequency;
+import seedu.saveit.model.issue.IssueStatement;
+import seedu.saveit.model.issue.Tag;
+import seedu.saveit.model.issue.exceptions.IssueBodyUnavailableException;
+
+/**
+ * A {@code BinarySaveItStorage} that only reads the issue headers of its data file when loading it.
+ * The description and solutions of each issue are read from the file when they are first needed,
+ * so loading time and memory depend on the size of the headers only.
+ *
+ * Saving copies the bodies that are still in the file without loading them, and then points their loaders
+ * at the new file. Bodies are tracked by their loader rather than by issue, so a copy of an issue that shares
+ * its body, such as a retagged one, is saved without loading it. Only the bodies no saved issue shares,
+ * whose issues may come back through undo, are loaded before the file they are in is replaced.
+ */
+public class LazyBinarySaveItStorage extends BinarySaveItStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(LazyBinarySaveItStorage.class);
+
+    /** The id of the issues that are read only for their description and solutions. */
+    private static final long UNUSED_ID = 1;
+
+    private final Object lock = new Object();
+    /** The data file, open for reading bodies, or null if no issue was loaded from it. */
+    private DataFile dataFile;
+    private String[] dictionary;
+    /** The bodies in the data file that are not loaded yet. */
+    private Set<StoredBody> storedBodies = newIdentitySet();
+
+    public LazyBinarySaveItStorage(Path filePath) {
+        super(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlySaveIt> readSaveIt(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        if (!filePath.equals(getSaveItFilePath())) {
+            return super.readSaveIt(filePath);
+        }
+        if (!Files.exists(filePath)) {
+            logger.info("SaveIt file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        synchronized (lock) {
+            DataFile newDataFile = openDataFile(filePath);
+            try {
+                FileIndex index = newDataFile.readIndex();
+                List<StoredBody> bodies = new ArrayList<>();
+                ParallelIssueConverter converter = new ParallelIssueConverter();
+                List<HeaderOnlyIssue> batch = new ArrayList<>(ParallelIssueConverter.BATCH_SIZE);
+                for (IssueHeader header : index.headers) {
+                    StoredBody body = new StoredBody(header.statement, header.bodyOffset, header.bodyLength);
+                    bodies.add(body);
+                    batch.add(new HeaderOnlyIssue(header, body));
+                    if (batch.size() == ParallelIssueConverter.BATCH_SIZE) {
+                        converter.convert(batch);
+                        batch.clear();
+                    }
+                }
+                converter.convert(batch);
+                ReadOnlySaveIt saveIt = converter.toSaveIt();
+
+                closeDataFile();
+                dataFile = newDataFile;
+                dictionary = index.dictionary;
+                storedBodies.addAll(bodies);
+                logger.fine("Loaded " + bodies.size() + " issue headers from " + filePath);
+                return Optional.of(saveIt);
+            } catch (IllegalValueException ive) {
+                newDataFile.close();
+                logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+                throw new DataConversionException(ive);
+            } catch (IOException | RuntimeException e) {
+                newDataFile.close();
+                throw e;
+            }
+        }
+    }
+
+    @Override
+    public void saveSaveIt(ReadOnlySaveIt saveIt, Path filePath) throws IOException {
+        requireNonNull(saveIt);
+        requireNonNull(filePath);
+
+        synchronized (lock) {
+            if (!filePath.equals(getSaveItFilePath()) || dataFile == null) {
+                super.saveSaveIt(saveIt, filePath);
+                return;
+            }
+
+            List<Issue> issues = saveIt.getIssueList();
+            Map<StoredBody, Integer> savedBodies = new IdentityHashMap<>();
+            for (int i = 0; i < issues.size(); i++) {
+                StoredBody body = getStoredBody(issues.get(i));
+                if (body != null) {
+                    savedBodies.putIfAbsent(body, i);
+                }
+            }
+            for (StoredBody body : storedBodies) {
+                if (!savedBodies.containsKey(body)) {
+                    body.detach();
+                }
+            }
+
+            WrittenFile writtenFile;
+            try {
+                writtenFile = replaceFile(issues, filePath);
+            } finally {
+                // whether or not the file was replaced, the bodies are read from the file now at filePath
+                if (dataFile == null) {
+                    dataFile = openDataFile(filePath);
+                }
+            }
+            dictionary = writtenFile.dictionary;
+            // a body loaded while the file was written was written again, so its length is taken from the file
+            for (Map.Entry<StoredBody, Integer> saved : savedBodies.entrySet()) {
+                long[] offsets = writtenFile.bodyOffsets;
+                int i = saved.getValue();
+                saved.getKey().moveTo(offsets[i], (int) (offsets[i + 1] - offsets[i]));
+            }
+            storedBodies = newIdentitySet();
+            storedBodies.addAll(savedBodies.keySet());
+        }
+    }
+
+    @Override
+    void beforeReplacing(Path filePath) throws IOException {
+        // some platforms cannot replace a file that is open
+        if (filePath.equals(getSaveItFilePath())) {
+            closeDataFile();
+        }
+    }
+
+    /**
+     * Keeps the entries of the current dictionary in place, as the bodies copied from the current file refer to them.
+     */
+    @Override
+    Map<String, Integer> createDictionary() {
+        Map<String, Integer> newDictionary = new LinkedHashMap<>();
+        if (dataFile != null && !storedBodies.isEmpty()) {
+            for (String entry : dictionary) {
+                newDictionary.put(entry, newDictionary.size());
+            }
+        }
+        return newDictionary;
+    }
+
+    @Override
+    void writeBody(DataOutput out, Issue issue, Map<String, Integer> dictionary) throws IOException {
+        StoredBody body = dataFile == null ? null : getStoredBody(issue);
+        if (body == null) {
+            super.writeBody(out, issue, dictionary);
+            return;
+        }
+        ByteBuffer bytes = body.readBytes();
+        if (bytes.hasArray()) {
+            out.write(bytes.array(), bytes.arrayOffset() + bytes.position(), bytes.remaining());
+        } else {
+            byte[] copy = new byte[bytes.remaining()];
+            bytes.get(copy);
+            out.write(copy);
+        }
+    }
+
+    /**
+     * Returns the body of {@code issue} in the data file, or null if it is loaded or stored elsewhere.
+     */
+    private StoredBody getStoredBody(Issue issue) {
+        IssueBodyLoader loader = issue.getBodyLoader().orElse(null);
+        return storedBodies.contains(loader) ? (StoredBody) loader : null;
+    }
+
+    private static Set<StoredBody> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * Opens the data file at {@code filePath} for reading its index and bodies.
+     */
+    DataFile openDataFile(Path filePath) throws IOException {
+        return new DataFile(FileChannel.open(filePath, StandardOpenOption.READ));
+    }
+
+    /**
+     * Closes the data file the bodies are read from.
+     * The issues loaded from it that have not loaded their description and solutions cannot load them any more.
+     */
+    public void close() throws IOException {
+        synchronized (lock) {
+            closeDataFile();
+            storedBodies = newIdentitySet();
+        }
+    }
+
+    private void closeDataFile() throws IOException {
+        if (dataFile != null) {
+            dataFile.close();
+            dataFile = null;
+        }
+    }
+
+    /**
+     * An open data file, read with positional reads of its channel.
+     */
+    static class DataFile {
+        final FileChannel channel;
+
+        DataFile(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        FileIndex readIndex() throws IOException, IllegalValueException {
+            return BinarySaveItStorage.readIndex(channel);
+        }
+
+        /**
+         * Returns the {@code length} bytes at {@code offset} of the file.
+         */
+        ByteBuffer readBytes(long offset, int length) throws IOException {
+            ByteBuffer bytes = ByteBuffer.allocate(length);
+            readFully(channel, bytes, offset);
+            bytes.flip();
+            return bytes;
+        }
+
+        void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    /**
+     * The body of an issue in the data file, shared by the copies of the issue, which is read when it is first needed.
+     * The body is only kept once it is detached from the file, for the copies that may come back through undo.
+     */
+    private class StoredBody implements IssueBodyLoader {
+        private final String statement;
+        private long offset;
+        private volatile int length;
+        private IssueBody detachedBody;
+
+        StoredBody(String statement, long offset, int length) {
+            this.statement = statement;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        void moveTo(long newOffset, int newLength) {
+            offset = newOffset;
+            length = newLength;
+        }
+
+        /**
+         * Loads the body before the file it is in is replaced by a file without it.
+         */
+        void detach() {
+            detachedBody = load();
+        }
+
+        ByteBuffer readBytes() throws IOException {
+            return dataFile.readBytes(offset, length);
+        }
+
+        @Override
+        public int getStoredLength() {
+            return length;
+        }
+
+        /**
+         * Reads the bytes of the body under the lock of the storage, and decodes them once it is released.
+         */
+        @Override
+        public IssueBody load() {
+            IssueHeader header;
+            ByteBuffer bytes;
+            String[] bodyDictionary;
+            try {
+                synchronized (lock) {
+                    if (detachedBody != null) {
+                        return detachedBody;
+                    }
+                    if (dataFile == null) {
+                        throw new IOException("The data file is not open");
+                    }
+                    // only the description and solutions of the issue read are used
+                    header = new IssueHeader(UNUSED_ID, statement, Collections.emptyList(), 0, 0, 0, offset, length);
+                    bytes = readBytes();
+                    bodyDictionary = dictionary;
+                }
+                Issue issue = readIssue(header, bytes, bodyDictionary, 0).toModelType();
+                return new IssueBody(issue.getDescription(), issue.getSolutions());
+            } catch (IOException | IllegalValueException e) {
+                throw new IssueBodyUnavailableException(
+                        "Cannot load the description and solutions of " + statement + " from storage", e);
+            }
+        }
+    }
+
+    /**
+     * An issue whose header was read, converted into an Issue that loads its body on demand.
+     */
+    private static class HeaderOnlyIssue implements AdaptedIssue {
+        private final IssueHeader header;
+        private final StoredBody body;
+
+        HeaderOnlyIssue(IssueHeader header, StoredBody body) {
+            this.header = header;
+            this.body = body;
+        }
+
+        @Override
+        public Issue toModelType() throws IllegalValueException {
+            if (!Issue.isValidId(header.id)) {
+                throw new IllegalValueException(Issue.MESSAGE_ID_CONSTRAINTS);
+            }
+            if (!IssueStatement.isValidIssueStatement(header.statement)) {
+                throw new IllegalValueException(IssueStatement.MESSAGE_ISSUE_STATEMENT_CONSTRAINTS);
+            }
+            List<Tag> tags = new ArrayList<>();
+            for (XmlAdaptedTag tag : header.tags) {
+                tags.add(tag.toModelType());
+            }
+            return new Issue(new IssueStatement(header.statement), new LinkedHashSet<>(tags),
+                    new IssueSearchFrequency(header.frequency), new Timestamp(header.createdTime),
+                    new Timestamp(header.lastModifiedTime), body, header.id);
+        }
+    }
+}
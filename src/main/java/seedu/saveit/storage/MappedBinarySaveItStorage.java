@@ -0,0 +1,69 @@
+package seedu.saveit.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.Logger;
+
+import seedu.saveit.commons.core.LogsCenter;
+import seedu.saveit.commons.exceptions.IllegalValueException;
+
+/**
+ * A {@code LazyBinarySaveItStorage} that maps its data file into memory instead of reading it.
+ * The index and the bodies are decoded straight from the mapping, so opening the file costs no reads and no copies
+ * of the file besides the strings of the headers, and a body is only decoded when its issue first needs it.
+ * The pages of the file are shared with the operating system's file cache, which suits read-mostly sessions
+ * over large data files.
+ *
+ * Files larger than a single mapping can hold are read like {@code LazyBinarySaveItStorage} reads them.
+ * Some platforms cannot replace a file while it is mapped, and a mapping is only released when it is garbage
+ * collected, so sessions that save often are better served by {@code LazyBinarySaveItStorage}.
+ */
+public class MappedBinarySaveItStorage extends LazyBinarySaveItStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(MappedBinarySaveItStorage.class);
+
+    public MappedBinarySaveItStorage(Path filePath) {
+        super(filePath);
+    }
+
+    @Override
+    DataFile openDataFile(Path filePath) throws IOException {
+        FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ);
+        try {
+            if (channel.size() > Integer.MAX_VALUE) {
+                logger.info("SaveIt file " + filePath + " is too large to be mapped, reading it instead");
+                return new DataFile(channel);
+            }
+            return new MappedDataFile(channel, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * An open data file, read through a mapping of the whole file.
+     * The mapping stays valid once the channel is closed, and is released when it is garbage collected.
+     */
+    private static class MappedDataFile extends DataFile {
+        private final ByteBuffer mapping;
+
+        MappedDataFile(FileChannel channel, ByteBuffer mapping) {
+            super(channel);
+            this.mapping = mapping;
+        }
+
+        @Override
+        FileIndex readIndex() throws IllegalValueException {
+            return BinarySaveItStorage.readIndex(mapping);
+        }
+
+        @Override
+        ByteBuffer readBytes(long offset, int length) {
+            return slice(mapping, offset, length);
+        }
+    }
+}
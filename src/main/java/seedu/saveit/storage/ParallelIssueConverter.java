@@ -0,0 +1,123 @@
+package seedu.saveit.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import seedu.saveit.commons.exceptions.IllegalValueException;
+import seedu.saveit.model.Issue;
+import seedu.saveit.model.SaveIt;
+import seedu.saveit.model.issue.IssueStatement;
+import seedu.saveit.model.issue.exceptions.DuplicateIssueException;
+
+/**
+ * Converts {@code AdaptedIssue}s read from a data file into the model's issues.
+ * Issues are given in batches and each batch is converted and validated in parallel on the common fork-join pool.
+ * Errors are reported for the first offending issue in file order, whichever thread found it.
+ *
+ * Issues stored without an id are given new ids only once every issue has been converted, so that no issue
+ * stored with an id later in the file can have the same id.
+ */
+public class ParallelIssueConverter {
+
+    /** The number of issues worth reading before converting them together. */
+    public static final int BATCH_SIZE = 1024;
+    public static final String MESSAGE_INVALID_ISSUE_FORMAT = "Issue %d in the data file: %s";
+
+    /** Smaller batches are converted on the calling thread, as splitting them costs more than it saves. */
+    private static final int PARALLEL_THRESHOLD = 64;
+
+    private final List<Issue> issues = new ArrayList<>();
+    /** The positions in {@code issues} of the issues stored without an id. */
+    private final List<Integer> positionsWithoutIds = new ArrayList<>();
+
+    /**
+     * Converts {@code batch}, which follows the issues converted so far in the file.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in {@code batch}.
+     */
+    public void convert(List<? extends AdaptedIssue> batch) throws IllegalValueException {
+        requireNonNull(batch);
+
+        Object[] results = new Object[batch.size()];
+        IntStream indices = IntStream.range(0, batch.size());
+        if (batch.size() >= PARALLEL_THRESHOLD) {
+            indices = indices.parallel();
+        }
+        indices.forEach(i -> results[i] = convert(batch.get(i)));
+
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] instanceof IllegalValueException) {
+                IllegalValueException ive = (IllegalValueException) results[i];
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_ISSUE_FORMAT,
+                        issues.size() + i + 1, ive.getMessage()), ive);
+            }
+        }
+        for (int i = 0; i < results.length; i++) {
+            if (!batch.get(i).hasId()) {
+                positionsWithoutIds.add(issues.size());
+            }
+            issues.add((Issue) results[i]);
+        }
+    }
+
+    /**
+     * Returns the converted issue, or the reason it could not be converted.
+     */
+    private static Object convert(AdaptedIssue issue) {
+        try {
+            return issue.toModelType();
+        } catch (IllegalValueException ive) {
+            return ive;
+        }
+    }
+
+    /**
+     * Returns a SaveIt with all the issues converted so far.
+     *
+     * @throws IllegalValueException if there are duplicate issues.
+     */
+    public SaveIt toSaveIt() throws IllegalValueException {
+        for (int position : positionsWithoutIds) {
+            issues.set(position, withNewId(issues.get(position)));
+        }
+        positionsWithoutIds.clear();
+
+        SaveIt saveIt = new SaveIt();
+        try {
+            saveIt.setIssues(issues);
+        } catch (DuplicateIssueException die) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_ISSUE_FORMAT,
+                    findFirstDuplicate() + 1, XmlSerializableSaveIt.MESSAGE_DUPLICATE_ISSUE), die);
+        }
+        return saveIt;
+    }
+
+    /**
+     * Returns a copy of {@code issue} with an id above that of every issue created so far.
+     */
+    static Issue withNewId(Issue issue) {
+        return new Issue(issue.getStatement(), issue.getDescription(), issue.getSolutions(), issue.getTags(),
+                issue.getFrequency(), issue.getCreatedTime(), issue.getLastModifiedTime(), Issue.generateId());
+    }
+
+    /**
+     * Returns the index of the first issue that duplicates an earlier one, or has the id of an earlier one.
+     */
+    private int findFirstDuplicate() {
+        Map<IssueStatement, Integer> firstIndices = new HashMap<>();
+        Set<Long> ids = new HashSet<>();
+        for (int i = 0; i < issues.size(); i++) {
+            if (firstIndices.putIfAbsent(issues.get(i).getStatement(), i) != null || !ids.add(issues.get(i).getId())) {
+                return i;
+            }
+        }
+        throw new AssertionError("The converted issues have no duplicates");
+    }
+}
@@ -0,0 +1,332 @@
+package seedu.saveit.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.saveit.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.saveit.commons.core.LogsCenter;
+import seedu.saveit.commons.util.FileUtil;
+import seedu.saveit.model.Issue;
+import seedu.saveit.model.ReadOnlySaveIt;
+import seedu.saveit.model.SaveIt;
+import seedu.saveit.model.issue.Description;
+import seedu.saveit.model.issue.IssueSearchFrequency;
+import seedu.saveit.model.issue.IssueStatement;
+import seedu.saveit.model.issue.PrimarySolution;
+import seedu.saveit.model.issue.Solution;
+import seedu.saveit.model.issue.Tag;
+import seedu.saveit.model.issue.exceptions.DuplicateIssueException;
+import seedu.saveit.model.issue.solution.Remark;
+import seedu.saveit.model.issue.solution.SolutionLink;
+
+/**
+ * A binary snapshot of the SaveIt data held in memory, written when the app stops so that the next start can
+ * skip parsing and converting the data files.
+ *
+ * The snapshot records the size, modification time and checksum of each data file it was taken with, and is only
+ * read back while all of them still match, so a data file changed by anything else makes the snapshot stale.
+ * The snapshot ends with a checksum of its own contents, so a damaged snapshot is ignored too.
+ */
+public class SaveItSnapshotCache {
+
+    public static final String SNAPSHOT_EXTENSION = ".snapshot";
+
+    private static final Logger logger = LogsCenter.getLogger(SaveItSnapshotCache.class);
+
+    private static final int MAGIC = 0x5356534e; // "SVSN"
+    private static final int FORMAT_VERSION = 2;
+    private static final long MISSING_FILE_SIZE = -1;
+    private static final String TEMPORARY_EXTENSION = ".tmp";
+
+    private final Path snapshotPath;
+    private final List<Path> dataFilePaths;
+
+    /**
+     * Creates a cache at {@code snapshotPath} of the data stored in {@code dataFilePaths}.
+     * The first data file must exist for a snapshot to be written; the others may be missing.
+     */
+    public SaveItSnapshotCache(Path snapshotPath, List<Path> dataFilePaths) {
+        requireAllNonNull(snapshotPath, dataFilePaths);
+        if (dataFilePaths.isEmpty()) {
+            throw new IllegalArgumentException("A snapshot needs at least one data file");
+        }
+        this.snapshotPath = snapshotPath;
+        this.dataFilePaths = new ArrayList<>(dataFilePaths);
+    }
+
+    /**
+     * Returns the path of the snapshot kept next to the data file at {@code saveItFilePath}.
+     */
+    public static Path getSnapshotPath(Path saveItFilePath) {
+        return saveItFilePath.resolveSibling(saveItFilePath.getFileName() + SNAPSHOT_EXTENSION);
+    }
+
+    public Path getSnapshotFilePath() {
+        return snapshotPath;
+    }
+
+    /**
+     * Returns the data in the snapshot, or {@code Optional.empty()} if there is no snapshot, the data files
+     * changed since it was written, or it is damaged.
+     *
+     * @throws IOException if there was any problem when reading the snapshot or the data files.
+     */
+    public Optional<ReadOnlySaveIt> readSnapshot() throws IOException {
+        if (!Files.exists(snapshotPath)) {
+            return Optional.empty();
+        }
+
+        byte[] bytes = Files.readAllBytes(snapshotPath);
+        int contentLength = bytes.length - Long.BYTES;
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, 0, Math.max(contentLength, 0)))) {
+            if (in.readInt() != MAGIC || in.readByte() != FORMAT_VERSION) {
+                logger.info("Ignoring snapshot " + snapshotPath + " of another format");
+                return Optional.empty();
+            }
+            if (!isTakenWith(in)) {
+                logger.info("Ignoring snapshot " + snapshotPath + " as the data files changed since it was written");
+                return Optional.empty();
+            }
+            CRC32 crc = new CRC32();
+            crc.update(bytes, 0, contentLength);
+            if (crc.getValue() != readTrailingChecksum(bytes, contentLength)) {
+                logger.warning("Ignoring damaged snapshot " + snapshotPath);
+                return Optional.empty();
+            }
+
+            SaveIt saveIt = new SaveIt();
+            saveIt.setIssues(readIssues(in));
+            return Optional.of(saveIt);
+        } catch (EOFException | IllegalArgumentException | DuplicateIssueException e) {
+            logger.warning("Ignoring damaged snapshot " + snapshotPath + ": " + e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Writes {@code saveIt} as the snapshot of the data files as they are now.
+     * {@code saveIt} must hold the data that is in the data files, and the data files must not change meanwhile.
+     * No snapshot is written if the first data file is missing, and any older snapshot is deleted.
+     *
+     * @throws IOException if there was any problem when reading the data files or writing the snapshot.
+     */
+    public void saveSnapshot(ReadOnlySaveIt saveIt) throws IOException {
+        requireNonNull(saveIt);
+        if (!Files.exists(dataFilePaths.get(0))) {
+            deleteSnapshot();
+            return;
+        }
+
+        FileUtil.createParentDirsOfFile(snapshotPath);
+        Path temporaryPath = snapshotPath.resolveSibling(snapshotPath.getFileName() + TEMPORARY_EXTENSION);
+        CRC32 crc = new CRC32();
+        try (OutputStream file = new BufferedOutputStream(Files.newOutputStream(temporaryPath))) {
+            DataOutputStream out = new DataOutputStream(new CheckedOutputStream(file, crc));
+            out.writeInt(MAGIC);
+            out.writeByte(FORMAT_VERSION);
+            for (Path dataFilePath : dataFilePaths) {
+                writeFingerprint(out, dataFilePath);
+            }
+            writeIssues(out, saveIt.getIssueList());
+            out.flush();
+            new DataOutputStream(file).writeLong(crc.getValue());
+        }
+        try {
+            Files.move(temporaryPath, snapshotPath, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException amnse) {
+            Files.move(temporaryPath, snapshotPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Deletes the snapshot, if there is one.
+     */
+    public void deleteSnapshot() throws IOException {
+        Files.deleteIfExists(snapshotPath);
+    }
+
+    private static void writeFingerprint(DataOutputStream out, Path dataFilePath) throws IOException {
+        if (!Files.exists(dataFilePath)) {
+            out.writeLong(MISSING_FILE_SIZE);
+            return;
+        }
+        out.writeLong(Files.size(dataFilePath));
+        out.writeLong(Files.getLastModifiedTime(dataFilePath).toMillis());
+        out.writeLong(checksumOf(dataFilePath));
+    }
+
+    /**
+     * Returns true if the data files are the same as when the snapshot in {@code in} was written.
+     * The checksum of a file is only computed once its size and modification time match.
+     */
+    private boolean isTakenWith(DataInputStream in) throws IOException {
+        for (Path dataFilePath : dataFilePaths) {
+            long size = in.readLong();
+            if (size == MISSING_FILE_SIZE) {
+                if (Files.exists(dataFilePath)) {
+                    return false;
+                }
+                continue;
+            }
+            long lastModifiedMillis = in.readLong();
+            long checksum = in.readLong();
+            if (!Files.exists(dataFilePath)
+                    || Files.size(dataFilePath) != size
+                    || Files.getLastModifiedTime(dataFilePath).toMillis() != lastModifiedMillis
+                    || checksumOf(dataFilePath) != checksum) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes {@code issues}, with the names of their tags written once before them.
+     */
+    private static void writeIssues(DataOutputStream out, List<Issue> issues) throws IOException {
+        Map<String, Integer> tagIds = new HashMap<>();
+        List<String> tagNames = new ArrayList<>();
+        for (Issue issue : issues) {
+            for (Tag tag : issue.getTags()) {
+                if (tagIds.putIfAbsent(tag.tagName, tagNames.size()) == null) {
+                    tagNames.add(tag.tagName);
+                }
+            }
+        }
+        out.writeInt(tagNames.size());
+        for (String tagName : tagNames) {
+            writeString(out, tagName);
+        }
+
+        out.writeInt(issues.size());
+        for (Issue issue : issues) {
+            out.writeLong(issue.getId());
+            writeString(out, issue.getStatement().getValue());
+            writeString(out, issue.getDescription().getValue());
+            out.writeInt(issue.getTags().size());
+            for (Tag tag : issue.getTags()) {
+                out.writeInt(tagIds.get(tag.tagName));
+            }
+            out.writeInt(issue.getSolutions().size());
+            for (Solution solution : issue.getSolutions()) {
+                out.writeBoolean(solution.isPrimarySolution());
+                writeString(out, solution.getLink().getValue());
+                writeString(out, solution.getRemark().getValue());
+            }
+            out.writeInt(issue.getFrequency().getValue());
+            out.writeLong(issue.getCreatedTime().getTime());
+            out.writeLong(issue.getLastModifiedTime().getTime());
+        }
+    }
+
+    /**
+     * Reads the issues written by {@link #writeIssues}.
+     * Each tag is created once and shared by the issues that have it.
+     *
+     * @throws IllegalArgumentException if a value read is not valid.
+     */
+    private static List<Issue> readIssues(DataInputStream in) throws IOException {
+        Tag[] tags = new Tag[readCount(in)];
+        for (int i = 0; i < tags.length; i++) {
+            tags[i] = new Tag(readString(in));
+        }
+
+        int issueCount = readCount(in);
+        List<Issue> issues = new ArrayList<>(issueCount);
+        for (int i = 0; i < issueCount; i++) {
+            long id = in.readLong();
+            IssueStatement statement = new IssueStatement(readString(in));
+            Description description = new Description(readString(in));
+            int tagCount = readCount(in);
+            Set<Tag> issueTags = new LinkedHashSet<>();
+            for (int j = 0; j < tagCount; j++) {
+                int tagId = in.readInt();
+                if (tagId < 0 || tagId >= tags.length) {
+                    throw new IllegalArgumentException("Unknown tag " + tagId);
+                }
+                issueTags.add(tags[tagId]);
+            }
+            int solutionCount = readCount(in);
+            List<Solution> solutions = new ArrayList<>(solutionCount);
+            for (int j = 0; j < solutionCount; j++) {
+                boolean isPrimarySolution = in.readBoolean();
+                SolutionLink link = new SolutionLink(readString(in));
+                Remark remark = new Remark(readString(in));
+                solutions.add(isPrimarySolution ? new PrimarySolution(link, remark) : new Solution(link, remark));
+            }
+            IssueSearchFrequency frequency = new IssueSearchFrequency(in.readInt());
+            Timestamp createdTime = new Timestamp(in.readLong());
+            Timestamp lastModifiedTime = new Timestamp(in.readLong());
+            issues.add(new Issue(statement, description, solutions, issueTags, frequency, createdTime,
+                    lastModifiedTime, id));
+        }
+        if (in.available() > 0) {
+            throw new IllegalArgumentException("Unexpected bytes after the issues");
+        }
+        return issues;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[readCount(in)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a count or length, which cannot be more than the bytes left in {@code in} in a valid snapshot.
+     */
+    private static int readCount(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        if (count < 0 || count > in.available()) {
+            throw new IllegalArgumentException("Invalid count " + count);
+        }
+        return count;
+    }
+
+    private static long readTrailingChecksum(byte[] bytes, int contentLength) throws IOException {
+        return new DataInputStream(new ByteArrayInputStream(bytes, contentLength, Long.BYTES)).readLong();
+    }
+
+    private static long checksumOf(Path file) throws IOException {
+        CRC32 crc = new CRC32();
+        byte[] buffer = new byte[8192];
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) > 0) {
+                crc.update(buffer, 0, read);
+            }
+        }
+        return crc.getValue();
+    }
+}
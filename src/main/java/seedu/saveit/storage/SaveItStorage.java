@@ -2,8 +2,10 @@ package seedu.saveit.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
+import seedu.saveit.commons.events.BaseEvent;
 import seedu.saveit.commons.exceptions.DataConversionException;
 import seedu.saveit.model.ReadOnlySaveIt;
 import seedu.saveit.model.SaveIt;
@@ -31,6 +33,15 @@ public interface SaveItStorage {
      */
     Optional<ReadOnlySaveIt> readSaveIt(Path filePath) throws DataConversionException, IOException;
 
+    /**
+     * Returns the SaveIt data that can still be read from a storage file that is not in the expected format.
+     *   Returns {@code Optional.empty()} if nothing can be recovered from it.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    default Optional<ReadOnlySaveIt> recoverSaveIt() throws IOException {
+        return Optional.empty();
+    }
+
     /**
      * Saves the given {@link ReadOnlySaveIt} to the storage.
      * @param saveIt cannot be null.
@@ -43,4 +54,15 @@ public interface SaveItStorage {
      */
     void saveSaveIt(ReadOnlySaveIt saveIt, Path filePath) throws IOException;
 
+    /**
+     * Saves {@code saveIt}, which the issue level events in {@code issueEvents} lead to from the data this storage
+     * saved or read last, so that a storage that writes changes only writes those.
+     * {@code issueEvents} is null if they are not known. Storages that do not write changes save all of {@code saveIt}.
+     * @param saveIt cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    default void saveChanges(ReadOnlySaveIt saveIt, List<BaseEvent> issueEvents) throws IOException {
+        saveSaveIt(saveIt);
+    }
+
 }
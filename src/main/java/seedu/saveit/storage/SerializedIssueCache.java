@@ -0,0 +1,84 @@
+package seedu.saveit.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import seedu.saveit.commons.core.LogsCenter;
+import seedu.saveit.model.Issue;
+
+/**
+ * Keeps the encoded form of each issue written, so that writing the issues again only encodes those that changed.
+ *
+ * Issues are immutable except for their search frequency, and an edit replaces an issue by a new one.
+ * An issue and its frequency when it was encoded are therefore a fingerprint of its content that is exact
+ * and costs nothing to compute, unlike a hash of all its fields.
+ * Only the issues of the latest write are kept, so issues removed from the list are not held on to.
+ */
+public class SerializedIssueCache {
+
+    private static final Logger logger = LogsCenter.getLogger(SerializedIssueCache.class);
+
+    private Map<Issue, SerializedIssue> serializedIssues = new IdentityHashMap<>();
+    private int lastEncodedCount;
+
+    /**
+     * Encodes an issue with the given search frequency, which is read once by the cache so that the encoded
+     * form and the fingerprint agree.
+     */
+    @FunctionalInterface
+    public interface IssueEncoder {
+        byte[] encode(Issue issue, int frequency) throws IOException;
+    }
+
+    /**
+     * Writes the encoded form of each of {@code issues} to {@code out}, encoding with {@code encoder}
+     * only the issues that are not in the cache.
+     */
+    public synchronized void write(List<Issue> issues, OutputStream out, IssueEncoder encoder) throws IOException {
+        requireNonNull(issues);
+        requireNonNull(out);
+        requireNonNull(encoder);
+
+        Map<Issue, SerializedIssue> writtenIssues = new IdentityHashMap<>();
+        int encodedCount = 0;
+        for (Issue issue : issues) {
+            int frequency = issue.getFrequency().getValue();
+            SerializedIssue serializedIssue = serializedIssues.get(issue);
+            if (serializedIssue == null || serializedIssue.frequency != frequency) {
+                serializedIssue = new SerializedIssue(frequency, encoder.encode(issue, frequency));
+                encodedCount++;
+            }
+            writtenIssues.put(issue, serializedIssue);
+            out.write(serializedIssue.bytes);
+        }
+        serializedIssues = writtenIssues;
+        lastEncodedCount = encodedCount;
+        logger.fine("Encoded " + encodedCount + " of " + issues.size() + " issues");
+    }
+
+    /**
+     * Returns the number of issues encoded by the latest write, rather than taken from the cache.
+     */
+    public synchronized int getLastEncodedCount() {
+        return lastEncodedCount;
+    }
+
+    /**
+     * The encoded form of an issue, and the search frequency it was encoded with.
+     */
+    private static class SerializedIssue {
+        private final int frequency;
+        private final byte[] bytes;
+
+        SerializedIssue(int frequency, byte[] bytes) {
+            this.frequency = frequency;
+            this.bytes = bytes;
+        }
+    }
+}
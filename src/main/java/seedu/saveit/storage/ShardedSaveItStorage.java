@@ -0,0 +1,354 @@
+package seedu.saveit.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.saveit.commons.util.AppUtil.checkArgument;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+import javax.xml.bind.JAXBException;
+
+import seedu.saveit.commons.core.LogsCenter;
+import seedu.saveit.commons.exceptions.DataConversionException;
+import seedu.saveit.commons.exceptions.IllegalValueException;
+import seedu.saveit.commons.util.FileUtil;
+import seedu.saveit.commons.util.XmlUtil;
+import seedu.saveit.model.Issue;
+import seedu.saveit.model.ReadOnlySaveIt;
+import seedu.saveit.model.SaveIt;
+import seedu.saveit.model.issue.exceptions.DuplicateIssueException;
+
+/**
+ * A class to access SaveIt data stored as a manifest and a directory of xml shard files.
+ * Each shard holds a run of consecutive issues of the list, and the manifest lists the shards in order,
+ * so the order of the issues is kept without the manifest listing them.
+ *
+ * A save only writes the shards whose issues changed since the previous save, as new files, and then replaces
+ * the manifest. Shards that grow past the maximum size are split, and shards left empty are dropped.
+ * The files of shards that are no longer listed are deleted once the new manifest is in place,
+ * so a save that is interrupted leaves the previous data intact.
+ * Loading reads the shards in parallel.
+ */
+public class ShardedSaveItStorage implements SaveItStorage {
+
+    public static final int DEFAULT_MAX_SHARD_SIZE = 1024;
+    public static final String MESSAGE_SHARD_FORMAT = "Shard %s: %s";
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedSaveItStorage.class);
+
+    private static final String SHARD_DIRECTORY_EXTENSION = ".shards";
+    private static final String TEMPORARY_EXTENSION = ".tmp";
+
+    private final Path filePath;
+    private final int maxShardSize;
+
+    /** The shards as last saved to or read from {@code filePath}, in order, or null if they are not known. */
+    private List<Shard> savedShards;
+    private int nextShardId;
+
+    public ShardedSaveItStorage(Path filePath) {
+        this(filePath, DEFAULT_MAX_SHARD_SIZE);
+    }
+
+    /**
+     * Creates a storage that splits shards once they hold more than {@code maxShardSize} issues.
+     */
+    public ShardedSaveItStorage(Path filePath, int maxShardSize) {
+        requireNonNull(filePath);
+        checkArgument(maxShardSize > 1, "Maximum shard size must be more than one");
+        this.filePath = filePath;
+        this.maxShardSize = maxShardSize;
+    }
+
+    @Override
+    public Path getSaveItFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the directory of the shard files of the data with its manifest at {@code filePath}.
+     */
+    public static Path getShardDirectory(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + SHARD_DIRECTORY_EXTENSION);
+    }
+
+    @Override
+    public Optional<ReadOnlySaveIt> readSaveIt() throws DataConversionException, IOException {
+        return readSaveIt(filePath);
+    }
+
+    /**
+     * Similar to {@link #readSaveIt()}
+     * @param filePath location of the manifest. Cannot be null
+     * @throws DataConversionException if the manifest or a shard is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlySaveIt> readSaveIt(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("SaveIt file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        List<Integer> shardIds;
+        try {
+            shardIds = XmlUtil.getDataFromFile(filePath, XmlSerializableShardManifest.class).toShardIds();
+        } catch (JAXBException | IllegalValueException e) {
+            logger.info("Invalid shard manifest " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+
+        List<Shard> shards = readShards(getShardDirectory(filePath), shardIds);
+        List<Issue> issues = new ArrayList<>();
+        shards.forEach(shard -> issues.addAll(shard.issues));
+        SaveIt saveIt = new SaveIt();
+        try {
+            saveIt.setIssues(issues);
+        } catch (DuplicateIssueException die) {
+            throw new DataConversionException(die);
+        }
+
+        if (filePath.equals(this.filePath)) {
+            savedShards = shards;
+            nextShardId = shardIds.stream().mapToInt(Integer::intValue).max().orElse(-1) + 1;
+        }
+        logger.fine("Loaded " + issues.size() + " issues from " + shards.size() + " shards of " + filePath);
+        return Optional.of(saveIt);
+    }
+
+    /**
+     * Reads the shards with {@code shardIds} from {@code shardDirectory} in parallel.
+     * Errors are reported for the first shard in order that has one, whichever thread found it.
+     */
+    private static List<Shard> readShards(Path shardDirectory, List<Integer> shardIds)
+            throws DataConversionException, IOException {
+        Object[] results = new Object[shardIds.size()];
+        IntStream.range(0, shardIds.size()).parallel().forEach(i -> {
+            Path shardPath = shardDirectory.resolve(XmlSerializableShardManifest.toFileName(shardIds.get(i)));
+            try {
+                if (!Files.exists(shardPath)) {
+                    throw new FileNotFoundException("Shard file not found : " + shardPath.toAbsolutePath());
+                }
+                results[i] = new Shard(shardIds.get(i),
+                        XmlStreamingSaveItCodec.readSaveIt(shardPath).getIssueList(), new SerializedIssueCache());
+            } catch (DataConversionException | IllegalValueException | IOException e) {
+                results[i] = e;
+            }
+        });
+
+        List<Shard> shards = new ArrayList<>(results.length);
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] instanceof IllegalValueException || results[i] instanceof FileNotFoundException) {
+                Exception e = (Exception) results[i];
+                String message = String.format(MESSAGE_SHARD_FORMAT,
+                        XmlSerializableShardManifest.toFileName(shardIds.get(i)), e.getMessage());
+                logger.info("Illegal values found in " + shardDirectory + ": " + message);
+                throw new DataConversionException(new IllegalValueException(message, e));
+            } else if (results[i] instanceof DataConversionException) {
+                throw (DataConversionException) results[i];
+            } else if (results[i] instanceof IOException) {
+                throw (IOException) results[i];
+            }
+            shards.add((Shard) results[i]);
+        }
+        return shards;
+    }
+
+    @Override
+    public void saveSaveIt(ReadOnlySaveIt saveIt) throws IOException {
+        saveSaveIt(saveIt, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveSaveIt(ReadOnlySaveIt)}
+     * Only the data at {@link #getSaveItFilePath()} is rewritten in part; other locations are written in full.
+     * @param filePath location of the manifest. Cannot be null
+     */
+    @Override
+    public void saveSaveIt(ReadOnlySaveIt saveIt, Path filePath) throws IOException {
+        requireNonNull(saveIt);
+        requireNonNull(filePath);
+
+        Path shardDirectory = getShardDirectory(filePath);
+        boolean isPartialSave = filePath.equals(this.filePath) && savedShards != null;
+        List<Shard> previousShards = isPartialSave ? savedShards : Collections.emptyList();
+        int shardId = isPartialSave ? nextShardId : findNextFreeShardId(shardDirectory);
+        List<Issue> issues = new ArrayList<>(saveIt.getIssueList());
+
+        List<List<Issue>> contents = assignToShards(previousShards, issues);
+        List<Shard> shards = new ArrayList<>();
+        List<Shard> changedShards = new ArrayList<>();
+        for (int i = 0; i < contents.size(); i++) {
+            Shard previousShard = i < previousShards.size() ? previousShards.get(i) : null;
+            List<Issue> shardIssues = contents.get(i);
+            if (previousShard != null && previousShard.hasIssues(shardIssues)) {
+                shards.add(previousShard);
+                continue;
+            }
+            // a shard that grew too large is split into shards half full, so that it is not split again soon
+            int chunkSize = previousShard == null ? maxShardSize : maxShardSize / 2;
+            int chunkCount = shardIssues.size() > maxShardSize
+                    ? (shardIssues.size() + chunkSize - 1) / chunkSize : 1;
+            for (int chunk = 0; chunk < chunkCount && !shardIssues.isEmpty(); chunk++) {
+                // only the first chunk reuses the encoded issues of the shard, as a cache keeps one write
+                SerializedIssueCache cache = previousShard != null && chunk == 0
+                        ? previousShard.serializedIssues : new SerializedIssueCache();
+                Shard shard = new Shard(shardId++, shardIssues.subList(shardIssues.size() * chunk / chunkCount,
+                        shardIssues.size() * (chunk + 1) / chunkCount), cache);
+                shards.add(shard);
+                changedShards.add(shard);
+            }
+        }
+        if (isPartialSave && changedShards.isEmpty() && shards.size() == previousShards.size()) {
+            return;
+        }
+
+        Files.createDirectories(shardDirectory);
+        for (Shard shard : changedShards) {
+            XmlStreamingSaveItCodec.saveIssues(shardDirectory.resolve(shard.getFileName()), shard.issues,
+                    shard.serializedIssues);
+        }
+        writeManifest(filePath, shards);
+        deleteUnlistedShards(shardDirectory, shards);
+
+        if (filePath.equals(this.filePath)) {
+            savedShards = shards;
+            nextShardId = shardId;
+        }
+        logger.fine("Wrote " + changedShards.size() + " of " + shards.size() + " shards of " + filePath);
+    }
+
+    /**
+     * Returns the issues of each of {@code previousShards} after the save of {@code issues}, with one more list
+     * if there are no previous shards. Each issue stays in its shard as long as the order of the shards allows,
+     * and issues that are new, or moved before issues of a later shard, join the shard of the issue before them.
+     */
+    private static List<List<Issue>> assignToShards(List<Shard> previousShards, List<Issue> issues) {
+        Map<Issue, Integer> previousPositions = new IdentityHashMap<>();
+        List<List<Issue>> contents = new ArrayList<>();
+        for (int i = 0; i < previousShards.size(); i++) {
+            for (Issue issue : previousShards.get(i).issues) {
+                previousPositions.put(issue, i);
+            }
+            contents.add(new ArrayList<>());
+        }
+        if (contents.isEmpty()) {
+            contents.add(new ArrayList<>());
+        }
+
+        int current = 0;
+        for (Issue issue : issues) {
+            current = Math.max(current, previousPositions.getOrDefault(issue, current));
+            contents.get(current).add(issue);
+        }
+        return contents;
+    }
+
+    /**
+     * Returns an id that no shard file in {@code shardDirectory} has, so that no file listed by the manifest
+     * there is overwritten before the manifest is.
+     */
+    private static int findNextFreeShardId(Path shardDirectory) throws IOException {
+        if (!Files.isDirectory(shardDirectory)) {
+            return 0;
+        }
+        int nextFreeShardId = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(shardDirectory)) {
+            for (Path file : files) {
+                int shardId = XmlSerializableShardManifest.toShardId(file.getFileName().toString());
+                nextFreeShardId = Math.max(nextFreeShardId, shardId + 1);
+            }
+        }
+        return nextFreeShardId;
+    }
+
+    private static void writeManifest(Path filePath, List<Shard> shards) throws IOException {
+        List<Integer> shardIds = new ArrayList<>();
+        shards.forEach(shard -> shardIds.add(shard.id));
+        Path temporaryPath = filePath.resolveSibling(filePath.getFileName() + TEMPORARY_EXTENSION);
+        FileUtil.createIfMissing(temporaryPath);
+        try {
+            XmlUtil.saveDataToFile(temporaryPath, new XmlSerializableShardManifest(shardIds));
+        } catch (JAXBException e) {
+            throw new AssertionError("Unexpected exception " + e.getMessage(), e);
+        }
+        try {
+            Files.move(temporaryPath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException amnse) {
+            Files.move(temporaryPath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Deletes the shard files in {@code shardDirectory} that are not among {@code shards},
+     * including any left behind by a save that was interrupted.
+     */
+    private static void deleteUnlistedShards(Path shardDirectory, List<Shard> shards) {
+        Set<String> listedFiles = new HashSet<>();
+        shards.forEach(shard -> listedFiles.add(shard.getFileName()));
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(shardDirectory)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                if (XmlSerializableShardManifest.toShardId(fileName) >= 0 && !listedFiles.contains(fileName)) {
+                    Files.delete(file);
+                }
+            }
+        } catch (IOException ioe) {
+            logger.warning("Could not delete unused shards in " + shardDirectory + ": " + ioe.getMessage());
+        }
+    }
+
+    /**
+     * A run of consecutive issues stored in one file, with their search frequencies when it was written,
+     * as they can change in place.
+     */
+    private static class Shard {
+        private final int id;
+        private final List<Issue> issues;
+        private final List<Integer> frequencies = new ArrayList<>();
+        private final SerializedIssueCache serializedIssues;
+
+        Shard(int id, List<Issue> issues, SerializedIssueCache serializedIssues) {
+            this.id = id;
+            this.issues = new ArrayList<>(issues);
+            this.serializedIssues = serializedIssues;
+            issues.forEach(issue -> frequencies.add(issue.getFrequency().getValue()));
+        }
+
+        String getFileName() {
+            return XmlSerializableShardManifest.toFileName(id);
+        }
+
+        /**
+         * Returns true if this shard was written with {@code otherIssues}, in the same order.
+         */
+        boolean hasIssues(List<Issue> otherIssues) {
+            if (otherIssues.size() != issues.size()) {
+                return false;
+            }
+            for (int i = 0; i < issues.size(); i++) {
+                if (otherIssues.get(i) != issues.get(i)
+                        || !frequencies.get(i).equals(otherIssues.get(i).getFrequency().getValue())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,576 @@
+package seedu.saveit.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.saveit.commons.core.LogsCenter;
+import seedu.saveit.commons.exceptions.DataConversionException;
+import seedu.saveit.commons.exceptions.IllegalValueException;
+import seedu.saveit.commons.util.FileUtil;
+import seedu.saveit.model.Issue;
+import seedu.saveit.model.ReadOnlySaveIt;
+import seedu.saveit.model.issue.Solution;
+import seedu.saveit.model.issue.Tag;
+
+/**
+ * A class to access SaveIt data stored in an embedded H2 database on the hard disk, which runs in the same process.
+ * Issues, their solutions and their tags are kept in tables of their own, with indexes on the issue statement
+ * and the tag name. The row of an issue is keyed by the id of the issue.
+ *
+ * A save only inserts, updates and deletes the rows of the issues that changed since the previous save.
+ * Issues are kept in order by a position with gaps between consecutive issues, so that issues added or moved
+ * between others only need positions of their own.
+ * Finding the changed rows still compares every issue saved with the previous save by identity and frequency
+ * in memory, so a save costs O(n) time even though only the changed rows are written.
+ *
+ * The database files are named after the data file, with the extension the database adds.
+ * If there is no database yet but there is an xml data file at the data file path, it is imported.
+ */
+public class SqlSaveItStorage implements SaveItStorage {
+
+    /** The extension that H2 adds to the path of a database. */
+    public static final String DATABASE_EXTENSION = ".mv.db";
+
+    private static final Logger logger = LogsCenter.getLogger(SqlSaveItStorage.class);
+
+    private static final long POSITION_GAP = 1L << 16;
+    private static final String[] CREATE_SCHEMA = {
+        "CREATE TABLE IF NOT EXISTS issue (id BIGINT PRIMARY KEY, position BIGINT NOT NULL,"
+                + " statement VARCHAR NOT NULL, description VARCHAR NOT NULL, frequency INT NOT NULL,"
+                + " created_time BIGINT NOT NULL, last_modified_time BIGINT NOT NULL)",
+        "CREATE UNIQUE INDEX IF NOT EXISTS issue_statement ON issue(statement)",
+        "CREATE INDEX IF NOT EXISTS issue_position ON issue(position)",
+        "CREATE TABLE IF NOT EXISTS solution (issue_id BIGINT NOT NULL REFERENCES issue(id) ON DELETE CASCADE,"
+                + " ordinal INT NOT NULL, link VARCHAR NOT NULL, remark VARCHAR NOT NULL,"
+                + " is_primary BOOLEAN NOT NULL, PRIMARY KEY (issue_id, ordinal))",
+        "CREATE TABLE IF NOT EXISTS tag (id BIGINT PRIMARY KEY, name VARCHAR NOT NULL)",
+        "CREATE UNIQUE INDEX IF NOT EXISTS tag_name ON tag(name)",
+        "CREATE TABLE IF NOT EXISTS issue_tag (issue_id BIGINT NOT NULL REFERENCES issue(id) ON DELETE CASCADE,"
+                + " tag_id BIGINT NOT NULL REFERENCES tag(id), ordinal INT NOT NULL,"
+                + " PRIMARY KEY (issue_id, tag_id))",
+        "CREATE INDEX IF NOT EXISTS issue_tag_tag ON issue_tag(tag_id)"
+    };
+
+    private final Path filePath;
+    /** The database at {@code filePath}, or null if it is not open. */
+    private Database database;
+
+    public SqlSaveItStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getSaveItFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns true if there is a database for the data file at {@code filePath}.
+     */
+    public static boolean isDatabasePresent(Path filePath) {
+        return Files.exists(filePath.resolveSibling(filePath.getFileName() + DATABASE_EXTENSION));
+    }
+
+    @Override
+    public Optional<ReadOnlySaveIt> readSaveIt() throws DataConversionException, IOException {
+        return readSaveIt(filePath);
+    }
+
+    /**
+     * Similar to {@link #readSaveIt()}
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the database cannot be read or its data is not valid.
+     */
+    @Override
+    public synchronized Optional<ReadOnlySaveIt> readSaveIt(Path filePath) throws DataConversionException,
+            IOException {
+        requireNonNull(filePath);
+
+        if (!isDatabasePresent(filePath)) {
+            if (Files.exists(filePath)) {
+                logger.info("Importing xml data file " + filePath + " into a new database");
+                return new XmlSaveItStorage(filePath).readSaveIt();
+            }
+            logger.info("SaveIt database for " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            if (!filePath.equals(this.filePath)) {
+                try (Database otherDatabase = new Database(filePath)) {
+                    return Optional.of(otherDatabase.read());
+                }
+            }
+            return Optional.of(getDatabase().read());
+        } catch (SQLException sqle) {
+            logger.info("Cannot read database for " + filePath + ": " + sqle.getMessage());
+            throw new DataConversionException(sqle);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in database for " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveSaveIt(ReadOnlySaveIt saveIt) throws IOException {
+        saveSaveIt(saveIt, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveSaveIt(ReadOnlySaveIt)}
+     * @param filePath location of the data. Cannot be null
+     */
+    @Override
+    public synchronized void saveSaveIt(ReadOnlySaveIt saveIt, Path filePath) throws IOException {
+        requireNonNull(saveIt);
+        requireNonNull(filePath);
+
+        try {
+            if (!filePath.equals(this.filePath)) {
+                try (Database otherDatabase = new Database(filePath)) {
+                    otherDatabase.write(saveIt.getIssueList());
+                }
+                return;
+            }
+            getDatabase().write(saveIt.getIssueList());
+        } catch (SQLException sqle) {
+            throw new IOException(sqle);
+        }
+    }
+
+    /**
+     * Replaces the data in the database with the data in the xml data file at {@code xmlFilePath}.
+     *
+     * @throws DataConversionException if the xml data file is not in the correct format.
+     */
+    public void importFromXml(Path xmlFilePath) throws DataConversionException, IOException {
+        requireNonNull(xmlFilePath);
+        Optional<ReadOnlySaveIt> saveIt = new XmlSaveItStorage(xmlFilePath).readSaveIt();
+        if (!saveIt.isPresent()) {
+            throw new IOException("Xml data file " + xmlFilePath + " not found");
+        }
+        saveSaveIt(saveIt.get());
+    }
+
+    /**
+     * Writes the data in the database to an xml data file at {@code xmlFilePath}.
+     *
+     * @throws DataConversionException if the database cannot be read or its data is not valid.
+     */
+    public synchronized void exportToXml(Path xmlFilePath) throws DataConversionException, IOException {
+        requireNonNull(xmlFilePath);
+        if (!isDatabasePresent(filePath)) {
+            throw new IOException("SaveIt database for " + filePath + " not found");
+        }
+
+        // read through a connection of its own, so that the rows known to this storage stay those of the model
+        ReadOnlySaveIt saveIt;
+        try (Database exportedDatabase = new Database(filePath)) {
+            saveIt = exportedDatabase.read();
+        } catch (SQLException sqle) {
+            throw new DataConversionException(sqle);
+        } catch (IllegalValueException ive) {
+            throw new DataConversionException(ive);
+        }
+        new XmlSaveItStorage(xmlFilePath).saveSaveIt(saveIt);
+    }
+
+    private Database getDatabase() throws IOException, SQLException {
+        if (database == null) {
+            database = new Database(filePath);
+        }
+        return database;
+    }
+
+    /**
+     * A connection to the database of a data file, and what is known of the rows in it.
+     */
+    private static class Database implements AutoCloseable {
+        private final Connection connection;
+        /** The rows of the issues as last read from or written to the database, or null if they are not known. */
+        private Map<Issue, IssueRow> issueRows;
+        private final Map<String, Long> tagIds = new HashMap<>();
+        private long nextTagId;
+
+        Database(Path filePath) throws IOException, SQLException {
+            FileUtil.createParentDirsOfFile(filePath);
+            connection = DriverManager.getConnection("jdbc:h2:file:" + filePath.toAbsolutePath());
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                for (String sql : CREATE_SCHEMA) {
+                    statement.execute(sql);
+                }
+            }
+            connection.commit();
+            readIds();
+        }
+
+        private void readIds() throws SQLException {
+            tagIds.clear();
+            try (Statement statement = connection.createStatement()) {
+                try (ResultSet rows = statement.executeQuery("SELECT id, name FROM tag")) {
+                    while (rows.next()) {
+                        tagIds.put(rows.getString(2), rows.getLong(1));
+                    }
+                }
+                nextTagId = tagIds.values().stream().mapToLong(Long::longValue).max().orElse(0) + 1;
+            }
+        }
+
+        /**
+         * Reads all the issues in the database, in order.
+         */
+        ReadOnlySaveIt read() throws SQLException, IllegalValueException {
+            Map<Long, List<XmlAdaptedSolution>> solutions = new HashMap<>();
+            Map<Long, List<XmlAdaptedTag>> tags = new HashMap<>();
+            List<Long> ids = new ArrayList<>();
+            List<Long> positions = new ArrayList<>();
+            List<XmlAdaptedIssue> adaptedIssues = new ArrayList<>();
+
+            try (Statement statement = connection.createStatement()) {
+                try (ResultSet rows = statement.executeQuery(
+                        "SELECT issue_id, link, remark, is_primary FROM solution ORDER BY issue_id, ordinal")) {
+                    while (rows.next()) {
+                        solutions.computeIfAbsent(rows.getLong(1), unused -> new ArrayList<>())
+                                .add(new XmlAdaptedSolution(rows.getString(2), rows.getString(3), rows.getBoolean(4)));
+                    }
+                }
+                try (ResultSet rows = statement.executeQuery("SELECT issue_tag.issue_id, tag.name FROM issue_tag"
+                        + " JOIN tag ON issue_tag.tag_id = tag.id ORDER BY issue_tag.issue_id, issue_tag.ordinal")) {
+                    while (rows.next()) {
+                        tags.computeIfAbsent(rows.getLong(1), unused -> new ArrayList<>())
+                                .add(new XmlAdaptedTag(rows.getString(2)));
+                    }
+                }
+                try (ResultSet rows = statement.executeQuery("SELECT id, position, statement, description,"
+                        + " frequency, created_time, last_modified_time FROM issue ORDER BY position")) {
+                    while (rows.next()) {
+                        long id = rows.getLong(1);
+                        ids.add(id);
+                        positions.add(rows.getLong(2));
+                        adaptedIssues.add(new XmlAdaptedIssue(rows.getString(3), rows.getString(4),
+                                solutions.getOrDefault(id, new ArrayList<>()), tags.getOrDefault(id, new ArrayList<>()),
+                                rows.getInt(5), rows.getLong(6), rows.getLong(7), id));
+                    }
+                }
+            }
+            connection.commit();
+
+            ParallelIssueConverter converter = new ParallelIssueConverter();
+            converter.convert(adaptedIssues);
+            ReadOnlySaveIt saveIt = converter.toSaveIt();
+            issueRows = new IdentityHashMap<>();
+            for (int i = 0; i < ids.size(); i++) {
+                Issue issue = saveIt.getIssueList().get(i);
+                issueRows.put(issue, new IssueRow(ids.get(i), positions.get(i), issue.getFrequency().getValue()));
+            }
+            return saveIt;
+        }
+
+        /**
+         * Brings the database in line with {@code issues}, changing only the rows of issues that changed
+         * if the rows in the database are known, and replacing all of them otherwise.
+         */
+        void write(List<Issue> issues) throws SQLException {
+            try {
+                if (issueRows == null) {
+                    try (Statement statement = connection.createStatement()) {
+                        statement.executeUpdate("DELETE FROM issue");
+                    }
+                    issueRows = new IdentityHashMap<>();
+                }
+                Map<Issue, IssueRow> writtenRows = writeChanges(issues);
+                connection.commit();
+                issueRows = writtenRows;
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                // the ids and rows remembered may not match the database any more
+                issueRows = null;
+                readIds();
+                throw e;
+            }
+        }
+
+        /**
+         * Writes the rows that differ between {@code issueRows} and {@code issues}, and returns the rows of
+         * {@code issues}.
+         */
+        private Map<Issue, IssueRow> writeChanges(List<Issue> issues) throws SQLException {
+            IssueRow[] rows = new IssueRow[issues.size()];
+            Map<Issue, IssueRow> removedRows = new IdentityHashMap<>(issueRows);
+            for (int i = 0; i < issues.size(); i++) {
+                rows[i] = removedRows.remove(issues.get(i));
+            }
+
+            // an issue edited in place keeps the row of the issue it replaces, as it has the same id and statement;
+            // an issue renamed gets a new row, so that no row is updated to the statement of a row yet to be updated
+            Map<Long, Issue> removedById = new HashMap<>();
+            removedRows.keySet().forEach(issue -> removedById.put(issue.getId(), issue));
+            boolean[] isEdited = new boolean[issues.size()];
+            for (int i = 0; i < issues.size(); i++) {
+                Issue replacedIssue = rows[i] == null ? removedById.remove(issues.get(i).getId()) : null;
+                if (replacedIssue != null && replacedIssue.isSameIssue(issues.get(i))) {
+                    rows[i] = removedRows.remove(replacedIssue);
+                    isEdited[i] = true;
+                }
+            }
+
+            long[] positions = assignPositions(rows);
+            try (PreparedStatement delete = connection.prepareStatement("DELETE FROM issue WHERE id = ?")) {
+                for (IssueRow row : removedRows.values()) {
+                    delete.setLong(1, row.id);
+                    delete.addBatch();
+                }
+                delete.executeBatch();
+            }
+
+            Map<Issue, IssueRow> writtenRows = new IdentityHashMap<>();
+            List<Integer> insertedIndices = new ArrayList<>();
+            List<Integer> editedIndices = new ArrayList<>();
+            try (PreparedStatement update = connection.prepareStatement(
+                    "UPDATE issue SET position = ?, frequency = ? WHERE id = ?")) {
+                for (int i = 0; i < issues.size(); i++) {
+                    Issue issue = issues.get(i);
+                    int frequency = issue.getFrequency().getValue();
+                    if (rows[i] == null) {
+                        insertedIndices.add(i);
+                        rows[i] = new IssueRow(issue.getId(), positions[i], frequency);
+                    } else if (isEdited[i]) {
+                        editedIndices.add(i);
+                        rows[i] = new IssueRow(rows[i].id, positions[i], frequency);
+                    } else if (rows[i].position != positions[i] || rows[i].frequency != frequency) {
+                        update.setLong(1, positions[i]);
+                        update.setInt(2, frequency);
+                        update.setLong(3, rows[i].id);
+                        update.addBatch();
+                        rows[i] = new IssueRow(rows[i].id, positions[i], frequency);
+                    }
+                    writtenRows.put(issue, rows[i]);
+                }
+                update.executeBatch();
+            }
+
+            updateEditedIssues(issues, rows, editedIndices);
+            insertIssues(issues, rows, insertedIndices);
+            logger.fine("Updated " + editedIndices.size() + ", inserted " + insertedIndices.size() + " and deleted "
+                    + removedRows.size() + " issue(s)");
+            return writtenRows;
+        }
+
+        /**
+         * Returns the positions of the issues with {@code rows}, in which an issue without a row is new.
+         * The longest run of issues that are still in the order of their positions keep them, and the other
+         * issues are given positions between those of their neighbours. All the issues are given new positions
+         * if there is no room between two neighbours.
+         */
+        private static long[] assignPositions(IssueRow[] rows) {
+            boolean[] isKept = findLongestIncreasingRun(rows);
+            long[] positions = new long[rows.length];
+            int i = 0;
+            while (i < rows.length) {
+                if (isKept[i]) {
+                    positions[i] = rows[i].position;
+                    i++;
+                    continue;
+                }
+                int end = i;
+                while (end < rows.length && !isKept[end]) {
+                    end++;
+                }
+                int count = end - i;
+                boolean hasLower = i > 0;
+                boolean hasUpper = end < rows.length;
+                long lower = hasLower ? positions[i - 1] : 0;
+                long upper = hasUpper ? rows[end].position : 0;
+                if (hasLower && hasUpper && upper - lower <= count) {
+                    for (int j = 0; j < rows.length; j++) {
+                        positions[j] = (j + 1) * POSITION_GAP;
+                    }
+                    return positions;
+                }
+                for (int j = 0; j < count; j++) {
+                    if (hasLower && hasUpper) {
+                        positions[i + j] = lower + (upper - lower) / (count + 1) * (j + 1);
+                    } else if (hasUpper) {
+                        positions[i + j] = upper - (count - j) * POSITION_GAP;
+                    } else {
+                        positions[i + j] = lower + (j + 1) * POSITION_GAP;
+                    }
+                }
+                i = end;
+            }
+            return positions;
+        }
+
+        /**
+         * Returns which of {@code rows} are in the longest run, not necessarily consecutive, of rows whose
+         * positions increase.
+         */
+        private static boolean[] findLongestIncreasingRun(IssueRow[] rows) {
+            // ends[k] is the index of the row ending the run of length k + 1 with the lowest last position so far
+            int[] ends = new int[rows.length];
+            int[] previous = new int[rows.length];
+            int length = 0;
+            for (int i = 0; i < rows.length; i++) {
+                if (rows[i] == null) {
+                    continue;
+                }
+                int low = 0;
+                int high = length;
+                while (low < high) {
+                    int middle = (low + high) >>> 1;
+                    if (rows[ends[middle]].position < rows[i].position) {
+                        low = middle + 1;
+                    } else {
+                        high = middle;
+                    }
+                }
+                previous[i] = low > 0 ? ends[low - 1] : -1;
+                ends[low] = i;
+                length = Math.max(length, low + 1);
+            }
+
+            boolean[] isKept = new boolean[rows.length];
+            for (int i = length > 0 ? ends[length - 1] : -1; i >= 0; i = previous[i]) {
+                isKept[i] = true;
+            }
+            return isKept;
+        }
+
+        private void updateEditedIssues(List<Issue> issues, IssueRow[] rows, List<Integer> indices)
+                throws SQLException {
+            if (indices.isEmpty()) {
+                return;
+            }
+            try (PreparedStatement update = connection.prepareStatement("UPDATE issue SET position = ?,"
+                    + " statement = ?, description = ?, frequency = ?, created_time = ?, last_modified_time = ?"
+                    + " WHERE id = ?");
+                 PreparedStatement deleteSolutions = connection.prepareStatement(
+                         "DELETE FROM solution WHERE issue_id = ?");
+                 PreparedStatement deleteTags = connection.prepareStatement(
+                         "DELETE FROM issue_tag WHERE issue_id = ?")) {
+                for (int i : indices) {
+                    Issue issue = issues.get(i);
+                    update.setLong(1, rows[i].position);
+                    setIssueFields(update, 2, issue, rows[i].frequency);
+                    update.setLong(7, rows[i].id);
+                    update.addBatch();
+                    deleteSolutions.setLong(1, rows[i].id);
+                    deleteSolutions.addBatch();
+                    deleteTags.setLong(1, rows[i].id);
+                    deleteTags.addBatch();
+                }
+                update.executeBatch();
+                deleteSolutions.executeBatch();
+                deleteTags.executeBatch();
+            }
+            insertSolutionsAndTags(issues, rows, indices);
+        }
+
+        private void insertIssues(List<Issue> issues, IssueRow[] rows, List<Integer> indices) throws SQLException {
+            if (indices.isEmpty()) {
+                return;
+            }
+            try (PreparedStatement insert = connection.prepareStatement("INSERT INTO issue (position, statement,"
+                    + " description, frequency, created_time, last_modified_time, id) VALUES (?, ?, ?, ?, ?, ?, ?)")) {
+                for (int i : indices) {
+                    insert.setLong(1, rows[i].position);
+                    setIssueFields(insert, 2, issues.get(i), rows[i].frequency);
+                    insert.setLong(7, rows[i].id);
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+            insertSolutionsAndTags(issues, rows, indices);
+        }
+
+        /**
+         * Sets the statement, description, frequency and timestamps of {@code issue} from parameter {@code first}.
+         */
+        private static void setIssueFields(PreparedStatement statement, int first, Issue issue, int frequency)
+                throws SQLException {
+            statement.setString(first, issue.getStatement().getValue());
+            statement.setString(first + 1, issue.getDescription().getValue());
+            statement.setInt(first + 2, frequency);
+            statement.setLong(first + 3, issue.getCreatedTime().getTime());
+            statement.setLong(first + 4, issue.getLastModifiedTime().getTime());
+        }
+
+        private void insertSolutionsAndTags(List<Issue> issues, IssueRow[] rows, List<Integer> indices)
+                throws SQLException {
+            try (PreparedStatement insertSolution = connection.prepareStatement(
+                    "INSERT INTO solution (issue_id, ordinal, link, remark, is_primary) VALUES (?, ?, ?, ?, ?)");
+                 PreparedStatement insertTag = connection.prepareStatement(
+                         "INSERT INTO tag (id, name) VALUES (?, ?)");
+                 PreparedStatement insertIssueTag = connection.prepareStatement(
+                         "INSERT INTO issue_tag (issue_id, tag_id, ordinal) VALUES (?, ?, ?)")) {
+                for (int i : indices) {
+                    Issue issue = issues.get(i);
+                    int ordinal = 0;
+                    for (Solution solution : issue.getSolutions()) {
+                        insertSolution.setLong(1, rows[i].id);
+                        insertSolution.setInt(2, ordinal++);
+                        insertSolution.setString(3, solution.getLink().toString());
+                        insertSolution.setString(4, solution.getRemark().toString());
+                        insertSolution.setBoolean(5, solution.isPrimarySolution());
+                        insertSolution.addBatch();
+                    }
+                    ordinal = 0;
+                    for (Tag tag : issue.getTags()) {
+                        Long tagId = tagIds.get(tag.tagName);
+                        if (tagId == null) {
+                            tagId = nextTagId++;
+                            tagIds.put(tag.tagName, tagId);
+                            insertTag.setLong(1, tagId);
+                            insertTag.setString(2, tag.tagName);
+                            insertTag.executeUpdate();
+                        }
+                        insertIssueTag.setLong(1, rows[i].id);
+                        insertIssueTag.setLong(2, tagId);
+                        insertIssueTag.setInt(3, ordinal++);
+                        insertIssueTag.addBatch();
+                    }
+                }
+                insertSolution.executeBatch();
+                insertIssueTag.executeBatch();
+            }
+        }
+
+        @Override
+        public void close() throws SQLException {
+            connection.close();
+        }
+    }
+
+    /**
+     * The id and position of the row of an issue, and its search frequency when it was written,
+     * as it can change in place.
+     */
+    private static class IssueRow {
+        private final long id;
+        private final long position;
+        private final int frequency;
+
+        IssueRow(long id, long position, int frequency) {
+            this.id = id;
+            this.position = position;
+            this.frequency = frequency;
+        }
+    }
+}
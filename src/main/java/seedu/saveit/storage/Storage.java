@@ -36,4 +36,10 @@ public interface Storage extends SaveItStorage, UserPrefsStorage {
      * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
      */
     void handleSaveItChangedEvent(SaveItChangedEvent abce);
+
+    /**
+     * Waits until every change handled by {@link #handleSaveItChangedEvent} so far has been saved.
+     * Changes handled afterwards are saved as they happen.
+     */
+    void close();
 }
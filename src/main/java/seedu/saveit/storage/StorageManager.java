@@ -2,6 +2,7 @@ package seedu.saveit.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -9,6 +10,7 @@ import com.google.common.eventbus.Subscribe;
 
 import seedu.saveit.commons.core.ComponentManager;
 import seedu.saveit.commons.core.LogsCenter;
+import seedu.saveit.commons.events.BaseEvent;
 import seedu.saveit.commons.events.model.SaveItChangedEvent;
 import seedu.saveit.commons.events.storage.DataSavingExceptionEvent;
 import seedu.saveit.commons.exceptions.DataConversionException;
@@ -23,6 +25,7 @@ public class StorageManager extends ComponentManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private SaveItStorage saveItStorage;
     private UserPrefsStorage userPrefsStorage;
+    private CoalescingSaveItWriter saveItWriter;
 
 
     public StorageManager(SaveItStorage saveItStorage, UserPrefsStorage userPrefsStorage) {
@@ -31,6 +34,19 @@ public class StorageManager extends ComponentManager implements Storage {
         this.userPrefsStorage = userPrefsStorage;
     }
 
+    /**
+     * Creates a {@code StorageManager} which saves changes to the SaveIt in the background,
+     * writing the changes made within {@code saveDebounceMillis} of each other together.
+     * Changes are saved as they happen if {@code saveDebounceMillis} is not positive.
+     */
+    public StorageManager(SaveItStorage saveItStorage, UserPrefsStorage userPrefsStorage, long saveDebounceMillis) {
+        this(saveItStorage, userPrefsStorage);
+        if (saveDebounceMillis > 0) {
+            saveItWriter = new CoalescingSaveItWriter(saveItStorage, saveDebounceMillis,
+                e -> raise(new DataSavingExceptionEvent(e)));
+        }
+    }
+
     // ================ UserPrefs methods ==============================
 
     @Override
@@ -67,6 +83,12 @@ public class StorageManager extends ComponentManager implements Storage {
         return saveItStorage.readSaveIt(filePath);
     }
 
+    @Override
+    public Optional<ReadOnlySaveIt> recoverSaveIt() throws IOException {
+        logger.fine("Attempting to recover data from file: " + saveItStorage.getSaveItFilePath());
+        return saveItStorage.recoverSaveIt();
+    }
+
     @Override
     public void saveSaveIt(ReadOnlySaveIt saveIt) throws IOException {
         saveSaveIt(saveIt, saveItStorage.getSaveItFilePath());
@@ -78,16 +100,40 @@ public class StorageManager extends ComponentManager implements Storage {
         saveItStorage.saveSaveIt(saveIt, filePath);
     }
 
+    @Override
+    public void saveChanges(ReadOnlySaveIt saveIt, List<BaseEvent> issueEvents) throws IOException {
+        logger.fine("Attempting to write changes to data file: " + saveItStorage.getSaveItFilePath());
+        saveItStorage.saveChanges(saveIt, issueEvents);
+    }
+
 
     @Override
     @Subscribe
     public void handleSaveItChangedEvent(SaveItChangedEvent event) {
+        if (saveItWriter != null) {
+            logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, queued for saving"));
+            saveItWriter.submit(event.data, event.issueEvents);
+            return;
+        }
+
         logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
         try {
-            saveSaveIt(event.data);
+            saveChanges(event.data, event.issueEvents);
         } catch (IOException e) {
             raise(new DataSavingExceptionEvent(e));
         }
     }
 
+    @Override
+    public void close() {
+        if (saveItWriter == null) {
+            return;
+        }
+        saveItWriter.close();
+        logger.info("Saved data " + saveItWriter.getWriteCount() + " times, skipping "
+                + saveItWriter.getSkippedWriteCount() + " intermediate saves, in "
+                + String.format("%.1f", saveItWriter.getAverageWriteMillis()) + " ms on average");
+        saveItWriter = null;
+    }
+
 }
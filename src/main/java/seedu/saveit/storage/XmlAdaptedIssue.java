@@ -20,11 +20,15 @@ import seedu.saveit.model.issue.Tag;
 
 /**
  * JAXB-friendly version of the Issue.
+ * An issue without an id, as written before issues had one, is given a new id, which the
+ * {@code ParallelIssueConverter} replaces once every issue stored with an id has been converted.
  */
-public class XmlAdaptedIssue {
+public class XmlAdaptedIssue implements AdaptedIssue {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Issue's %s field is missing!";
 
+    @XmlElement
+    private Long id;
     @XmlElement(required = true)
     private String statement;
     @XmlElement(required = true)
@@ -55,6 +59,16 @@ public class XmlAdaptedIssue {
      */
     public XmlAdaptedIssue(String statement, String description, List<XmlAdaptedSolution> solutions,
                            List<XmlAdaptedTag> tagged, Integer frequency, Long createdTime, Long lastModifiedTime) {
+        this(statement, description, solutions, tagged, frequency, createdTime, lastModifiedTime, null);
+    }
+
+    /**
+     * Constructs an {@code XmlAdaptedIssue} with the given statement details and {@code id}.
+     */
+    public XmlAdaptedIssue(String statement, String description, List<XmlAdaptedSolution> solutions,
+                           List<XmlAdaptedTag> tagged, Integer frequency, Long createdTime, Long lastModifiedTime,
+                           Long id) {
+        this.id = id;
         this.statement = statement;
         this.description = description;
         if (solutions != null) {
@@ -74,6 +88,7 @@ public class XmlAdaptedIssue {
      * @param source future changes to this will not affect the created XmlAdaptedIssue
      */
     public XmlAdaptedIssue(Issue source) {
+        id = source.getId();
         statement = source.getStatement().getValue();
         description = source.getDescription().getValue();
         solutions = source.getSolutions().stream()
@@ -87,12 +102,23 @@ public class XmlAdaptedIssue {
         lastModifiedTime = source.getLastModifiedTime().getTime();
     }
 
+    @Override
+    public boolean hasId() {
+        return id != null;
+    }
+
     /**
      * Converts this jaxb-friendly adapted statement object into the model's Issue object.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted statement
      */
+    @Override
     public Issue toModelType() throws IllegalValueException {
+        if (id != null && !Issue.isValidId(id)) {
+            throw new IllegalValueException(Issue.MESSAGE_ID_CONSTRAINTS);
+        }
+        final long modelId = id == null ? Issue.generateId() : id;
+
         final List<Tag> issueTags = new ArrayList<>();
         for (XmlAdaptedTag tag : tagged) {
             issueTags.add(tag.toModelType());
@@ -132,7 +158,7 @@ public class XmlAdaptedIssue {
         final Timestamp modelLastModifiedTime = new Timestamp(lastModifiedTime);
 
         return new Issue(modelName, modelDescription, modelSolutions, modelTags, searchFrequency,
-                modelCreatedTime, modelLastModifiedTime);
+                modelCreatedTime, modelLastModifiedTime, modelId);
     }
 
     @Override
@@ -146,7 +172,8 @@ public class XmlAdaptedIssue {
         }
 
         XmlAdaptedIssue otherIssue = (XmlAdaptedIssue) other;
-        return Objects.equals(statement, otherIssue.statement)
+        return Objects.equals(id, otherIssue.id)
+                && Objects.equals(statement, otherIssue.statement)
                 && Objects.equals(description, otherIssue.description)
                 && solutions.equals(otherIssue.solutions)
                 && tagged.equals(otherIssue.tagged)
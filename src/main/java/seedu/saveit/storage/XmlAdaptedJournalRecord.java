@@ -0,0 +1,164 @@
+package seedu.saveit.storage;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import seedu.saveit.commons.exceptions.IllegalValueException;
+import seedu.saveit.model.Issue;
+import seedu.saveit.model.issue.Tag;
+
+/**
+ * JAXB-friendly record of one change to the issue list: an issue added, updated or removed, or a tag renamed.
+ * Issues that are updated or removed are found by their statement, which is unique in the issue list.
+ */
+@XmlRootElement(name = "record")
+public class XmlAdaptedJournalRecord {
+
+    public static final String MESSAGE_INVALID_INDEX = "Journal record does not fit the issue list.";
+    public static final String MESSAGE_ISSUE_NOT_FOUND = "Journal record refers to an issue not in the issue list.";
+    public static final String MESSAGE_INCOMPLETE_RECORD = "Journal record is missing its %s.";
+
+    /**
+     * The kinds of change recorded.
+     */
+    public enum Type { ADDED, UPDATED, REMOVED, TAG_RENAMED }
+
+    @XmlAttribute(required = true)
+    private Type type;
+    /** The position of an added issue. */
+    @XmlAttribute
+    private Integer index;
+    /** The statement of the issue updated or removed, before it was changed. */
+    @XmlAttribute
+    private String statement;
+    /** The time the issues with a renamed tag were modified. */
+    @XmlAttribute
+    private Long modifiedTime;
+
+    /** The issue added, or the issue an issue was updated to. */
+    @XmlElement
+    private XmlAdaptedIssue issue;
+    @XmlElement
+    private XmlAdaptedTag oldTag;
+    /** The tag in place of {@code oldTag}, or null if {@code oldTag} was removed. */
+    @XmlElement
+    private XmlAdaptedTag newTag;
+
+    /**
+     * Constructs an XmlAdaptedJournalRecord. This is the no-arg constructor that is required by JAXB.
+     */
+    public XmlAdaptedJournalRecord() {}
+
+    private XmlAdaptedJournalRecord(Type type) {
+        this.type = type;
+    }
+
+    /**
+     * Returns a record of {@code issue} added at {@code index}.
+     */
+    public static XmlAdaptedJournalRecord added(Issue issue, int index) {
+        XmlAdaptedJournalRecord record = new XmlAdaptedJournalRecord(Type.ADDED);
+        record.issue = new XmlAdaptedIssue(issue);
+        record.index = index;
+        return record;
+    }
+
+    /**
+     * Returns a record of {@code oldIssue} replaced by {@code newIssue}.
+     */
+    public static XmlAdaptedJournalRecord updated(Issue oldIssue, Issue newIssue) {
+        XmlAdaptedJournalRecord record = new XmlAdaptedJournalRecord(Type.UPDATED);
+        record.statement = oldIssue.getStatement().getValue();
+        record.issue = new XmlAdaptedIssue(newIssue);
+        return record;
+    }
+
+    /**
+     * Returns a record of {@code issue} removed.
+     */
+    public static XmlAdaptedJournalRecord removed(Issue issue) {
+        XmlAdaptedJournalRecord record = new XmlAdaptedJournalRecord(Type.REMOVED);
+        record.statement = issue.getStatement().getValue();
+        return record;
+    }
+
+    /**
+     * Returns a record of {@code oldTag} renamed to {@code newTag}, or removed if {@code newTag} is null,
+     * in every issue, which were modified at {@code modifiedTime}.
+     */
+    public static XmlAdaptedJournalRecord tagRenamed(Tag oldTag, Tag newTag, Timestamp modifiedTime) {
+        XmlAdaptedJournalRecord record = new XmlAdaptedJournalRecord(Type.TAG_RENAMED);
+        record.oldTag = new XmlAdaptedTag(oldTag);
+        record.newTag = newTag == null ? null : new XmlAdaptedTag(newTag);
+        record.modifiedTime = modifiedTime.getTime();
+        return record;
+    }
+
+    /**
+     * Applies this change to {@code issueList}. Finding the issue changed, or the issues with a renamed tag,
+     * scans {@code issueList}, which is only done when the journal is replayed.
+     *
+     * @throws IllegalValueException if the change does not fit {@code issueList}, or if there were
+     * any data constraints violated in the record.
+     */
+    public void applyTo(List<Issue> issueList) throws IllegalValueException {
+        if (type == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INCOMPLETE_RECORD, "type"));
+        }
+        switch (type) {
+        case ADDED:
+            checkPresent(index, "index");
+            if (index < 0 || index > issueList.size()) {
+                throw new IllegalValueException(MESSAGE_INVALID_INDEX);
+            }
+            issueList.add(index, toIssue());
+            break;
+        case UPDATED:
+            issueList.set(indexOfStatement(issueList), toIssue());
+            break;
+        case REMOVED:
+            issueList.remove(indexOfStatement(issueList));
+            break;
+        case TAG_RENAMED:
+            checkPresent(oldTag, "old tag");
+            checkPresent(modifiedTime, "modified time");
+            Tag modelOldTag = oldTag.toModelType();
+            Tag modelNewTag = newTag == null ? null : newTag.toModelType();
+            for (int i = 0; i < issueList.size(); i++) {
+                Issue renamedIssue = issueList.get(i);
+                if (renamedIssue.getTags().contains(modelOldTag)) {
+                    issueList.set(i, renamedIssue.withTagReplaced(modelOldTag, modelNewTag,
+                            new Timestamp(modifiedTime)));
+                }
+            }
+            break;
+        default:
+            throw new AssertionError("Unknown record type " + type);
+        }
+    }
+
+    private Issue toIssue() throws IllegalValueException {
+        checkPresent(issue, "issue");
+        return issue.toModelType();
+    }
+
+    private int indexOfStatement(List<Issue> issueList) throws IllegalValueException {
+        checkPresent(statement, "statement");
+        for (int i = 0; i < issueList.size(); i++) {
+            if (issueList.get(i).getStatement().getValue().equals(statement)) {
+                return i;
+            }
+        }
+        throw new IllegalValueException(MESSAGE_ISSUE_NOT_FOUND);
+    }
+
+    private static void checkPresent(Object field, String fieldName) throws IllegalValueException {
+        if (field == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INCOMPLETE_RECORD, fieldName));
+        }
+    }
+}
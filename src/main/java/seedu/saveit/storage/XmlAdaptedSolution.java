@@ -39,6 +39,15 @@ public class XmlAdaptedSolution {
         this.remark = remark;
     }
 
+    /**
+     * Constructs a {@code XmlAdaptedSolution} with the given {@code solutionLink}, {@code remark}
+     * and whether it is the primary solution.
+     */
+    public XmlAdaptedSolution(String solutionLink, String remark, boolean isPrimarySolution) {
+        this(solutionLink, remark);
+        this.isPrimarySolution = isPrimarySolution;
+    }
+
     /**
      * Converts a given Solution into this class for JAXB use.
      *
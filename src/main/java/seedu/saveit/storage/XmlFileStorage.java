@@ -1,6 +1,7 @@
 package seedu.saveit.storage;
 
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.nio.file.Path;
 
 import javax.xml.bind.JAXBException;
@@ -16,7 +17,7 @@ public class XmlFileStorage {
      * Saves the given saveit data to the specified file.
      */
     public static void saveDataToFile(Path file, XmlSerializableSaveIt saveIt)
-            throws FileNotFoundException {
+            throws IOException {
         try {
             XmlUtil.saveDataToFile(file, saveIt);
         } catch (JAXBException e) {
@@ -2,10 +2,10 @@ package seedu.saveit.storage;
 
 import static java.util.Objects.requireNonNull;
 
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -17,12 +17,16 @@ import seedu.saveit.model.ReadOnlySaveIt;
 
 /**
  * A class to access SaveIt data stored as an xml file on the hard disk.
+ * The xml of the issues saved is kept, so that a save only encodes the issues changed since the previous one.
  */
 public class XmlSaveItStorage implements SaveItStorage {
 
+    public static final String DAMAGED_FILE_EXTENSION = ".damaged";
+
     private static final Logger logger = LogsCenter.getLogger(XmlSaveItStorage.class);
 
     private Path filePath;
+    private final SerializedIssueCache serializedIssues = new SerializedIssueCache();
 
     public XmlSaveItStorage(Path filePath) {
         this.filePath = filePath;
@@ -42,8 +46,7 @@ public class XmlSaveItStorage implements SaveItStorage {
      * @param filePath location of the data. Cannot be null
      * @throws DataConversionException if the file is not in the correct format.
      */
-    public Optional<ReadOnlySaveIt> readSaveIt(Path filePath) throws DataConversionException,
-                                                                                 FileNotFoundException {
+    public Optional<ReadOnlySaveIt> readSaveIt(Path filePath) throws DataConversionException, IOException {
         requireNonNull(filePath);
 
         if (!Files.exists(filePath)) {
@@ -51,15 +54,37 @@ public class XmlSaveItStorage implements SaveItStorage {
             return Optional.empty();
         }
 
-        XmlSerializableSaveIt xmlSaveIt = XmlFileStorage.loadDataFromSaveFile(filePath);
         try {
-            return Optional.of(xmlSaveIt.toModelType());
+            return Optional.of(XmlStreamingSaveItCodec.readSaveIt(filePath));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
         }
     }
 
+    /**
+     * Returns the intact issues of the data file, which could not be read as a whole.
+     * A copy of the data file is kept at {@link #getDamagedFilePath(Path)} first, as the next save replaces it.
+     */
+    @Override
+    public Optional<ReadOnlySaveIt> recoverSaveIt() throws IOException {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        Path damagedFilePath = getDamagedFilePath(filePath);
+        Files.copy(filePath, damagedFilePath, StandardCopyOption.REPLACE_EXISTING);
+        logger.warning("Kept a copy of the damaged data file at " + damagedFilePath);
+        return Optional.of(XmlStreamingSaveItCodec.recoverSaveIt(filePath));
+    }
+
+    /**
+     * Returns the path a copy of the damaged data file at {@code filePath} is kept at.
+     */
+    public static Path getDamagedFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + DAMAGED_FILE_EXTENSION);
+    }
+
     @Override
     public void saveSaveIt(ReadOnlySaveIt saveIt) throws IOException {
         saveSaveIt(saveIt, filePath);
@@ -73,8 +98,8 @@ public class XmlSaveItStorage implements SaveItStorage {
         requireNonNull(saveIt);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        XmlFileStorage.saveDataToFile(filePath, new XmlSerializableSaveIt(saveIt));
+        FileUtil.createParentDirsOfFile(filePath);
+        XmlStreamingSaveItCodec.saveSaveIt(filePath, saveIt, serializedIssues);
     }
 
 }
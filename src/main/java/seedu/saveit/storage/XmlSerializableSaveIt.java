@@ -8,7 +8,6 @@ import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 
 import seedu.saveit.commons.exceptions.IllegalValueException;
-import seedu.saveit.model.Issue;
 import seedu.saveit.model.ReadOnlySaveIt;
 import seedu.saveit.model.SaveIt;
 
@@ -46,15 +45,9 @@ public class XmlSerializableSaveIt {
      * {@code XmlAdaptedIssue}.
      */
     public SaveIt toModelType() throws IllegalValueException {
-        SaveIt saveIt = new SaveIt();
-        for (XmlAdaptedIssue i : issues) {
-            Issue issue = i.toModelType();
-            if (saveIt.hasIssue(issue)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_ISSUE);
-            }
-            saveIt.addIssue(issue);
-        }
-        return saveIt;
+        ParallelIssueConverter converter = new ParallelIssueConverter();
+        converter.convert(issues);
+        return converter.toSaveIt();
     }
 
     @Override
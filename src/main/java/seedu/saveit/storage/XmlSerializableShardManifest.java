@@ -0,0 +1,77 @@
+package seedu.saveit.storage;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import seedu.saveit.commons.exceptions.IllegalValueException;
+
+/**
+ * JAXB-friendly list of the shard files that hold SaveIt data, in the order of their issues.
+ */
+@XmlRootElement(name = "shards")
+public class XmlSerializableShardManifest {
+
+    public static final String MESSAGE_INVALID_SHARD = "Invalid shard file name in the manifest: %s";
+    public static final String MESSAGE_DUPLICATE_SHARD = "Shard file listed more than once in the manifest: %s";
+
+    private static final Pattern SHARD_FILE_NAME = Pattern.compile("shard-(\\d{1,9})\\.xml");
+
+    @XmlElement(name = "shard")
+    private List<String> shards = new ArrayList<>();
+
+    /**
+     * Creates an empty XmlSerializableShardManifest.
+     * This empty constructor is required for marshalling.
+     */
+    public XmlSerializableShardManifest() {}
+
+    /**
+     * Creates a manifest of the shards with the ids {@code shardIds}, in that order.
+     */
+    public XmlSerializableShardManifest(List<Integer> shardIds) {
+        shardIds.forEach(id -> shards.add(toFileName(id)));
+    }
+
+    /**
+     * Returns the name of the file of the shard with the id {@code shardId}.
+     */
+    public static String toFileName(int shardId) {
+        return "shard-" + shardId + ".xml";
+    }
+
+    /**
+     * Returns the id of the shard in the file named {@code fileName}, or -1 if it is not the name of a shard file.
+     */
+    public static int toShardId(String fileName) {
+        Matcher matcher = SHARD_FILE_NAME.matcher(fileName);
+        return matcher.matches() ? Integer.parseInt(matcher.group(1)) : -1;
+    }
+
+    /**
+     * Returns the ids of the shards listed, in order.
+     *
+     * @throws IllegalValueException if a shard is not the name of a shard file or is listed more than once.
+     */
+    public List<Integer> toShardIds() throws IllegalValueException {
+        List<Integer> shardIds = new ArrayList<>();
+        Set<Integer> listedIds = new HashSet<>();
+        for (String shard : shards) {
+            int shardId = shard == null ? -1 : toShardId(shard);
+            if (shardId < 0) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_SHARD, shard));
+            }
+            if (!listedIds.add(shardId)) {
+                throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_SHARD, shard));
+            }
+            shardIds.add(shardId);
+        }
+        return shardIds;
+    }
+}
@@ -0,0 +1,490 @@
+package seedu.saveit.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+import seedu.saveit.commons.core.LogsCenter;
+import seedu.saveit.commons.exceptions.DataConversionException;
+import seedu.saveit.commons.exceptions.IllegalValueException;
+import seedu.saveit.commons.util.FileUtil;
+import seedu.saveit.model.Issue;
+import seedu.saveit.model.ReadOnlySaveIt;
+import seedu.saveit.model.SaveIt;
+import seedu.saveit.model.issue.Solution;
+import seedu.saveit.model.issue.Tag;
+import seedu.saveit.model.issue.exceptions.DuplicateIssueException;
+
+/**
+ * Reads and writes SaveIt data in the xml format of {@link XmlSerializableSaveIt} one issue at a time.
+ * Issues read are converted in batches of {@link ParallelIssueConverter#BATCH_SIZE}, so that only one batch of
+ * {@code XmlAdaptedIssue}s is held in memory besides the model itself.
+ * Files written by either class can be read by the other.
+ * Issues written can be kept in a {@link SerializedIssueCache}, so that saving again only encodes the issues that
+ * changed.
+ *
+ * A file is written to a temporary file that then replaces it, so that a crash while saving leaves the previous
+ * version intact. Each issue written ends with a checksum of its fields, which is checked when it is read,
+ * so that a damaged file can be told apart from a valid one and its intact issues recovered.
+ * Issues without a checksum, such as those written by {@link XmlSerializableSaveIt}, are read as they are,
+ * so an issue edited by hand must have its checksum removed.
+ */
+public class XmlStreamingSaveItCodec {
+
+    private static final Logger logger = LogsCenter.getLogger(XmlStreamingSaveItCodec.class);
+
+    private static final String ROOT_ELEMENT = "saveit";
+    private static final String ISSUE_ELEMENT = "issues";
+    private static final String ID_ELEMENT = "id";
+    private static final String STATEMENT_ELEMENT = "statement";
+    private static final String DESCRIPTION_ELEMENT = "description";
+    private static final String SOLUTION_ELEMENT = "solutions";
+    private static final String SOLUTION_LINK_ELEMENT = "solutionLink";
+    private static final String REMARK_ELEMENT = "remark";
+    private static final String PRIMARY_SOLUTION_ELEMENT = "isPrimarySolution";
+    private static final String TAG_ELEMENT = "tagged";
+    private static final String FREQUENCY_ELEMENT = "frequency";
+    private static final String CREATED_TIME_ELEMENT = "createdTime";
+    private static final String LAST_MODIFIED_TIME_ELEMENT = "lastModifiedTime";
+    private static final String CHECKSUM_ELEMENT = "checksum";
+
+    private static final String ISSUE_INDENT = "\n    ";
+    private static final String FIELD_INDENT = "\n        ";
+    private static final String SOLUTION_FIELD_INDENT = "\n            ";
+    private static final byte[] DOCUMENT_START = ("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<" + ROOT_ELEMENT + ">")
+            .getBytes(StandardCharsets.UTF_8);
+    private static final byte[] DOCUMENT_END = ("\n</" + ROOT_ELEMENT + ">\n").getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ISSUE_START_TAG = ("<" + ISSUE_ELEMENT).getBytes(StandardCharsets.UTF_8);
+    private static final byte[] ISSUE_END_TAG = ("</" + ISSUE_ELEMENT + ">").getBytes(StandardCharsets.UTF_8);
+
+    private static final XMLInputFactory inputFactory = createInputFactory();
+    private static final XMLOutputFactory outputFactory = XMLOutputFactory.newInstance();
+
+    /**
+     * Returns the SaveIt data in {@code file}.
+     *
+     * @throws DataConversionException if the file is not in the correct format.
+     * @throws IllegalValueException if there were any data constraints violated or duplicate issues in the file.
+     */
+    public static SaveIt readSaveIt(Path file) throws DataConversionException, IllegalValueException, IOException {
+        requireNonNull(file);
+
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            XMLStreamReader reader = inputFactory.createXMLStreamReader(in);
+            try {
+                return readSaveIt(reader);
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException | NumberFormatException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    private static SaveIt readSaveIt(XMLStreamReader reader) throws XMLStreamException, IllegalValueException {
+        if (reader.nextTag() != XMLStreamConstants.START_ELEMENT
+                || !ROOT_ELEMENT.equals(reader.getLocalName())) {
+            throw new XMLStreamException("Expected a <" + ROOT_ELEMENT + "> element", reader.getLocation());
+        }
+
+        ParallelIssueConverter converter = new ParallelIssueConverter();
+        List<XmlAdaptedIssue> batch = new ArrayList<>(ParallelIssueConverter.BATCH_SIZE);
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            if (!ISSUE_ELEMENT.equals(reader.getLocalName())) {
+                skipElement(reader);
+                continue;
+            }
+
+            batch.add(readIssue(reader));
+            if (batch.size() == ParallelIssueConverter.BATCH_SIZE) {
+                converter.convert(batch);
+                batch.clear();
+            }
+        }
+        converter.convert(batch);
+        return converter.toSaveIt();
+    }
+
+    /**
+     * Reads the issue element at {@code reader}, leaving the reader at its end.
+     */
+    private static XmlAdaptedIssue readIssue(XMLStreamReader reader) throws XMLStreamException {
+        RecordChecksum checksum = new RecordChecksum();
+        Long id = null;
+        String statement = null;
+        String description = null;
+        List<XmlAdaptedSolution> solutions = new ArrayList<>();
+        List<XmlAdaptedTag> tagged = new ArrayList<>();
+        Integer frequency = null;
+        Long createdTime = null;
+        Long lastModifiedTime = null;
+
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            switch (reader.getLocalName()) {
+            case ID_ELEMENT:
+                id = Long.valueOf(readField(reader, checksum).trim());
+                break;
+            case STATEMENT_ELEMENT:
+                statement = readField(reader, checksum);
+                break;
+            case DESCRIPTION_ELEMENT:
+                description = readField(reader, checksum);
+                break;
+            case SOLUTION_ELEMENT:
+                solutions.add(readSolution(reader, checksum));
+                break;
+            case TAG_ELEMENT:
+                tagged.add(new XmlAdaptedTag(readField(reader, checksum)));
+                break;
+            case FREQUENCY_ELEMENT:
+                frequency = Integer.valueOf(readField(reader, checksum).trim());
+                break;
+            case CREATED_TIME_ELEMENT:
+                createdTime = Long.valueOf(readField(reader, checksum).trim());
+                break;
+            case LAST_MODIFIED_TIME_ELEMENT:
+                lastModifiedTime = Long.valueOf(readField(reader, checksum).trim());
+                break;
+            case CHECKSUM_ELEMENT:
+                if (Long.parseLong(reader.getElementText().trim(), 16) != checksum.getValue()) {
+                    throw new XMLStreamException("Issue does not match its checksum", reader.getLocation());
+                }
+                break;
+            default:
+                skipElement(reader);
+            }
+        }
+        return new XmlAdaptedIssue(statement, description, solutions, tagged, frequency, createdTime,
+                lastModifiedTime, id);
+    }
+
+    /**
+     * Reads the solution element at {@code reader}, leaving the reader at its end.
+     */
+    private static XmlAdaptedSolution readSolution(XMLStreamReader reader, RecordChecksum checksum)
+            throws XMLStreamException {
+        String solutionLink = null;
+        String remark = null;
+        boolean isPrimarySolution = false;
+
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            switch (reader.getLocalName()) {
+            case SOLUTION_LINK_ELEMENT:
+                solutionLink = readField(reader, checksum);
+                break;
+            case REMARK_ELEMENT:
+                remark = readField(reader, checksum);
+                break;
+            case PRIMARY_SOLUTION_ELEMENT:
+                isPrimarySolution = Boolean.parseBoolean(readField(reader, checksum).trim());
+                break;
+            default:
+                skipElement(reader);
+            }
+        }
+        return new XmlAdaptedSolution(solutionLink, remark, isPrimarySolution);
+    }
+
+    /**
+     * Reads the text of the field element at {@code reader}, adding the field to {@code checksum}.
+     */
+    private static String readField(XMLStreamReader reader, RecordChecksum checksum) throws XMLStreamException {
+        String name = reader.getLocalName();
+        String text = reader.getElementText();
+        checksum.add(name, text);
+        return text;
+    }
+
+    /**
+     * Moves {@code reader} from the start of an element to its end.
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * Returns the issues in {@code file} that are intact, for a file that cannot be read as a whole.
+     * The file is scanned once for issue elements, each of which is read on its own, and the issues that
+     * are malformed, do not match their checksum, are not valid or repeat an earlier issue are left out.
+     * Issues stored without an id are given new ids only once every intact issue has been read.
+     */
+    public static SaveIt recoverSaveIt(Path file) throws IOException {
+        requireNonNull(file);
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("File too large to recover: " + file);
+            }
+            ByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            List<XmlAdaptedIssue> intactIssues = new ArrayList<>();
+            int droppedCount = 0;
+            int issueStart = -1;
+            for (int i = 0; i < bytes.limit(); i++) {
+                if (bytes.get(i) != '<') {
+                    continue;
+                }
+                if (isIssueStartTag(bytes, i)) {
+                    droppedCount += issueStart < 0 ? 0 : 1;
+                    issueStart = i;
+                } else if (issueStart >= 0 && startsWith(bytes, i, ISSUE_END_TAG)) {
+                    int issueEnd = i + ISSUE_END_TAG.length;
+                    XmlAdaptedIssue issue = recoverIssue(bytes, issueStart, issueEnd);
+                    if (issue == null) {
+                        droppedCount++;
+                    } else {
+                        intactIssues.add(issue);
+                    }
+                    issueStart = -1;
+                    i = issueEnd - 1;
+                }
+            }
+            droppedCount += issueStart < 0 ? 0 : 1;
+
+            List<Issue> issues = new ArrayList<>();
+            List<Integer> positionsWithoutIds = new ArrayList<>();
+            for (XmlAdaptedIssue intactIssue : intactIssues) {
+                try {
+                    Issue issue = intactIssue.toModelType();
+                    if (!intactIssue.hasId()) {
+                        positionsWithoutIds.add(issues.size());
+                    }
+                    issues.add(issue);
+                } catch (IllegalValueException | IllegalArgumentException e) {
+                    droppedCount++;
+                }
+            }
+            for (int position : positionsWithoutIds) {
+                issues.set(position, ParallelIssueConverter.withNewId(issues.get(position)));
+            }
+            SaveIt saveIt = new SaveIt();
+            for (Issue issue : issues) {
+                if (saveIt.hasIssue(issue)) {
+                    droppedCount++;
+                    continue;
+                }
+                try {
+                    saveIt.addIssue(issue);
+                } catch (DuplicateIssueException die) {
+                    droppedCount++;
+                }
+            }
+            logger.warning("Recovered " + saveIt.getIssueList().size() + " issues from " + file + ", "
+                    + droppedCount + " damaged issues were left out");
+            return saveIt;
+        }
+    }
+
+    /**
+     * Reads the issue element from {@code start} to {@code end} of {@code bytes}, returning null if it is not intact.
+     */
+    private static XmlAdaptedIssue recoverIssue(ByteBuffer bytes, int start, int end) {
+        byte[] element = new byte[end - start];
+        ByteBuffer slice = bytes.duplicate();
+        slice.position(start);
+        slice.get(element);
+        try {
+            XMLStreamReader reader = inputFactory.createXMLStreamReader(new ByteArrayInputStream(element),
+                    StandardCharsets.UTF_8.name());
+            try {
+                reader.nextTag();
+                return readIssue(reader);
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns true if an issue start tag, rather than another tag with the same prefix, is at {@code position}.
+     */
+    private static boolean isIssueStartTag(ByteBuffer bytes, int position) {
+        int next = position + ISSUE_START_TAG.length;
+        if (!startsWith(bytes, position, ISSUE_START_TAG) || next >= bytes.limit()) {
+            return false;
+        }
+        byte nextByte = bytes.get(next);
+        return nextByte == '>' || nextByte == ' ' || nextByte == '\t' || nextByte == '\n' || nextByte == '\r';
+    }
+
+    private static boolean startsWith(ByteBuffer bytes, int position, byte[] prefix) {
+        if (position + prefix.length > bytes.limit()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (bytes.get(position + i) != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes {@code saveIt} to {@code file}, replacing its contents.
+     */
+    public static void saveSaveIt(Path file, ReadOnlySaveIt saveIt) throws IOException {
+        saveSaveIt(file, saveIt, new SerializedIssueCache());
+    }
+
+    /**
+     * Writes {@code saveIt} to {@code file}, replacing its contents.
+     * Only the issues that are not in {@code cache} are encoded, the others are copied from it.
+     */
+    public static void saveSaveIt(Path file, ReadOnlySaveIt saveIt, SerializedIssueCache cache) throws IOException {
+        requireNonNull(saveIt);
+        saveIssues(file, saveIt.getIssueList(), cache);
+    }
+
+    /**
+     * Writes a SaveIt with {@code issues} to {@code file}, replacing its contents.
+     * Only the issues that are not in {@code cache} are encoded, the others are copied from it.
+     * The issues are written to a temporary file and forced to the disk first, which then replaces {@code file}.
+     */
+    public static void saveIssues(Path file, List<Issue> issues, SerializedIssueCache cache) throws IOException {
+        requireNonNull(file);
+        requireNonNull(issues);
+        requireNonNull(cache);
+
+        Path temporaryFile = FileUtil.getTemporaryPath(file);
+        try (FileOutputStream fileOut = new FileOutputStream(temporaryFile.toFile());
+             OutputStream out = new BufferedOutputStream(fileOut)) {
+            out.write(DOCUMENT_START);
+            cache.write(issues, out, new IssueEncoder());
+            out.write(DOCUMENT_END);
+            out.flush();
+            fileOut.getFD().sync();
+        } catch (IOException ioe) {
+            Files.deleteIfExists(temporaryFile);
+            throw ioe;
+        }
+        FileUtil.replaceFile(temporaryFile, file);
+    }
+
+    /**
+     * Encodes issues one at a time, as they are written in a document, reusing its buffer and writer.
+     */
+    private static class IssueEncoder implements SerializedIssueCache.IssueEncoder {
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        private XMLStreamWriter writer;
+
+        @Override
+        public byte[] encode(Issue issue, int frequency) throws IOException {
+            try {
+                if (writer == null) {
+                    writer = outputFactory.createXMLStreamWriter(buffer, StandardCharsets.UTF_8.name());
+                }
+                buffer.reset();
+                writeIssue(writer, issue, frequency);
+                writer.flush();
+                return buffer.toByteArray();
+            } catch (XMLStreamException e) {
+                throw new IOException(e);
+            }
+        }
+    }
+
+    private static void writeIssue(XMLStreamWriter writer, Issue issue, int frequency) throws XMLStreamException {
+        RecordChecksum checksum = new RecordChecksum();
+        writer.writeCharacters(ISSUE_INDENT);
+        writer.writeStartElement(ISSUE_ELEMENT);
+        writeField(writer, FIELD_INDENT, ID_ELEMENT, String.valueOf(issue.getId()), checksum);
+        writeField(writer, FIELD_INDENT, STATEMENT_ELEMENT, issue.getStatement().getValue(), checksum);
+        writeField(writer, FIELD_INDENT, DESCRIPTION_ELEMENT, issue.getDescription().getValue(), checksum);
+        for (Solution solution : issue.getSolutions()) {
+            writer.writeCharacters(FIELD_INDENT);
+            writer.writeStartElement(SOLUTION_ELEMENT);
+            writeField(writer, SOLUTION_FIELD_INDENT, SOLUTION_LINK_ELEMENT, solution.getLink().toString(), checksum);
+            writeField(writer, SOLUTION_FIELD_INDENT, REMARK_ELEMENT, solution.getRemark().toString(), checksum);
+            writeField(writer, SOLUTION_FIELD_INDENT, PRIMARY_SOLUTION_ELEMENT,
+                    String.valueOf(solution.isPrimarySolution()), checksum);
+            writer.writeCharacters(FIELD_INDENT);
+            writer.writeEndElement();
+        }
+        for (Tag tag : issue.getTags()) {
+            writeField(writer, FIELD_INDENT, TAG_ELEMENT, tag.tagName, checksum);
+        }
+        writeField(writer, FIELD_INDENT, FREQUENCY_ELEMENT, String.valueOf(frequency), checksum);
+        writeField(writer, FIELD_INDENT, CREATED_TIME_ELEMENT, String.valueOf(issue.getCreatedTime().getTime()),
+                checksum);
+        writeField(writer, FIELD_INDENT, LAST_MODIFIED_TIME_ELEMENT,
+                String.valueOf(issue.getLastModifiedTime().getTime()), checksum);
+        writeElement(writer, FIELD_INDENT, CHECKSUM_ELEMENT, Long.toHexString(checksum.getValue()));
+        writer.writeCharacters(ISSUE_INDENT);
+        writer.writeEndElement();
+    }
+
+    /**
+     * Writes a field element, adding the field to {@code checksum}.
+     */
+    private static void writeField(XMLStreamWriter writer, String indent, String name, String text,
+                                   RecordChecksum checksum) throws XMLStreamException {
+        writeElement(writer, indent, name, text);
+        checksum.add(name, text);
+    }
+
+    private static void writeElement(XMLStreamWriter writer, String indent, String name, String text)
+            throws XMLStreamException {
+        writer.writeCharacters(indent);
+        writer.writeStartElement(name);
+        writer.writeCharacters(text);
+        writer.writeEndElement();
+    }
+
+    /**
+     * A CRC32 checksum of the fields of an issue, in the order they are written, covering their names and text.
+     */
+    private static class RecordChecksum {
+        private final CRC32 crc = new CRC32();
+
+        void add(String name, String text) {
+            crc.update(name.getBytes(StandardCharsets.UTF_8));
+            crc.update(0);
+            crc.update(text.getBytes(StandardCharsets.UTF_8));
+            crc.update(0);
+        }
+
+        long getValue() {
+            return crc.getValue();
+        }
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+}
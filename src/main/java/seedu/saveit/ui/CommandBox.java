@@ -27,6 +27,7 @@ import seedu.saveit.logic.SuggestionLogic;
 import seedu.saveit.logic.commands.CommandResult;
 import seedu.saveit.logic.commands.exceptions.CommandException;
 import seedu.saveit.logic.parser.exceptions.ParseException;
+import seedu.saveit.logic.suggestion.Suggestion;
 import seedu.saveit.logic.suggestion.SuggestionResult;
 import seedu.saveit.logic.suggestion.SuggestionValue;
 
@@ -38,7 +39,7 @@ public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "-fx-fill: #ff6060";
     private static final int DEFAULT_CARET_OFFSET = 8;
-    private static final int MAX_NUMBER_SUGGESTIONS = 5;
+    private static final int MAX_NUMBER_SUGGESTIONS = Suggestion.MAX_NUMBER_SUGGESTIONS;
 
     private static final String FXML = "CommandBox.fxml";
 
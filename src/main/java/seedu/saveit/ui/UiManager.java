@@ -122,8 +122,9 @@ public class UiManager extends ComponentManager implements Ui {
     @Subscribe
     private void handleDataSavingExceptionEvent(DataSavingExceptionEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
-        showFileOperationAlertAndWait(FILE_OPS_ERROR_DIALOG_HEADER_MESSAGE, FILE_OPS_ERROR_DIALOG_CONTENT_MESSAGE,
-                event.exception);
+        // the data may be saved on a background thread
+        Platform.runLater(() -> showFileOperationAlertAndWait(FILE_OPS_ERROR_DIALOG_HEADER_MESSAGE,
+                FILE_OPS_ERROR_DIALOG_CONTENT_MESSAGE, event.exception));
     }
 
     @Subscribe
@@ -65,6 +65,8 @@ public class TestApp extends MainApp {
         double y = Screen.getPrimary().getVisualBounds().getMinY();
         userPrefs.updateLastUsedGuiSetting(new GuiSettings(600.0, 600.0, (int) x, (int) y));
         userPrefs.setSaveItFilePath(saveFileLocation);
+        // save changes as they happen, so that tests can read the data file right after a command
+        userPrefs.setSaveDebounceMillis(0);
         return userPrefs;
     }
 
@@ -0,0 +1,91 @@
+package seedu.saveit.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class KeywordMatcherTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void partial_multipleWords_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Word parameter should be a single word");
+        KeywordMatcher.partial("aaa\tBBB");
+    }
+
+    @Test
+    public void fromStart_emptyWord_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Word parameter cannot be empty");
+        KeywordMatcher.fromStart("  ");
+    }
+
+    @Test
+    public void matches_nullSentence_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        KeywordMatcher.partial("abc").matches(null);
+    }
+
+    @Test
+    public void partial_matches() {
+        KeywordMatcher matcher = KeywordMatcher.partial(" bbB ");
+
+        // same matcher applied to many sentences
+        assertTrue(matcher.matches("aaaBBbccc"));
+        assertTrue(matcher.matches("bbb"));
+        assertTrue(matcher.matches("ccc BBB"));
+        assertFalse(matcher.matches("bb b"));
+        assertFalse(matcher.matches(""));
+
+        // regex metacharacters are matched literally
+        assertTrue(KeywordMatcher.partial("C++").matches("Learning c++ templates"));
+        assertFalse(KeywordMatcher.partial("c++").matches("cc"));
+        assertTrue(KeywordMatcher.partial("(int)").matches("cast (INT) x"));
+        assertFalse(KeywordMatcher.partial(".*").matches("anything"));
+    }
+
+    @Test
+    public void fromStart_matches() {
+        KeywordMatcher matcher = KeywordMatcher.fromStart("JAV");
+
+        assertTrue(matcher.matches("java"));
+        assertTrue(matcher.matches("JavaFX layout"));
+        assertFalse(matcher.matches("ja"));
+        assertFalse(matcher.matches("learn java"));
+
+        assertTrue(KeywordMatcher.fromStart("[x]").matches("[X] done"));
+    }
+
+    @Test
+    public void partial_nonAsciiText_matchesAsRegionMatchesIgnoringCase() {
+        String[] sentences = {"\u0130stanbul build", "D\u0131str\u0131buted cache", "Stra\u00dfe", "STRASSE"};
+        String[] keywords = {"istanbul", "\u0130STANBUL", "distributed", "stra\u00dfe", "strasse", "I"};
+        for (String sentence : sentences) {
+            for (String keyword : keywords) {
+                boolean expected = false;
+                for (int start = 0; start + keyword.length() <= sentence.length(); start++) {
+                    expected |= sentence.regionMatches(true, start, keyword, 0, keyword.length());
+                }
+                assertEquals(sentence + " / " + keyword, expected, KeywordMatcher.partial(keyword).matches(sentence));
+            }
+        }
+
+        // dotted and dotless i match their ASCII counterparts, sharp s does not match "ss"
+        assertTrue(KeywordMatcher.partial("istanbul").matches("\u0130stanbul build"));
+        assertTrue(KeywordMatcher.partial("DISTRIBUTED").matches("D\u0131str\u0131buted cache"));
+        assertFalse(KeywordMatcher.partial("strasse").matches("Stra\u00dfe"));
+    }
+
+    @Test
+    public void foldCase_nonAsciiText_keepsLength() {
+        assertEquals("istanbul", KeywordMatcher.foldCase("\u0130STANBUL"));
+        assertEquals("distributed", KeywordMatcher.foldCase("D\u0131str\u0131buted"));
+        assertEquals("stra\u00dfe", KeywordMatcher.foldCase("STRA\u00dfE"));
+    }
+}
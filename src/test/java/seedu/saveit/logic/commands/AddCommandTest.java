@@ -19,8 +19,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
 import java.util.Set;
-import java.util.TreeSet;
 import java.util.function.Predicate;
 
 import org.junit.Rule;
@@ -360,12 +361,27 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
-        public TreeSet<String> getCurrentTagSet() {
+        public NavigableSet<String> getCurrentTagSet() {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public TreeSet<String> getCurrentIssueStatementSet() {
+        public Map<String, Integer> getCurrentTagCounts() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public NavigableSet<String> getCurrentIssueStatementSet() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<String> completeTagName(String prefix, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<String> completeIssueStatement(String prefix, int limit) {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -510,7 +526,8 @@ public class AddCommandTest {
             List<Solution> solutionsToUpdate = new ArrayList<>(targetIssue.getSolutions());
             solutionsToUpdate.add(solution);
             Issue updateIssue = new Issue(targetIssue.getStatement(), targetIssue.getDescription(),
-                    solutionsToUpdate, targetIssue.getTags(), targetIssue.getFrequency(), targetIssue.getCreatedTime());
+                    solutionsToUpdate, targetIssue.getTags(), targetIssue.getFrequency(), targetIssue.getCreatedTime(),
+                    targetIssue.getId());
             int index = issuesAdded.indexOf(targetIssue);
             issuesAdded.set(index, updateIssue);
         }
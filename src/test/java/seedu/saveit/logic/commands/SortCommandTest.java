@@ -151,7 +151,7 @@ public class SortCommandTest {
     private void updateLastModifiedTime(Issue... issues) {
         for (Issue issue : issues) {
             Issue newIssue = new Issue(issue.getStatement(), issue.getDescription(),
-                    issue.getSolutions(), issue.getTags(), issue.getFrequency(), issue.getCreatedTime());
+                    issue.getSolutions(), issue.getTags(), issue.getFrequency(), issue.getCreatedTime(), issue.getId());
             model.updateIssue(issue, newIssue);
             expectedModel.updateIssue(issue, newIssue);
         }
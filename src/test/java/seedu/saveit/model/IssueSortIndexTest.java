@@ -0,0 +1,78 @@
+package seedu.saveit.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.saveit.model.issue.IssueChroComparator;
+import seedu.saveit.model.issue.IssueFreqComparator;
+import seedu.saveit.model.issue.IssueSortKey;
+import seedu.saveit.model.issue.IssueTagComparator;
+import seedu.saveit.model.issue.KeyedIssueComparator;
+import seedu.saveit.testutil.IssueBuilder;
+
+public class IssueSortIndexTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final Issue nullPointer = new IssueBuilder().withStatement("Java NullPointer")
+            .withTags("java", "runtime").withFrequency(1).withLastModifiedTime(300L).build();
+    private final Issue segFault = new IssueBuilder().withStatement("C segmentation fault")
+            .withTags("c", "runtime").withFrequency(5).withLastModifiedTime(100L).build();
+    private final Issue untagged = new IssueBuilder().withStatement("Go").withTags()
+            .withFrequency(3).withLastModifiedTime(200L).build();
+
+    private final ObservableList<Issue> issues =
+            FXCollections.observableArrayList(Arrays.asList(nullPointer, segFault, untagged));
+    private final IssueSortIndex index = new IssueSortIndex(issues);
+
+    @Test
+    public void getSortedKeys_everySortType_matchesComparator() {
+        assertEquals(Arrays.asList(segFault, untagged, nullPointer), getSortedIssues(new IssueFreqComparator()));
+        assertEquals(Arrays.asList(nullPointer, untagged, segFault), getSortedIssues(new IssueChroComparator()));
+        assertEquals(Arrays.asList(segFault, nullPointer, untagged), getSortedIssues(new IssueTagComparator()));
+    }
+
+    @Test
+    public void getSortedKeys_listChanged_keysFollowList() {
+        Issue retaggedUntagged = new IssueBuilder(untagged).withId(untagged.getId()).withTags("a").build();
+        issues.set(2, retaggedUntagged);
+        issues.remove(segFault);
+
+        assertEquals(Arrays.asList(retaggedUntagged, nullPointer), getSortedIssues(new IssueTagComparator()));
+        assertEquals(2, index.getSortedKeys(new IssueChroComparator()).size());
+        assertSame(retaggedUntagged, index.getSortKey(new IssueTagComparator(), retaggedUntagged).getIssue());
+    }
+
+    @Test
+    public void getSortedKeys_frequencyUpdatedInPlace_keysRefreshed() {
+        for (int i = 0; i < 5; i++) {
+            nullPointer.updateFrequency();
+        }
+        assertEquals(Arrays.asList(nullPointer, segFault, untagged), getSortedIssues(new IssueFreqComparator()));
+    }
+
+    @Test
+    public void getSortedKeys_noOrdering_throwsIllegalArgumentException() {
+        IssueSortIndex frequencyIndex =
+                new IssueSortIndex(issues, Collections.singletonList(new IssueFreqComparator()));
+        assertFalse(frequencyIndex.hasOrdering(new IssueTagComparator()));
+        thrown.expect(IllegalArgumentException.class);
+        frequencyIndex.getSortedKeys(new IssueTagComparator());
+    }
+
+    private List<Issue> getSortedIssues(KeyedIssueComparator comparator) {
+        return index.getSortedKeys(comparator).stream().map(IssueSortKey::getIssue).collect(Collectors.toList());
+    }
+}
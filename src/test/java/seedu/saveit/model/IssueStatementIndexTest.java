@@ -0,0 +1,134 @@
+package seedu.saveit.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.saveit.commons.util.KeywordMatcher;
+import seedu.saveit.model.issue.IssueStatement;
+import seedu.saveit.model.util.BatchObservableList;
+import seedu.saveit.testutil.IssueBuilder;
+
+public class IssueStatementIndexTest {
+
+    private final Issue nullPointer = new IssueBuilder().withStatement("Java NullPointer").build();
+    private final Issue segFault = new IssueBuilder().withStatement("C segmentation fault").build();
+    private final Issue shortIssue = new IssueBuilder().withStatement("Go").build();
+
+    private final ObservableList<Issue> issues =
+            FXCollections.observableArrayList(Arrays.asList(nullPointer, segFault, shortIssue));
+    private final IssueStatementIndex index = new IssueStatementIndex(issues);
+
+    @Test
+    public void findStatementsContainingAny_partialKeywords_returnsMatches() {
+        // partial keyword, different case
+        assertMatches(Collections.singletonList("NULLpoint"), nullPointer);
+
+        // any of several keywords
+        assertMatches(Arrays.asList("fault", "java"), nullPointer, segFault);
+
+        // keywords shorter than a trigram
+        assertMatches(Collections.singletonList("go"), shortIssue);
+        assertMatches(Collections.singletonList("a"), nullPointer, segFault);
+
+        // no match
+        assertMatches(Collections.singletonList("ruby"));
+    }
+
+    @Test
+    public void findStatementsContainingAny_listChanged_indexUpdated() {
+        Issue editedSegFault = new IssueBuilder(segFault).withStatement("C stack overflow").build();
+        issues.set(1, editedSegFault);
+        issues.remove(nullPointer);
+
+        assertMatches(Collections.singletonList("fault"));
+        assertMatches(Collections.singletonList("java"));
+        assertMatches(Collections.singletonList("overflow"), editedSegFault);
+
+        issues.setAll(nullPointer);
+        assertMatches(Collections.singletonList("o"), nullPointer);
+    }
+
+    @Test
+    public void findStatementsContainingAny_statementsSwappedInOneChange_indexUpdated() {
+        BatchObservableList<Issue> batchIssues = new BatchObservableList<>();
+        batchIssues.addAll(nullPointer, segFault, shortIssue);
+        IssueStatementIndex batchIndex = new IssueStatementIndex(batchIssues);
+
+        Issue renamedNullPointer = new IssueBuilder(nullPointer).withStatement("C segmentation fault").build();
+        Issue renamedSegFault = new IssueBuilder(segFault).withStatement("Java NullPointer").build();
+        Issue taggedShortIssue = new IssueBuilder(shortIssue).withTags("golang").build();
+        batchIssues.setAll(new int[] {0, 1, 2}, Arrays.asList(renamedNullPointer, renamedSegFault, taggedShortIssue));
+
+        assertEquals(Collections.singleton(segFault.getStatement()),
+                batchIndex.findStatementsContainingAny(Collections.singletonList("fault")));
+        assertEquals(Collections.singleton(nullPointer.getStatement()),
+                batchIndex.findStatementsContainingAny(Collections.singletonList("java")));
+        assertTrue(batchIndex.containsAnyKeyword(Collections.singletonList("go")).test(taggedShortIssue));
+    }
+
+    @Test
+    public void findStatementsContainingAny_nonAsciiStatements_agreesWithKeywordMatcher() {
+        Issue dottedI = new IssueBuilder().withStatement("\u0130stanbul build fails").build();
+        Issue dotlessI = new IssueBuilder().withStatement("D\u0131str\u0131buted cache").build();
+        Issue sharpS = new IssueBuilder().withStatement("Stra\u00dfe lookup").build();
+        issues.addAll(dottedI, dotlessI, sharpS);
+
+        for (String keyword : Arrays.asList("istanbul", "ISTANBUL", "distributed", "STRA\u00dfE", "strasse", "i")) {
+            Set<IssueStatement> expected = new HashSet<>();
+            for (Issue issue : issues) {
+                if (KeywordMatcher.partial(keyword).matches(issue.getStatement().getValue())) {
+                    expected.add(issue.getStatement());
+                }
+            }
+            assertEquals(keyword, expected, index.findStatementsContainingAny(Collections.singletonList(keyword)));
+        }
+        assertMatches(Collections.singletonList("istanbul"), dottedI);
+        assertMatches(Collections.singletonList("distributed"), dotlessI);
+    }
+
+    @Test
+    public void containsAnyKeyword_listChanged_predicateFollowsIndex() {
+        Predicate<Issue> predicate = index.containsAnyKeyword(Collections.singletonList("overflow"));
+        assertFalse(predicate.test(segFault));
+
+        Issue editedSegFault = new IssueBuilder(segFault).withStatement("C stack overflow").build();
+        issues.set(1, editedSegFault);
+        assertTrue(predicate.test(editedSegFault));
+        assertFalse(predicate.test(nullPointer));
+    }
+
+    @Test
+    public void completeStatement_prefix_rankedBySearchFrequency() {
+        Issue javaClass = new IssueBuilder().withStatement("Java class not found").build();
+        Issue javaExact = new IssueBuilder().withStatement("java").build();
+        issues.addAll(javaClass, javaExact);
+        javaClass.updateFrequency();
+        index.updateSearchFrequency(javaClass);
+
+        // exact match first, then most searched
+        assertEquals(Arrays.asList("java", "Java class not found", "Java NullPointer"),
+                index.completeStatement("JAVA", 5));
+        assertEquals(Arrays.asList("java", "Java class not found"), index.completeStatement("java", 2));
+        assertEquals(Collections.emptyList(), index.completeStatement("ruby", 5));
+    }
+
+    private void assertMatches(List<String> keywords, Issue... expectedIssues) {
+        Set<IssueStatement> expected = new HashSet<>();
+        for (Issue issue : expectedIssues) {
+            expected.add(issue.getStatement());
+        }
+        assertEquals(expected, index.findStatementsContainingAny(keywords));
+    }
+}
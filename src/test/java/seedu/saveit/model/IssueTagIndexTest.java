@@ -0,0 +1,110 @@
+package seedu.saveit.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import org.junit.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.saveit.model.util.BatchObservableList;
+import seedu.saveit.testutil.IssueBuilder;
+
+public class IssueTagIndexTest {
+
+    private final Issue nullPointer = new IssueBuilder().withStatement("Java NullPointer")
+            .withTags("java", "runtime").build();
+    private final Issue segFault = new IssueBuilder().withStatement("C segmentation fault")
+            .withTags("c", "runtime").build();
+    private final Issue untagged = new IssueBuilder().withStatement("Go").withTags().build();
+
+    private final ObservableList<Issue> issues =
+            FXCollections.observableArrayList(Arrays.asList(nullPointer, segFault, untagged));
+    private final IssueTagIndex index = new IssueTagIndex(issues);
+
+    @Test
+    public void hasAllTags_severalTags_matchesIntersection() {
+        Predicate<Issue> predicate = index.hasAllTags(Arrays.asList("runtime", "java"));
+        assertTrue(predicate.test(nullPointer));
+        assertFalse(predicate.test(segFault));
+        assertFalse(predicate.test(untagged));
+
+        // unknown tag -> no match
+        assertFalse(index.hasAllTags(Arrays.asList("runtime", "ruby")).test(nullPointer));
+
+        // tags are case sensitive
+        assertFalse(index.hasAllTags(Collections.singletonList("JAVA")).test(nullPointer));
+
+        // no tags -> every issue matches
+        assertTrue(index.hasAllTags(Collections.emptyList()).test(untagged));
+    }
+
+    @Test
+    public void hasAllTags_listChanged_predicateFollowsIndex() {
+        Predicate<Issue> predicate = index.hasAllTags(Collections.singletonList("java"));
+        Issue editedSegFault = new IssueBuilder(segFault).withTags("java").build();
+        issues.set(1, editedSegFault);
+        issues.remove(nullPointer);
+
+        assertTrue(predicate.test(editedSegFault));
+        assertFalse(predicate.test(nullPointer));
+        assertEquals(0, index.countIssuesWithAllTags(Collections.singletonList("runtime")));
+    }
+
+    @Test
+    public void getTagCounts_listChanged_countsUpdated() {
+        Map<String, Integer> expected = new HashMap<>();
+        expected.put("c", 1);
+        expected.put("java", 1);
+        expected.put("runtime", 2);
+        assertEquals(expected, index.getTagCounts());
+        assertEquals(expected.keySet(), index.getTagNames());
+
+        issues.remove(segFault);
+        issues.add(new IssueBuilder().withStatement("Python import").withTags("runtime").build());
+        expected.remove("c");
+        assertEquals(expected, index.getTagCounts());
+        assertEquals(expected.keySet(), index.getTagNames());
+    }
+
+    @Test
+    public void findIssuesWithTag_listChanged_issuesUpdated() {
+        assertEquals(new HashSet<>(Arrays.asList(nullPointer, segFault)),
+                new HashSet<>(index.findIssuesWithTag("runtime")));
+        assertTrue(index.findIssuesWithTag("python").isEmpty());
+
+        issues.remove(nullPointer);
+        Issue importError = new IssueBuilder().withStatement("Python import").withTags("runtime").build();
+        issues.add(importError);
+        assertEquals(new HashSet<>(Arrays.asList(segFault, importError)),
+                new HashSet<>(index.findIssuesWithTag("runtime")));
+    }
+
+    @Test
+    public void getTagCounts_issuesRetaggedInOneChange_countsUpdated() {
+        BatchObservableList<Issue> batchIssues = new BatchObservableList<>();
+        batchIssues.addAll(nullPointer, segFault, untagged);
+        IssueTagIndex batchIndex = new IssueTagIndex(batchIssues);
+
+        Issue retaggedNullPointer = new IssueBuilder(nullPointer).withId(nullPointer.getId())
+                .withTags("jdk", "runtime").build();
+        Issue retaggedSegFault = new IssueBuilder(segFault).withId(segFault.getId()).withTags("c").build();
+        batchIssues.setAll(new int[] {0, 1}, Arrays.asList(retaggedNullPointer, retaggedSegFault));
+
+        Map<String, Integer> expected = new HashMap<>();
+        expected.put("c", 1);
+        expected.put("jdk", 1);
+        expected.put("runtime", 1);
+        assertEquals(expected, batchIndex.getTagCounts());
+        assertEquals(Collections.singletonList(retaggedNullPointer), batchIndex.findIssuesWithTag("runtime"));
+        assertTrue(batchIndex.hasAllTags(Collections.singletonList("jdk")).test(retaggedNullPointer));
+    }
+}
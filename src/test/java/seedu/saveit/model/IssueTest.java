@@ -1,5 +1,6 @@
 package seedu.saveit.model;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.saveit.logic.commands.CommandTestUtil.VALID_DESCRIPTION_JAVA;
@@ -14,6 +15,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.saveit.model.issue.IssueBody;
 import seedu.saveit.testutil.IssueBuilder;
 
 public class IssueTest {
@@ -27,6 +29,39 @@ public class IssueTest {
         issue.getTags().remove(0);
     }
 
+    @Test
+    public void getDescription_bodyInStorage_loadedOnce() {
+        int[] loadCount = {0};
+        Issue issue = new Issue(JAVA_NULL_POINTER.getStatement(), JAVA_NULL_POINTER.getTags(),
+                JAVA_NULL_POINTER.getFrequency(), JAVA_NULL_POINTER.getCreatedTime(),
+                JAVA_NULL_POINTER.getLastModifiedTime(), () -> {
+                    loadCount[0]++;
+                    return new IssueBody(JAVA_NULL_POINTER.getDescription(), JAVA_NULL_POINTER.getSolutions());
+                }, JAVA_NULL_POINTER.getId());
+        assertFalse(issue.isBodyLoaded());
+        assertEquals(0, loadCount[0]);
+
+        assertEquals(JAVA_NULL_POINTER.getDescription(), issue.getDescription());
+        assertEquals(JAVA_NULL_POINTER.getSolutions(), issue.getSolutions());
+        assertTrue(issue.isBodyLoaded());
+        assertEquals(1, loadCount[0]);
+    }
+
+    @Test
+    public void getDescription_bodyInStorage_loadedWithoutHoldingIssueLock() {
+        Issue[] issue = new Issue[1];
+        boolean[] isLockHeld = {true};
+        issue[0] = new Issue(JAVA_NULL_POINTER.getStatement(), JAVA_NULL_POINTER.getTags(),
+                JAVA_NULL_POINTER.getFrequency(), JAVA_NULL_POINTER.getCreatedTime(),
+                JAVA_NULL_POINTER.getLastModifiedTime(), () -> {
+                    isLockHeld[0] = Thread.holdsLock(issue[0]);
+                    return new IssueBody(JAVA_NULL_POINTER.getDescription(), JAVA_NULL_POINTER.getSolutions());
+                }, JAVA_NULL_POINTER.getId());
+
+        issue[0].getDescription();
+        assertFalse(isLockHeld[0]);
+    }
+
     @Test
     public void isSameIssue() {
         // same object -> returns true
@@ -1,6 +1,8 @@
 package seedu.saveit.model;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static seedu.saveit.model.Model.PREDICATE_SHOW_ALL_ISSUES;
 import static seedu.saveit.testutil.TypicalIssues.C_SEGMENTATION_FAULT;
@@ -8,18 +10,31 @@ import static seedu.saveit.testutil.TypicalIssues.JAVA_NULL_POINTER;
 
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.saveit.commons.events.model.IssueAddedEvent;
+import seedu.saveit.commons.events.model.IssueRemovedEvent;
+import seedu.saveit.commons.events.model.IssueUpdatedEvent;
+import seedu.saveit.commons.events.model.SaveItChangedEvent;
+import seedu.saveit.commons.events.model.SaveItResetEvent;
+import seedu.saveit.commons.events.model.TagRenamedEvent;
 import seedu.saveit.model.issue.IssueContainsKeywordsPredicate;
+import seedu.saveit.model.issue.Tag;
+import seedu.saveit.testutil.IssueBuilder;
 import seedu.saveit.testutil.SaveItBuilder;
+import seedu.saveit.ui.testutil.EventsCollectorRule;
 
 public class ModelManagerTest {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
     private ModelManager modelManager = new ModelManager();
 
     @Test
@@ -45,6 +60,88 @@ public class ModelManagerTest {
         modelManager.getFilteredAndSortedIssueList().remove(0);
     }
 
+    @Test
+    public void addIssue_issueAddedEventRaisedAfterSaveItChangedEvent() {
+        modelManager.addIssue(JAVA_NULL_POINTER);
+        assertEquals(2, eventsCollectorRule.eventsCollector.getSize());
+        assertEquals(1, eventsCollectorRule.eventsCollector.getAll(SaveItChangedEvent.class).size());
+        assertEquals(JAVA_NULL_POINTER, ((IssueAddedEvent) eventsCollectorRule.eventsCollector.getMostRecent()).issue);
+        SaveItChangedEvent changedEvent = eventsCollectorRule.eventsCollector.getAll(SaveItChangedEvent.class).get(0);
+        assertEquals(Arrays.asList(eventsCollectorRule.eventsCollector.getMostRecent()), changedEvent.issueEvents);
+    }
+
+    @Test
+    public void updateAndDeleteIssue_oldAndNewIssuesRaised() {
+        modelManager.addIssue(JAVA_NULL_POINTER);
+        Issue editedIssue = new IssueBuilder(JAVA_NULL_POINTER).withDescription("Edited").build();
+        eventsCollectorRule.eventsCollector.reset();
+
+        modelManager.updateIssue(JAVA_NULL_POINTER, editedIssue);
+        IssueUpdatedEvent updatedEvent = (IssueUpdatedEvent) eventsCollectorRule.eventsCollector.getMostRecent();
+        assertEquals(JAVA_NULL_POINTER, updatedEvent.oldIssue);
+        assertEquals(editedIssue, updatedEvent.newIssue);
+
+        modelManager.deleteIssue(editedIssue);
+        assertEquals(editedIssue, ((IssueRemovedEvent) eventsCollectorRule.eventsCollector.getMostRecent()).issue);
+        assertEquals(4, eventsCollectorRule.eventsCollector.getSize());
+    }
+
+    @Test
+    public void refactorTag_tagRenamedEventFollowedByUpdatedIssues() {
+        Issue firstIssue = new IssueBuilder().withStatement("First issue").withTags("java").build();
+        Issue secondIssue = new IssueBuilder().withStatement("Second issue").withTags("python").build();
+        Issue thirdIssue = new IssueBuilder().withStatement("Third issue").withTags("java", "bug").build();
+        modelManager.resetData(new SaveItBuilder().withIssue(firstIssue).withIssue(secondIssue)
+                .withIssue(thirdIssue).build());
+        eventsCollectorRule.eventsCollector.reset();
+
+        modelManager.refactorTag(new Tag("java"), new Tag("jdk"));
+        List<TagRenamedEvent> renamedEvents = eventsCollectorRule.eventsCollector.getAll(TagRenamedEvent.class);
+        assertEquals(1, renamedEvents.size());
+        assertEquals(new Tag("jdk"), renamedEvents.get(0).newTag);
+        List<IssueUpdatedEvent> updatedEvents = eventsCollectorRule.eventsCollector.getAll(IssueUpdatedEvent.class);
+        assertEquals(Arrays.asList(firstIssue, thirdIssue),
+                Arrays.asList(updatedEvents.get(0).oldIssue, updatedEvents.get(1).oldIssue));
+        assertEquals(2, renamedEvents.get(0).renamedIssueCount);
+        assertEquals(4, eventsCollectorRule.eventsCollector.getSize());
+        SaveItChangedEvent changedEvent = eventsCollectorRule.eventsCollector.getAll(SaveItChangedEvent.class).get(0);
+        assertEquals(Arrays.asList(renamedEvents.get(0), updatedEvents.get(0), updatedEvents.get(1)),
+                changedEvent.issueEvents);
+    }
+
+    @Test
+    public void undoAndRedoSaveIt_replayedIssueEventsRaised() {
+        modelManager.addIssue(JAVA_NULL_POINTER);
+        modelManager.commitSaveIt();
+        modelManager.addIssue(C_SEGMENTATION_FAULT);
+        modelManager.commitSaveIt();
+        eventsCollectorRule.eventsCollector.reset();
+
+        modelManager.undoSaveIt();
+        assertEquals(2, eventsCollectorRule.eventsCollector.getSize());
+        assertEquals(1, eventsCollectorRule.eventsCollector.getAll(SaveItChangedEvent.class).size());
+        assertEquals(C_SEGMENTATION_FAULT,
+                ((IssueRemovedEvent) eventsCollectorRule.eventsCollector.getMostRecent()).issue);
+
+        eventsCollectorRule.eventsCollector.reset();
+        modelManager.redoSaveIt();
+        assertEquals(2, eventsCollectorRule.eventsCollector.getSize());
+        assertEquals(C_SEGMENTATION_FAULT,
+                ((IssueAddedEvent) eventsCollectorRule.eventsCollector.getMostRecent()).issue);
+    }
+
+    @Test
+    public void resetData_onlySaveItResetEventRaised() {
+        modelManager.addIssue(JAVA_NULL_POINTER);
+        eventsCollectorRule.eventsCollector.reset();
+
+        modelManager.resetData(new SaveItBuilder().withIssue(C_SEGMENTATION_FAULT).build());
+        assertEquals(2, eventsCollectorRule.eventsCollector.getSize());
+        assertNull(eventsCollectorRule.eventsCollector.getAll(SaveItChangedEvent.class).get(0).issueEvents);
+        SaveItResetEvent resetEvent = (SaveItResetEvent) eventsCollectorRule.eventsCollector.getMostRecent();
+        assertEquals(Arrays.asList(C_SEGMENTATION_FAULT), resetEvent.data.getIssueList());
+    }
+
     @Test
     public void equals() {
         SaveIt saveIt = new SaveItBuilder().withIssue(JAVA_NULL_POINTER).withIssue(C_SEGMENTATION_FAULT).build();
@@ -8,10 +8,12 @@ import static seedu.saveit.testutil.TypicalIssues.JAVA_NULL_POINTER;
 import static seedu.saveit.testutil.TypicalIssues.getTypicalSaveIt;
 import static seedu.saveit.testutil.TypicalSolutions.SOLUTION_STACKOVERFLOW;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
 
 import org.junit.Rule;
@@ -19,9 +21,12 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.saveit.commons.core.directory.Directory;
+import seedu.saveit.model.issue.Tag;
 import seedu.saveit.model.issue.exceptions.DuplicateIssueException;
+import seedu.saveit.model.issue.exceptions.IssueNotFoundException;
 import seedu.saveit.testutil.IssueBuilder;
 
 public class SaveItTest {
@@ -88,6 +93,40 @@ public class SaveItTest {
         assertTrue(saveIt.hasIssue(editedAlice));
     }
 
+    @Test
+    public void refactorTag_editedIssuesKeepTheirIds() {
+        Issue taggedIssue = new IssueBuilder().withStatement("Tagged issue").withTags(VALID_TAG_UI).build();
+        saveIt.addIssue(JAVA_NULL_POINTER);
+        saveIt.addIssue(taggedIssue);
+        assertTrue(saveIt.refactorTag(new Tag(VALID_TAG_UI), new Tag("frontend")));
+        assertEquals(taggedIssue.getId(), saveIt.getIssueList().get(1).getId());
+        assertEquals(Collections.singleton(new Tag("frontend")), saveIt.getIssueList().get(1).getTags());
+    }
+
+    @Test
+    public void addTag_severalIssues_replacedInOneChange() {
+        Issue taggedIssue = new IssueBuilder().withStatement("Tagged issue").withTags(VALID_TAG_UI).build();
+        saveIt.addIssue(JAVA_NULL_POINTER);
+        saveIt.addIssue(taggedIssue);
+        List<ListChangeListener.Change<? extends Issue>> changes = new ArrayList<>();
+        saveIt.getIssueList().addListener(changes::add);
+
+        saveIt.addTag(new LinkedHashSet<>(Arrays.asList(JAVA_NULL_POINTER, taggedIssue)),
+                Collections.singleton(new Tag(VALID_TAG_UI)));
+        assertEquals(1, changes.size());
+        assertEquals(JAVA_NULL_POINTER.getId(), saveIt.getIssueList().get(0).getId());
+        assertTrue(saveIt.getIssueList().get(0).getTags().contains(new Tag(VALID_TAG_UI)));
+        assertTrue(saveIt.getIssueList().get(1) == taggedIssue);
+    }
+
+    @Test
+    public void addTag_issuesAlreadyTagged_throwsIssueNotFoundException() {
+        Issue taggedIssue = new IssueBuilder().withStatement("Tagged issue").withTags(VALID_TAG_UI).build();
+        saveIt.addIssue(taggedIssue);
+        thrown.expect(IssueNotFoundException.class);
+        saveIt.addTag(Collections.singleton(taggedIssue), Collections.singleton(new Tag(VALID_TAG_UI)));
+    }
+
     @Test
     public void getIssueList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -0,0 +1,176 @@
+package seedu.saveit.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import seedu.saveit.model.issue.IssueChroComparator;
+import seedu.saveit.model.issue.IssueFreqComparator;
+import seedu.saveit.model.issue.IssueTagComparator;
+import seedu.saveit.testutil.IssueBuilder;
+
+public class SortedIssueListTest {
+
+    private final Random random = new Random(25);
+    private final ObservableList<Issue> issues = FXCollections.observableArrayList();
+    private final IssueSortIndex index;
+    private final SortedIssueList sortedIssues;
+    /** A copy of the sorted list, kept up to date only from the changes it reports. */
+    private final List<Issue> reportedIssues = new ArrayList<>();
+
+    public SortedIssueListTest() {
+        for (int i = 0; i < 40; i++) {
+            issues.add(buildIssue(i));
+        }
+        index = new IssueSortIndex(issues);
+        sortedIssues = new SortedIssueList(issues, index);
+        reportedIssues.addAll(sortedIssues);
+        sortedIssues.addListener(this::replayChange);
+    }
+
+    @Test
+    public void setComparator_keyedComparator_sortedAsComparator() {
+        sortedIssues.setComparator(new IssueTagComparator());
+        assertSortedAs(new IssueTagComparator());
+
+        sortedIssues.setComparator(new IssueFreqComparator());
+        assertSortedAs(new IssueFreqComparator());
+
+        sortedIssues.setComparator(null);
+        assertEquals(issues, sortedIssues);
+        assertEquals(issues, reportedIssues);
+    }
+
+    @Test
+    public void setComparator_frequencyUpdatedInPlace_sortedAgain() {
+        sortedIssues.setComparator(new IssueFreqComparator());
+        Issue lastIssue = sortedIssues.get(sortedIssues.size() - 1);
+        for (int i = 0; i < 100; i++) {
+            lastIssue.updateFrequency();
+        }
+
+        sortedIssues.setComparator(new IssueFreqComparator());
+        assertEquals(lastIssue, sortedIssues.get(0));
+        assertSortedAs(new IssueFreqComparator());
+    }
+
+    @Test
+    public void sourceChanged_keyedComparator_keptSorted() {
+        sortedIssues.setComparator(new IssueChroComparator());
+        for (int i = 40; i < 200; i++) {
+            changeIssuesRandomly(i);
+            assertSortedAs(new IssueChroComparator());
+        }
+    }
+
+    @Test
+    public void sourceChanged_plainComparator_keptSorted() {
+        Comparator<Issue> byStatement = Comparator.comparing(issue -> issue.getStatement().getValue());
+        sortedIssues.setComparator(byStatement);
+        for (int i = 40; i < 200; i++) {
+            changeIssuesRandomly(i);
+            assertSortedAs(byStatement);
+        }
+    }
+
+    @Test
+    public void sourceChanged_noComparator_keptInSourceOrder() {
+        for (int i = 40; i < 200; i++) {
+            changeIssuesRandomly(i);
+            assertEquals(issues, sortedIssues);
+            assertEquals(issues, reportedIssues);
+        }
+    }
+
+    @Test
+    public void getSourceIndexAndGetViewIndex_sourceChanged_mappedToEachOther() {
+        Comparator<Issue> byStatement = Comparator.comparing(issue -> issue.getStatement().getValue());
+        int number = 40;
+        for (Comparator<Issue> comparator : Arrays.asList(new IssueChroComparator(), byStatement, null)) {
+            sortedIssues.setComparator(comparator);
+            for (int i = 0; i < 50; i++) {
+                changeIssuesRandomly(number++);
+                assertIndexesMapped(sortedIssues, issues);
+            }
+        }
+    }
+
+    @Test
+    public void getSourceIndexAndGetViewIndex_filteredSource_mappedToEachOther() {
+        FilteredList<Issue> filteredIssues = new FilteredList<>(issues, issue -> issue.getTags().isEmpty());
+        SortedIssueList sortedFilteredIssues = new SortedIssueList(filteredIssues, index);
+        sortedFilteredIssues.setComparator(new IssueChroComparator());
+        for (int i = 40; i < 90; i++) {
+            changeIssuesRandomly(i);
+            assertIndexesMapped(sortedFilteredIssues, filteredIssues);
+        }
+    }
+
+    @Test
+    public void setComparator_filteredSource_onlyFilteredIssuesSorted() {
+        FilteredList<Issue> filteredIssues = new FilteredList<>(issues, issue -> issue.getTags().isEmpty());
+        SortedIssueList sortedFilteredIssues = new SortedIssueList(filteredIssues, index);
+        sortedFilteredIssues.setComparator(new IssueChroComparator());
+
+        List<Issue> expected = new ArrayList<>(filteredIssues);
+        expected.sort(new IssueChroComparator());
+        assertEquals(expected, sortedFilteredIssues);
+    }
+
+    private Issue buildIssue(int number) {
+        IssueBuilder builder = new IssueBuilder().withStatement("Issue " + random.nextInt(1000) + " " + number)
+                .withFrequency(random.nextInt(5)).withLastModifiedTime((long) random.nextInt(100000) * 1000 + number);
+        return random.nextInt(4) == 0 ? builder.withTags().build() : builder.withTags("t" + random.nextInt(5)).build();
+    }
+
+    /**
+     * Adds, removes or replaces an issue at a random position of the source.
+     */
+    private void changeIssuesRandomly(int number) {
+        int operation = random.nextInt(3);
+        if (operation == 0 || issues.isEmpty()) {
+            issues.add(random.nextInt(issues.size() + 1), buildIssue(number));
+        } else if (operation == 1) {
+            issues.remove(random.nextInt(issues.size()));
+        } else {
+            int position = random.nextInt(issues.size());
+            Issue edited = new IssueBuilder(buildIssue(number)).withId(issues.get(position).getId()).build();
+            issues.set(position, edited);
+        }
+    }
+
+    private void replayChange(ListChangeListener.Change<? extends Issue> change) {
+        while (change.next()) {
+            for (int i = 0; i < change.getRemovedSize(); i++) {
+                reportedIssues.remove(change.getFrom());
+            }
+            reportedIssues.addAll(change.getFrom(), change.getAddedSubList());
+        }
+    }
+
+    private static void assertIndexesMapped(SortedIssueList sortedList, List<Issue> source) {
+        for (int i = 0; i < sortedList.size(); i++) {
+            int sourceIndex = sortedList.getSourceIndex(i);
+            assertSame(sortedList.get(i), source.get(sourceIndex));
+            assertEquals(i, sortedList.getViewIndex(sourceIndex));
+        }
+    }
+
+    private void assertSortedAs(Comparator<Issue> comparator) {
+        List<Issue> expected = new ArrayList<>(issues);
+        expected.sort(comparator);
+        assertEquals(expected, sortedIssues);
+        assertEquals(expected, reportedIssues);
+    }
+}
@@ -11,16 +11,21 @@ import static seedu.saveit.logic.commands.CommandTestUtil.VALID_TAG_UI;
 import static seedu.saveit.testutil.TypicalIssues.JAVA_NULL_POINTER;
 import static seedu.saveit.testutil.TypicalIssues.VALID_C_ISSUE;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import javafx.collections.ListChangeListener;
 import seedu.saveit.model.issue.exceptions.DuplicateIssueException;
 import seedu.saveit.model.issue.exceptions.IssueNotFoundException;
+import seedu.saveit.model.util.PersistentList;
 import seedu.saveit.testutil.IssueBuilder;
 
 public class UniqueIssueListTest {
@@ -73,6 +78,44 @@ public class UniqueIssueListTest {
     }
 
 
+    @Test
+    public void add_issueWithIdInList_throwsDuplicateIssueException() {
+        uniqueIssueList.add(JAVA_NULL_POINTER);
+        thrown.expect(DuplicateIssueException.class);
+        uniqueIssueList.add(new IssueBuilder(VALID_C_ISSUE).withId(JAVA_NULL_POINTER.getId()).build());
+    }
+
+    @Test
+    public void setIssueAndRemove_afterEarlierRemovals_issuesFoundAtShiftedPositions() {
+        List<Issue> issues = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            issues.add(new IssueBuilder().withStatement("Issue " + i).build());
+            uniqueIssueList.add(issues.get(i));
+        }
+        uniqueIssueList.remove(issues.get(1));
+        uniqueIssueList.remove(issues.get(2));
+        Issue editedIssue = new IssueBuilder(issues.get(4)).withDescription("Edited").withId(issues.get(4).getId())
+                .build();
+        uniqueIssueList.setIssue(issues.get(4), editedIssue);
+        Issue addedIssue = new IssueBuilder().withStatement("Issue 6").build();
+        uniqueIssueList.add(addedIssue);
+        uniqueIssueList.remove(issues.get(3));
+        uniqueIssueList.remove(addedIssue);
+
+        assertEquals(Arrays.asList(issues.get(0), editedIssue, issues.get(5)),
+                uniqueIssueList.asUnmodifiableObservableList());
+        assertEquals("Edited", uniqueIssueList.asUnmodifiableObservableList().get(1).getDescription().getValue());
+    }
+
+    @Test
+    public void setIssue_editedIssueHasIdOfAnotherIssue_throwsDuplicateIssueException() {
+        uniqueIssueList.add(JAVA_NULL_POINTER);
+        uniqueIssueList.add(VALID_C_ISSUE);
+        thrown.expect(DuplicateIssueException.class);
+        uniqueIssueList.setIssue(VALID_C_ISSUE, new IssueBuilder(VALID_C_ISSUE).withId(JAVA_NULL_POINTER.getId())
+                .build());
+    }
+
     @Test
     public void setIssue_nullTargetIssue_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -123,6 +166,18 @@ public class UniqueIssueListTest {
         assertEquals(expectedUniqueIssueList, uniqueIssueList);
     }
 
+    @Test
+    public void setIssue_editedIssueHasDifferentIdentity_releasesOldIdentity() {
+        uniqueIssueList.add(JAVA_NULL_POINTER);
+        uniqueIssueList.setIssue(JAVA_NULL_POINTER, VALID_C_ISSUE);
+        assertFalse(uniqueIssueList.contains(JAVA_NULL_POINTER));
+        assertTrue(uniqueIssueList.contains(VALID_C_ISSUE));
+
+        // the old identity can be added again
+        uniqueIssueList.add(JAVA_NULL_POINTER);
+        assertEquals(2, uniqueIssueList.size());
+    }
+
     @Test
     public void setIssue_editedIssueHasNonUniqueIdentity_throwsDuplicateIssueException() {
         uniqueIssueList.add(JAVA_NULL_POINTER);
@@ -151,6 +206,15 @@ public class UniqueIssueListTest {
         assertEquals(expectedUniqueIssueList, uniqueIssueList);
     }
 
+    @Test
+    public void remove_existingIssue_releasesIdentity() {
+        uniqueIssueList.add(JAVA_NULL_POINTER);
+        uniqueIssueList.remove(JAVA_NULL_POINTER);
+        assertFalse(uniqueIssueList.contains(JAVA_NULL_POINTER));
+        uniqueIssueList.add(JAVA_NULL_POINTER);
+        assertTrue(uniqueIssueList.contains(JAVA_NULL_POINTER));
+    }
+
     @Test
     public void setIssues_nullUniqueIssueList_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -180,6 +244,7 @@ public class UniqueIssueListTest {
         UniqueIssueList expectedUniqueIssueList = new UniqueIssueList();
         expectedUniqueIssueList.add(VALID_C_ISSUE);
         assertEquals(expectedUniqueIssueList, uniqueIssueList);
+        assertFalse(uniqueIssueList.contains(JAVA_NULL_POINTER));
     }
 
     @Test
@@ -189,6 +254,123 @@ public class UniqueIssueListTest {
         uniqueIssueList.setIssues(listWithDuplicateIssues);
     }
 
+    @Test
+    public void setIssues_listWithDuplicateIds_throwsDuplicateIssueException() {
+        List<Issue> listWithDuplicateIds = Arrays.asList(JAVA_NULL_POINTER,
+                new IssueBuilder(VALID_C_ISSUE).withId(JAVA_NULL_POINTER.getId()).build());
+        thrown.expect(DuplicateIssueException.class);
+        uniqueIssueList.setIssues(listWithDuplicateIds);
+    }
+
+    @Test
+    public void setIssues_listWithDuplicateIssues_leavesOwnListUnchanged() {
+        uniqueIssueList.add(VALID_C_ISSUE);
+        try {
+            uniqueIssueList.setIssues(Arrays.asList(JAVA_NULL_POINTER, JAVA_NULL_POINTER));
+        } catch (DuplicateIssueException e) {
+            // expected
+        }
+        assertTrue(uniqueIssueList.contains(VALID_C_ISSUE));
+        assertFalse(uniqueIssueList.contains(JAVA_NULL_POINTER));
+    }
+
+    @Test
+    public void setIssues_editedIssues_replacedInOneChange() {
+        Issue untouchedIssue = new IssueBuilder().withStatement("Untouched issue").build();
+        uniqueIssueList.add(JAVA_NULL_POINTER);
+        uniqueIssueList.add(untouchedIssue);
+        uniqueIssueList.add(VALID_C_ISSUE);
+        List<Integer> changeSizes = new ArrayList<>();
+        uniqueIssueList.asUnmodifiableObservableList().addListener((ListChangeListener<Issue>) change -> {
+            int replacedCount = 0;
+            while (change.next()) {
+                replacedCount += change.getAddedSize();
+            }
+            changeSizes.add(replacedCount);
+        });
+
+        Map<Issue, Issue> editedIssues = new LinkedHashMap<>();
+        Issue editedCIssue = new IssueBuilder(VALID_C_ISSUE).withId(VALID_C_ISSUE.getId())
+                .withTags(VALID_TAG_UI).build();
+        Issue editedJavaIssue = new IssueBuilder(JAVA_NULL_POINTER).withId(JAVA_NULL_POINTER.getId())
+                .withTags(VALID_TAG_SYNTAX).build();
+        editedIssues.put(VALID_C_ISSUE, editedCIssue);
+        editedIssues.put(JAVA_NULL_POINTER, editedJavaIssue);
+        uniqueIssueList.setIssues(editedIssues);
+
+        assertEquals(Collections.singletonList(2), changeSizes);
+        assertEquals(Arrays.asList(editedJavaIssue, untouchedIssue, editedCIssue),
+                uniqueIssueList.asUnmodifiableObservableList());
+        assertEquals(uniqueIssueList.asUnmodifiableObservableList(), uniqueIssueList.asPersistentList().toList());
+        uniqueIssueList.remove(editedJavaIssue);
+        uniqueIssueList.setIssue(editedCIssue, VALID_C_ISSUE);
+        assertEquals(Arrays.asList(untouchedIssue, VALID_C_ISSUE), uniqueIssueList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setIssues_targetNotInList_throwsIssueNotFoundException() {
+        uniqueIssueList.add(JAVA_NULL_POINTER);
+        thrown.expect(IssueNotFoundException.class);
+        uniqueIssueList.setIssues(Collections.singletonMap(VALID_C_ISSUE, VALID_C_ISSUE));
+    }
+
+    @Test
+    public void setIssues_editedIssueHasIdentityOfAnotherIssue_leavesOwnListUnchanged() {
+        uniqueIssueList.add(JAVA_NULL_POINTER);
+        uniqueIssueList.add(VALID_C_ISSUE);
+        Map<Issue, Issue> editedIssues = new LinkedHashMap<>();
+        editedIssues.put(JAVA_NULL_POINTER, new IssueBuilder(JAVA_NULL_POINTER).withTags(VALID_TAG_UI).build());
+        editedIssues.put(VALID_C_ISSUE, new IssueBuilder(JAVA_NULL_POINTER).build());
+        try {
+            uniqueIssueList.setIssues(editedIssues);
+        } catch (DuplicateIssueException e) {
+            // expected
+        }
+        assertEquals(Arrays.asList(JAVA_NULL_POINTER, VALID_C_ISSUE), uniqueIssueList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void applyChanges_removedIssueNotAtItsPosition_replacedAsAWhole() {
+        Issue otherIssue = new IssueBuilder().withStatement("Other issue").build();
+        uniqueIssueList.add(JAVA_NULL_POINTER);
+        uniqueIssueList.add(VALID_C_ISSUE);
+        List<IssueListChange> changes = new ArrayList<>();
+        uniqueIssueList.asUnmodifiableObservableList().addListener((ListChangeListener<Issue>) change ->
+                changes.add(IssueListChange.of(change)));
+        uniqueIssueList.remove(VALID_C_ISSUE);
+        PersistentList<Issue> result = uniqueIssueList.asPersistentList();
+
+        // the recorded change removes VALID_C_ISSUE at position 1, where this list holds another issue
+        UniqueIssueList otherList = new UniqueIssueList();
+        otherList.add(JAVA_NULL_POINTER);
+        otherList.add(otherIssue);
+        List<Integer> changeCounts = new ArrayList<>();
+        otherList.asUnmodifiableObservableList().addListener((ListChangeListener<Issue>) change ->
+                changeCounts.add(1));
+
+        assertFalse(otherList.applyChanges(changes, result));
+        assertEquals(Collections.singletonList(1), changeCounts);
+        assertEquals(Collections.singletonList(JAVA_NULL_POINTER), otherList.asUnmodifiableObservableList());
+        assertFalse(otherList.contains(otherIssue));
+        assertTrue(otherList.contains(JAVA_NULL_POINTER));
+    }
+
+    @Test
+    public void applyChanges_recordedChanges_appliedInPlace() {
+        uniqueIssueList.add(JAVA_NULL_POINTER);
+        uniqueIssueList.add(VALID_C_ISSUE);
+        UniqueIssueList otherList = new UniqueIssueList();
+        otherList.setIssues(uniqueIssueList);
+        List<IssueListChange> changes = new ArrayList<>();
+        uniqueIssueList.asUnmodifiableObservableList().addListener((ListChangeListener<Issue>) change ->
+                changes.add(IssueListChange.of(change)));
+        uniqueIssueList.remove(JAVA_NULL_POINTER);
+
+        assertTrue(otherList.applyChanges(changes, uniqueIssueList.asPersistentList()));
+        assertEquals(Collections.singletonList(VALID_C_ISSUE), otherList.asUnmodifiableObservableList());
+        assertFalse(otherList.contains(JAVA_NULL_POINTER));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
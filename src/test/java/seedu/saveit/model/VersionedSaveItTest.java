@@ -8,12 +8,15 @@ import static seedu.saveit.testutil.TypicalIssues.RUBY_HASH_BUG;
 import static seedu.saveit.testutil.TypicalIssues.VALID_C_ISSUE;
 import static seedu.saveit.testutil.TypicalIssues.VALID_JAVA_ISSUE;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.Test;
 
+import javafx.collections.ListChangeListener;
+import seedu.saveit.testutil.IssueBuilder;
 import seedu.saveit.testutil.SaveItBuilder;
 
 public class VersionedSaveItTest {
@@ -207,6 +210,113 @@ public class VersionedSaveItTest {
         assertThrows(VersionedSaveIt.NoRedoableStateException.class, versionedSaveIt::redo);
     }
 
+    @Test
+    public void commit_beyondUndoLimit_oldestStatesRemoved() {
+        VersionedSaveIt versionedSaveIt = new VersionedSaveIt(emptySaveIt, 2, VersionedSaveIt.DEFAULT_BYTE_BUDGET);
+        versionedSaveIt.resetData(saveItWithAmy);
+        versionedSaveIt.commit();
+        versionedSaveIt.resetData(saveItWithBob);
+        versionedSaveIt.commit();
+        versionedSaveIt.resetData(saveItWithCarl);
+        versionedSaveIt.commit();
+
+        assertEquals(3, versionedSaveIt.getHistorySize());
+        assertSaveItListStatus(versionedSaveIt,
+                Arrays.asList(saveItWithAmy, saveItWithBob),
+                saveItWithCarl,
+                Collections.emptyList());
+    }
+
+    @Test
+    public void commit_beyondByteBudget_oldestStatesRemoved() {
+        VersionedSaveIt versionedSaveIt = new VersionedSaveIt(emptySaveIt, VersionedSaveIt.DEFAULT_UNDO_LIMIT, 0);
+        versionedSaveIt.resetData(saveItWithAmy);
+        versionedSaveIt.commit();
+
+        assertEquals(1, versionedSaveIt.getHistorySize());
+        assertEquals(0, versionedSaveIt.getEstimatedHistoryBytes());
+        assertFalse(versionedSaveIt.canUndo());
+        assertEquals(saveItWithAmy, new SaveIt(versionedSaveIt));
+    }
+
+    @Test
+    public void commit_changedState_historyBytesTracked() {
+        VersionedSaveIt versionedSaveIt = prepareSaveItList(emptySaveIt);
+        assertEquals(0, versionedSaveIt.getEstimatedHistoryBytes());
+
+        versionedSaveIt.addIssue(VALID_JAVA_ISSUE);
+        versionedSaveIt.commit();
+        long bytesAfterAdd = versionedSaveIt.getEstimatedHistoryBytes();
+        assertTrue(bytesAfterAdd > 0);
+
+        // unchanged state -> no additional bytes retained
+        versionedSaveIt.commit();
+        assertEquals(bytesAfterAdd, versionedSaveIt.getEstimatedHistoryBytes());
+
+        // discarded redo states no longer count
+        versionedSaveIt.undo();
+        versionedSaveIt.undo();
+        versionedSaveIt.commit();
+        assertEquals(0, versionedSaveIt.getEstimatedHistoryBytes());
+    }
+
+    @Test
+    public void undoRedo_editedIssue_onlyEditedIssueReplaced() {
+        VersionedSaveIt versionedSaveIt = prepareSaveItList(
+                new SaveItBuilder().withIssue(VALID_JAVA_ISSUE).withIssue(VALID_C_ISSUE).build());
+        Issue editedIssue = new IssueBuilder(VALID_C_ISSUE).withDescription("Edited").build();
+        versionedSaveIt.updateIssue(VALID_C_ISSUE, editedIssue);
+        versionedSaveIt.commit();
+        List<List<Issue>> removedIssues = new ArrayList<>();
+        List<List<Issue>> addedIssues = new ArrayList<>();
+        versionedSaveIt.getIssueList().addListener((ListChangeListener<Issue>) change -> {
+            while (change.next()) {
+                removedIssues.add(new ArrayList<>(change.getRemoved()));
+                addedIssues.add(new ArrayList<>(change.getAddedSubList()));
+            }
+        });
+
+        versionedSaveIt.undo();
+        assertEquals(Collections.singletonList(Collections.singletonList(editedIssue)), removedIssues);
+        assertEquals(Collections.singletonList(Collections.singletonList(VALID_C_ISSUE)), addedIssues);
+        assertEquals(Arrays.asList(VALID_JAVA_ISSUE, VALID_C_ISSUE), versionedSaveIt.getIssueList());
+
+        versionedSaveIt.redo();
+        assertEquals(2, removedIssues.size());
+        assertEquals(Collections.singletonList(editedIssue), addedIssues.get(1));
+        assertEquals(Arrays.asList(VALID_JAVA_ISSUE, editedIssue), versionedSaveIt.getIssueList());
+    }
+
+    @Test
+    public void undoRedo_severalChangesAndUncommittedChanges_statesRestored() {
+        VersionedSaveIt versionedSaveIt = prepareSaveItList(
+                new SaveItBuilder().withIssue(VALID_JAVA_ISSUE).withIssue(VALID_C_ISSUE).build());
+        SaveIt firstState = new SaveIt(versionedSaveIt);
+        Issue editedIssue = new IssueBuilder(VALID_JAVA_ISSUE).withTags("edited").build();
+        versionedSaveIt.removeIssue(VALID_JAVA_ISSUE);
+        versionedSaveIt.addIssue(RUBY_HASH_BUG);
+        versionedSaveIt.addIssue(editedIssue);
+        versionedSaveIt.commit();
+        SaveIt secondState = new SaveIt(versionedSaveIt);
+        versionedSaveIt.removeIssue(VALID_C_ISSUE);
+
+        versionedSaveIt.undo();
+        assertEquals(firstState, new SaveIt(versionedSaveIt));
+        assertTrue(versionedSaveIt.hasIssue(VALID_JAVA_ISSUE));
+        assertFalse(versionedSaveIt.hasIssue(RUBY_HASH_BUG));
+
+        versionedSaveIt.redo();
+        assertEquals(secondState, new SaveIt(versionedSaveIt));
+
+        // the issue list and its snapshots are still consistent after the restored changes
+        Issue editedRubyIssue = new IssueBuilder(RUBY_HASH_BUG).withDescription("Edited").build();
+        versionedSaveIt.updateIssue(RUBY_HASH_BUG, editedRubyIssue);
+        versionedSaveIt.removeIssue(editedIssue);
+        assertEquals(Arrays.asList(VALID_C_ISSUE, editedRubyIssue), versionedSaveIt.getIssueList());
+        assertEquals(versionedSaveIt.getIssueList(), versionedSaveIt.takeSnapshot().getIssueList());
+        assertEquals(2, versionedSaveIt.takeSnapshot().getIssueCount());
+    }
+
     @Test
     public void equals() {
         VersionedSaveIt versionedSaveIt = prepareSaveItList(saveItWithAmy, saveItWithBob);
@@ -0,0 +1,71 @@
+package seedu.saveit.model.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class CaseInsensitiveDictionaryTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final CaseInsensitiveDictionary dictionary = new CaseInsensitiveDictionary();
+
+    @Test
+    public void add_words_sortedIgnoringCase() {
+        dictionary.add("beta");
+        dictionary.add("Alpha");
+        dictionary.add("gamma");
+        assertEquals(Arrays.asList("Alpha", "beta", "gamma"), new ArrayList<>(dictionary.asSortedSet()));
+    }
+
+    @Test
+    public void remove_wordAddedTwice_keptUntilBothRemoved() {
+        dictionary.add("java");
+        dictionary.add("java");
+
+        dictionary.remove("java");
+        assertEquals(Collections.singletonList("java"), new ArrayList<>(dictionary.asSortedSet()));
+
+        dictionary.remove("java");
+        assertEquals(Collections.emptyList(), new ArrayList<>(dictionary.asSortedSet()));
+
+        // absent word -> no change
+        dictionary.remove("java");
+        assertEquals(Collections.emptyList(), new ArrayList<>(dictionary.asSortedSet()));
+    }
+
+    @Test
+    public void remove_listedSpelling_otherSpellingListed() {
+        dictionary.add("Java");
+        dictionary.add("java");
+        assertEquals(Collections.singletonList("Java"), new ArrayList<>(dictionary.asSortedSet()));
+
+        dictionary.remove("Java");
+        assertEquals(Collections.singletonList("java"), new ArrayList<>(dictionary.asSortedSet()));
+    }
+
+    @Test
+    public void complete_prefix_returnsWordsStartingWithPrefix() {
+        Arrays.asList("javac", "Java", "JavaFX", "gradle", "jUnit", "jav").forEach(dictionary::add);
+
+        assertEquals(Arrays.asList("jav", "Java", "javac", "JavaFX"), dictionary.complete("JAV", 10));
+
+        // limited number of completions
+        assertEquals(Arrays.asList("jav", "Java"), dictionary.complete("jav", 2));
+
+        // regex metacharacters are matched literally
+        assertEquals(Collections.emptyList(), dictionary.complete("j.*", 10));
+    }
+
+    @Test
+    public void asSortedSet_modify_throwsUnsupportedOperationException() {
+        thrown.expect(UnsupportedOperationException.class);
+        dictionary.asSortedSet().add("java");
+    }
+}
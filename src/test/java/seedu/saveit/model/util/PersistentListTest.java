@@ -0,0 +1,116 @@
+package seedu.saveit.model.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class PersistentListTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void of_elements_preservesOrder() {
+        List<String> elements = Arrays.asList("a", "b", "c", "d", "e");
+        PersistentList<String> list = PersistentList.of(elements);
+        assertEquals(elements, list.toList());
+        assertEquals(5, list.size());
+        assertEquals("c", list.get(2));
+    }
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        PersistentList.of(Collections.singletonList("a")).get(1);
+    }
+
+    @Test
+    public void remove_emptyList_throwsIndexOutOfBoundsException() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        PersistentList.empty().remove(0);
+    }
+
+    @Test
+    public void updates_doNotModifyOriginal() {
+        PersistentList<String> original = PersistentList.of(Arrays.asList("a", "b", "c"));
+
+        PersistentList<String> added = original.add("d");
+        PersistentList<String> replaced = original.set(1, "x");
+        PersistentList<String> removed = original.remove(0);
+
+        assertEquals(Arrays.asList("a", "b", "c"), original.toList());
+        assertEquals(Arrays.asList("a", "b", "c", "d"), added.toList());
+        assertEquals(Arrays.asList("a", "x", "c"), replaced.toList());
+        assertEquals(Arrays.asList("b", "c"), removed.toList());
+    }
+
+    @Test
+    public void randomUpdates_matchArrayList() {
+        Random random = new Random(4);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+
+        for (int i = 0; i < 2000; i++) {
+            int operation = random.nextInt(3);
+            if (operation == 0 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual = actual.add(index, i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, -i);
+                actual = actual.set(index, -i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.remove(index);
+            }
+        }
+
+        assertEquals(expected, actual.toList());
+        assertEquals(expected.size(), actual.size());
+    }
+
+    @Test
+    public void binarySearch_sortedList_matchesCollectionsBinarySearch() {
+        List<Integer> elements = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            elements.add(i * 2);
+        }
+        PersistentList<Integer> list = PersistentList.of(elements);
+
+        for (int key = -1; key <= 200; key++) {
+            int searchedKey = key;
+            assertEquals(Collections.binarySearch(elements, key),
+                    list.binarySearch(element -> Integer.compare(element, searchedKey)));
+        }
+        assertEquals(-1, PersistentList.<Integer>empty().binarySearch(element -> 0));
+    }
+
+    @Test
+    public void equals() {
+        PersistentList<String> list = PersistentList.of(Arrays.asList("a", "b"));
+
+        // same values -> returns true
+        assertTrue(list.equals(PersistentList.empty().add("a").add("b")));
+
+        // same object -> returns true
+        assertTrue(list.equals(list));
+
+        // null -> returns false
+        assertFalse(list.equals(null));
+
+        // different values -> returns false
+        assertFalse(list.equals(list.set(0, "c")));
+        assertFalse(list.equals(list.add("c")));
+    }
+}
@@ -0,0 +1,118 @@
+package seedu.saveit.model.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class RankedPrefixTrieTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final RankedPrefixTrie trie = new RankedPrefixTrie(2);
+
+    @Test
+    public void constructor_nonPositiveCacheSize_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new RankedPrefixTrie(0);
+    }
+
+    @Test
+    public void complete_prefix_exactWordFirstThenBestScored() {
+        trie.put("javac", 1);
+        trie.put("Java", 0);
+        trie.put("JavaFX", 3);
+        trie.put("gradle", 5);
+        trie.put("jav", 0);
+
+        assertEquals(Arrays.asList("Java", "JavaFX", "javac"), trie.complete("JAVA", 3));
+        assertEquals(Arrays.asList("JavaFX", "javac"), trie.complete("ja", 2));
+
+        // more completions than the cache holds
+        assertEquals(Arrays.asList("JavaFX", "javac", "jav", "Java"), trie.complete("j", 10));
+
+        assertEquals(Collections.emptyList(), trie.complete("j.*", 10));
+        assertEquals(Collections.emptyList(), trie.complete("java", 0));
+    }
+
+    @Test
+    public void put_scoredAgain_rankedByNewScore() {
+        trie.put("javac", 1);
+        trie.put("JavaFX", 3);
+        trie.put("jUnit", 2);
+
+        trie.put("javac", 4);
+        assertEquals(Arrays.asList("javac", "JavaFX"), trie.complete("j", 2));
+
+        // a word that was not cached takes the place of one scored lower
+        trie.put("javac", 0);
+        assertEquals(Arrays.asList("JavaFX", "jUnit"), trie.complete("j", 2));
+    }
+
+    @Test
+    public void remove_cachedWord_replacedByNextBest() {
+        trie.put("javac", 1);
+        trie.put("JavaFX", 3);
+        trie.put("jUnit", 2);
+
+        trie.remove("JavaFX");
+        trie.remove("missing");
+        assertEquals(Arrays.asList("jUnit", "javac"), trie.complete("j", 2));
+        assertEquals(Collections.singletonList("javac"), trie.complete("ja", 2));
+
+        trie.remove("javac");
+        assertEquals(Collections.emptyList(), trie.complete("ja", 2));
+    }
+
+    @Test
+    public void complete_randomUpdates_sameAsRankingEveryWord() {
+        RankedPrefixTrie cachedTrie = new RankedPrefixTrie(3);
+        List<String> words = Arrays.asList("a", "ab", "Ab", "abc", "abd", "b", "ba", "bab", "abcd", "AbCe");
+        List<Integer> scores = new ArrayList<>(Collections.nCopies(words.size(), -1));
+        Random random = new Random(7);
+        for (int i = 0; i < 500; i++) {
+            int word = random.nextInt(words.size());
+            if (random.nextInt(4) == 0) {
+                cachedTrie.remove(words.get(word));
+                scores.set(word, -1);
+            } else {
+                int score = random.nextInt(5);
+                cachedTrie.put(words.get(word), score);
+                scores.set(word, score);
+            }
+            for (String prefix : Arrays.asList("", "a", "AB", "abc", "b")) {
+                List<String> expected = rankEveryWord(words, scores, prefix);
+                assertEquals(expected.subList(0, Math.min(3, expected.size())), cachedTrie.complete(prefix, 3));
+            }
+        }
+    }
+
+    private static List<String> rankEveryWord(List<String> words, List<Integer> scores, String prefix) {
+        List<String> ranked = new ArrayList<>();
+        for (int i = 0; i < words.size(); i++) {
+            if (scores.get(i) >= 0 && words.get(i).regionMatches(true, 0, prefix, 0, prefix.length())) {
+                ranked.add(words.get(i));
+            }
+        }
+        ranked.sort((first, second) -> {
+            boolean isFirstExact = first.equalsIgnoreCase(prefix);
+            if (isFirstExact != second.equalsIgnoreCase(prefix)) {
+                return isFirstExact ? -1 : 1;
+            }
+            int scoreOrder = Integer.compare(scores.get(words.indexOf(second)), scores.get(words.indexOf(first)));
+            if (scoreOrder != 0) {
+                return scoreOrder;
+            }
+            int caseOrder = String.CASE_INSENSITIVE_ORDER.compare(first, second);
+            return caseOrder != 0 ? caseOrder : first.compareTo(second);
+        });
+        return ranked;
+    }
+}
@@ -0,0 +1,81 @@
+package seedu.saveit.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.saveit.testutil.TypicalIssues.getTypicalSaveIt;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.saveit.commons.exceptions.DataConversionException;
+import seedu.saveit.model.ReadOnlySaveIt;
+import seedu.saveit.model.SaveIt;
+import seedu.saveit.model.issue.PrimarySolution;
+import seedu.saveit.testutil.IssueBuilder;
+import seedu.saveit.testutil.SolutionBuilder;
+
+public class BinarySaveItStorageTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void readSaveIt_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("missing.bin");
+        assertFalse(new BinarySaveItStorage(filePath).readSaveIt().isPresent());
+    }
+
+    @Test
+    public void readAndSaveSaveIt_typicalSaveIt_losslessAndSmallerThanXml() throws Exception {
+        SaveIt original = getTypicalSaveIt();
+        original.addIssue(new IssueBuilder().withStatement("Primary solution issue")
+                .withSolutions(new PrimarySolution(new SolutionBuilder().build()),
+                        new SolutionBuilder().withLink("https://www.example.com").build())
+                .build());
+        Path binaryPath = testFolder.getRoot().toPath().resolve("saveit.bin");
+        Path xmlPath = testFolder.getRoot().toPath().resolve("saveit.xml");
+        BinarySaveItStorage binaryStorage = new BinarySaveItStorage(binaryPath);
+        binaryStorage.saveSaveIt(original);
+        ReadOnlySaveIt readBack = binaryStorage.readSaveIt().get();
+
+        // written as xml, the data read back is the same as the original to the byte
+        Path readBackXmlPath = testFolder.getRoot().toPath().resolve("readBack.xml");
+        new XmlSaveItStorage(xmlPath).saveSaveIt(original);
+        new XmlSaveItStorage(readBackXmlPath).saveSaveIt(readBack);
+        assertArrayEquals(Files.readAllBytes(xmlPath), Files.readAllBytes(readBackXmlPath));
+        assertEquals(original, new SaveIt(readBack));
+
+        assertTrue(Files.size(binaryPath) < Files.size(xmlPath));
+    }
+
+    @Test
+    public void readSaveIt_xmlFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("saveit.xml");
+        new XmlSaveItStorage(filePath).saveSaveIt(getTypicalSaveIt());
+
+        thrown.expect(DataConversionException.class);
+        new BinarySaveItStorage(filePath).readSaveIt();
+    }
+
+    @Test
+    public void readSaveIt_truncatedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("saveit.bin");
+        BinarySaveItStorage storage = new BinarySaveItStorage(filePath);
+        storage.saveSaveIt(getTypicalSaveIt());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 5));
+
+        thrown.expect(DataConversionException.class);
+        storage.readSaveIt();
+    }
+}
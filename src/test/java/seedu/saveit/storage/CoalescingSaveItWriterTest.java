@@ -0,0 +1,132 @@
+package seedu.saveit.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static seedu.saveit.testutil.TypicalIssues.JAVA_NULL_POINTER;
+import static seedu.saveit.testutil.TypicalIssues.MYSQL_ERROR;
+import static seedu.saveit.testutil.TypicalIssues.getTypicalSaveIt;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.saveit.commons.events.BaseEvent;
+import seedu.saveit.commons.events.model.IssueAddedEvent;
+import seedu.saveit.commons.events.model.IssueRemovedEvent;
+import seedu.saveit.model.ReadOnlySaveIt;
+import seedu.saveit.model.SaveIt;
+
+public class CoalescingSaveItWriterTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final RecordingStorageStub storage = new RecordingStorageStub(Paths.get("dummy"));
+    private final List<IOException> failures = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    public void flush_burstOfChanges_writesLatestOnce() {
+        CoalescingSaveItWriter writer = new CoalescingSaveItWriter(storage, 60_000, failures::add);
+        SaveIt latest = getTypicalSaveIt();
+        writer.submit(new SaveIt());
+        writer.submit(new SaveIt());
+        writer.submit(latest);
+
+        writer.flush();
+        assertEquals(Collections.singletonList(latest), storage.savedStates);
+        assertEquals(1, writer.getWriteCount());
+        assertEquals(2, writer.getSkippedWriteCount());
+
+        // nothing pending -> nothing written
+        writer.flush();
+        assertEquals(1, storage.savedStates.size());
+        writer.close();
+    }
+
+    @Test
+    public void flush_burstOfChanges_issueEventsWrittenTogether() {
+        CoalescingSaveItWriter writer = new CoalescingSaveItWriter(storage, 60_000, failures::add);
+        BaseEvent added = new IssueAddedEvent(MYSQL_ERROR, 0);
+        BaseEvent removed = new IssueRemovedEvent(JAVA_NULL_POINTER);
+        writer.submit(new SaveIt(), Collections.singletonList(added));
+        writer.submit(new SaveIt(), Collections.singletonList(removed));
+        writer.flush();
+        assertEquals(Arrays.asList(added, removed), storage.savedIssueEvents.get(0));
+
+        // unknown events make the events of the whole burst unknown
+        writer.submit(new SaveIt(), Collections.singletonList(added));
+        writer.submit(new SaveIt());
+        writer.submit(new SaveIt(), Collections.singletonList(removed));
+        writer.flush();
+        assertNull(storage.savedIssueEvents.get(1));
+        writer.close();
+    }
+
+    @Test
+    public void submit_debounceElapsed_writtenInBackground() throws Exception {
+        CoalescingSaveItWriter writer = new CoalescingSaveItWriter(storage, 1, failures::add);
+        writer.submit(new SaveIt());
+        for (int i = 0; i < 500 && writer.getWriteCount() == 0; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, writer.getWriteCount());
+        writer.close();
+    }
+
+    @Test
+    public void flush_writeFails_failureReported() {
+        storage.isFailing = true;
+        CoalescingSaveItWriter writer = new CoalescingSaveItWriter(storage, 60_000, failures::add);
+        writer.submit(new SaveIt());
+        writer.flush();
+        assertEquals(1, failures.size());
+        assertEquals(0, writer.getWriteCount());
+        writer.close();
+    }
+
+    @Test
+    public void submit_closedWriter_throwsIllegalStateException() {
+        CoalescingSaveItWriter writer = new CoalescingSaveItWriter(storage, 60_000, failures::add);
+        writer.submit(new SaveIt());
+        writer.close();
+        assertEquals(1, storage.savedStates.size());
+
+        thrown.expect(IllegalStateException.class);
+        writer.submit(new SaveIt());
+    }
+
+    /**
+     * A stub that records the saved states and the issue events saved with them instead of writing them,
+     * or fails if asked to.
+     */
+    private static class RecordingStorageStub extends XmlSaveItStorage {
+        private final List<ReadOnlySaveIt> savedStates = Collections.synchronizedList(new ArrayList<>());
+        private final List<List<BaseEvent>> savedIssueEvents = Collections.synchronizedList(new ArrayList<>());
+        private volatile boolean isFailing;
+
+        RecordingStorageStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveSaveIt(ReadOnlySaveIt saveIt, Path filePath) throws IOException {
+            if (isFailing) {
+                throw new IOException("dummy exception");
+            }
+            savedStates.add(saveIt);
+        }
+
+        @Override
+        public void saveChanges(ReadOnlySaveIt saveIt, List<BaseEvent> issueEvents) throws IOException {
+            saveSaveIt(saveIt);
+            savedIssueEvents.add(issueEvents);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package seedu.saveit.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.saveit.logic.commands.CommandTestUtil.VALID_TAG_BUG;
+import static seedu.saveit.testutil.TypicalIssues.JAVA_NULL_POINTER;
+import static seedu.saveit.testutil.TypicalIssues.MYSQL_ERROR;
+import static seedu.saveit.testutil.TypicalIssues.getTypicalSaveIt;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.saveit.commons.events.BaseEvent;
+import seedu.saveit.commons.events.model.IssueAddedEvent;
+import seedu.saveit.commons.events.model.IssueRemovedEvent;
+import seedu.saveit.commons.events.model.IssueUpdatedEvent;
+import seedu.saveit.commons.events.model.TagRenamedEvent;
+import seedu.saveit.model.Issue;
+import seedu.saveit.model.ReadOnlySaveIt;
+import seedu.saveit.model.SaveIt;
+import seedu.saveit.model.issue.Tag;
+import seedu.saveit.testutil.IssueBuilder;
+
+public class JournaledSaveItStorageTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void saveChanges_smallEdits_appendedToJournal() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("saveit.xml");
+        JournaledSaveItStorage storage = new JournaledSaveItStorage(filePath);
+        SaveIt saveIt = getTypicalSaveIt();
+        storage.saveSaveIt(saveIt);
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        Issue editedIssue = new IssueBuilder(JAVA_NULL_POINTER).withDescription("Edited description").build();
+        saveIt.updateIssue(JAVA_NULL_POINTER, editedIssue);
+        storage.saveChanges(saveIt, events(new IssueUpdatedEvent(JAVA_NULL_POINTER, editedIssue)));
+        Issue searchedIssue = new IssueBuilder().withStatement("Searched issue").build();
+        saveIt.addIssue(searchedIssue);
+        storage.saveChanges(saveIt, events(new IssueAddedEvent(searchedIssue, saveIt.getIssueCount() - 1)));
+        searchedIssue.updateFrequency();
+        Issue removedIssue = saveIt.getIssueList().get(2);
+        saveIt.removeIssue(removedIssue);
+        storage.saveChanges(saveIt, events(new IssueUpdatedEvent(searchedIssue, searchedIssue),
+                new IssueRemovedEvent(removedIssue)));
+
+        // the snapshot is left alone
+        assertTrue(Arrays.equals(snapshot, Files.readAllBytes(filePath)));
+
+        ReadOnlySaveIt readBack = new JournaledSaveItStorage(filePath).readSaveIt().get();
+        assertEquals(saveIt, new SaveIt(readBack));
+        assertEquals(editedIssue.getDescription(), readBack.getIssueList().get(0).getDescription());
+        int searchedIndex = saveIt.getIssueList().indexOf(searchedIssue);
+        assertEquals(searchedIssue.getFrequency(), readBack.getIssueList().get(searchedIndex).getFrequency());
+    }
+
+    @Test
+    public void saveChanges_tagRenamed_singleRecordAppended() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("saveit.xml");
+        JournaledSaveItStorage storage = new JournaledSaveItStorage(filePath);
+        SaveIt saveIt = getTypicalSaveIt();
+        saveIt.addIssue(new IssueBuilder(MYSQL_ERROR).withTags(VALID_TAG_BUG).build());
+        storage.saveSaveIt(saveIt);
+        long emptyJournalSize = Files.size(storage.getJournalFilePath());
+
+        Tag oldTag = new Tag(VALID_TAG_BUG);
+        Tag newTag = new Tag("defect");
+        List<Issue> issuesBefore = new ArrayList<>(saveIt.getIssueList());
+        saveIt.refactorTag(oldTag, newTag);
+        List<BaseEvent> issueEvents = new ArrayList<>();
+        for (int i = 0; i < issuesBefore.size(); i++) {
+            if (issuesBefore.get(i) != saveIt.getIssueList().get(i)) {
+                issueEvents.add(new IssueUpdatedEvent(issuesBefore.get(i), saveIt.getIssueList().get(i)));
+            }
+        }
+        assertTrue(issueEvents.size() > 1);
+        issueEvents.add(0, new TagRenamedEvent(oldTag, newTag, issueEvents.size()));
+        storage.saveChanges(saveIt, issueEvents);
+
+        // the renamed issues are not written out one by one
+        long recordSize = Files.size(storage.getJournalFilePath()) - emptyJournalSize;
+        assertTrue(recordSize > 0);
+        assertTrue(recordSize < 1000);
+
+        ReadOnlySaveIt readBack = new JournaledSaveItStorage(filePath).readSaveIt().get();
+        assertEquals(saveIt, new SaveIt(readBack));
+        for (int i = 0; i < saveIt.getIssueCount(); i++) {
+            assertEquals(saveIt.getIssueList().get(i).getTags(), readBack.getIssueList().get(i).getTags());
+            assertEquals(saveIt.getIssueList().get(i).getLastModifiedTime(),
+                    readBack.getIssueList().get(i).getLastModifiedTime());
+        }
+    }
+
+    @Test
+    public void saveChanges_thresholdReached_journalCompacted() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("saveit.xml");
+        JournaledSaveItStorage storage = new JournaledSaveItStorage(filePath, 2);
+        SaveIt saveIt = getTypicalSaveIt();
+        storage.saveSaveIt(saveIt);
+        long emptyJournalSize = Files.size(storage.getJournalFilePath());
+
+        saveIt.addIssue(MYSQL_ERROR);
+        storage.saveChanges(saveIt, events(new IssueAddedEvent(MYSQL_ERROR, saveIt.getIssueCount() - 1)));
+        assertTrue(Files.size(storage.getJournalFilePath()) > emptyJournalSize);
+
+        saveIt.removeIssue(MYSQL_ERROR);
+        storage.saveChanges(saveIt, events(new IssueRemovedEvent(MYSQL_ERROR)));
+        assertEquals(emptyJournalSize, Files.size(storage.getJournalFilePath()));
+        assertEquals(saveIt, new SaveIt(new XmlSaveItStorage(filePath).readSaveIt().get()));
+    }
+
+    @Test
+    public void saveChanges_changesUnknownOrInconsistent_journalCompacted() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("saveit.xml");
+        JournaledSaveItStorage storage = new JournaledSaveItStorage(filePath);
+        SaveIt saveIt = getTypicalSaveIt();
+        storage.saveSaveIt(saveIt);
+        long emptyJournalSize = Files.size(storage.getJournalFilePath());
+
+        saveIt.addIssue(MYSQL_ERROR);
+        storage.saveChanges(saveIt, null);
+        assertEquals(emptyJournalSize, Files.size(storage.getJournalFilePath()));
+        assertEquals(saveIt, new SaveIt(new XmlSaveItStorage(filePath).readSaveIt().get()));
+
+        // the removal of the issue is missing from the changes
+        saveIt.removeIssue(MYSQL_ERROR);
+        storage.saveChanges(saveIt, Collections.emptyList());
+        assertEquals(emptyJournalSize, Files.size(storage.getJournalFilePath()));
+        assertEquals(saveIt, new SaveIt(new XmlSaveItStorage(filePath).readSaveIt().get()));
+    }
+
+    @Test
+    public void readSaveIt_partlyWrittenRecord_recordIgnored() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("saveit.xml");
+        JournaledSaveItStorage storage = new JournaledSaveItStorage(filePath);
+        SaveIt saveIt = getTypicalSaveIt();
+        storage.saveSaveIt(saveIt);
+        SaveIt expected = new SaveIt(saveIt);
+
+        saveIt.addIssue(MYSQL_ERROR);
+        storage.saveChanges(saveIt, events(new IssueAddedEvent(MYSQL_ERROR, saveIt.getIssueCount() - 1)));
+        Path journalPath = storage.getJournalFilePath();
+        byte[] journal = Files.readAllBytes(journalPath);
+        Files.write(journalPath, Arrays.copyOf(journal, journal.length - 3), StandardOpenOption.TRUNCATE_EXISTING);
+
+        JournaledSaveItStorage reopenedStorage = new JournaledSaveItStorage(filePath);
+        assertEquals(expected, new SaveIt(reopenedStorage.readSaveIt().get()));
+
+        // the damaged journal is replaced on the next save
+        reopenedStorage.saveSaveIt(saveIt);
+        assertEquals(saveIt, new SaveIt(new JournaledSaveItStorage(filePath).readSaveIt().get()));
+    }
+
+    @Test
+    public void readSaveIt_journalOfOlderSnapshot_journalIgnored() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("saveit.xml");
+        JournaledSaveItStorage storage = new JournaledSaveItStorage(filePath);
+        SaveIt saveIt = getTypicalSaveIt();
+        storage.saveSaveIt(saveIt);
+        saveIt.addIssue(MYSQL_ERROR);
+        storage.saveChanges(saveIt, events(new IssueAddedEvent(MYSQL_ERROR, saveIt.getIssueCount() - 1)));
+
+        // a compaction that stopped after writing the new snapshot
+        new XmlSaveItStorage(filePath).saveSaveIt(saveIt);
+        assertEquals(saveIt, new SaveIt(new JournaledSaveItStorage(filePath).readSaveIt().get()));
+    }
+
+    @Test
+    public void readSaveIt_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("missing.xml");
+        assertFalse(new JournaledSaveItStorage(filePath).readSaveIt().isPresent());
+    }
+
+    private static List<BaseEvent> events(BaseEvent... issueEvents) {
+        return Arrays.asList(issueEvents);
+    }
+}
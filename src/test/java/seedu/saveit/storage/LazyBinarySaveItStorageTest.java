@@ -0,0 +1,105 @@
+package seedu.saveit.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.saveit.testutil.TypicalIssues.getTypicalSaveIt;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.saveit.model.Issue;
+import seedu.saveit.model.ReadOnlySaveIt;
+import seedu.saveit.model.SaveIt;
+import seedu.saveit.model.issue.Tag;
+import seedu.saveit.testutil.IssueBuilder;
+
+public class LazyBinarySaveItStorageTest {
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void readSaveIt_bodiesLoadedOnDemand() throws Exception {
+        SaveIt original = getTypicalSaveIt();
+        Path filePath = testFolder.getRoot().toPath().resolve("saveit.bin");
+        new BinarySaveItStorage(filePath).saveSaveIt(original);
+
+        ReadOnlySaveIt readBack = new LazyBinarySaveItStorage(filePath).readSaveIt().get();
+        assertEquals(original, new SaveIt(readBack));
+        for (Issue issue : readBack.getIssueList()) {
+            assertFalse(issue.isBodyLoaded());
+        }
+
+        Issue first = readBack.getIssueList().get(0);
+        assertEquals(original.getIssueList().get(0).getDescription(), first.getDescription());
+        assertEquals(original.getIssueList().get(0).getSolutions(), first.getSolutions());
+        assertTrue(first.isBodyLoaded());
+        assertFalse(readBack.getIssueList().get(1).isBodyLoaded());
+    }
+
+    @Test
+    public void saveSaveIt_bodiesNotLoaded_copiedAndStillLoadable() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("saveit.bin");
+        new BinarySaveItStorage(filePath).saveSaveIt(getTypicalSaveIt());
+        LazyBinarySaveItStorage storage = new LazyBinarySaveItStorage(filePath);
+        SaveIt saveIt = new SaveIt(storage.readSaveIt().get());
+
+        Issue removedIssue = saveIt.getIssueList().get(0);
+        saveIt.removeIssue(removedIssue);
+        Issue editedIssue = saveIt.getIssueList().get(0);
+        saveIt.updateIssue(editedIssue, new IssueBuilder(editedIssue).withDescription("Edited").build());
+        saveIt.addIssue(new IssueBuilder().withStatement("New issue").build());
+        storage.saveSaveIt(saveIt);
+
+        // the removed issue may come back through undo, so its body is loaded before its file is replaced
+        assertEquals(getTypicalSaveIt().getIssueList().get(0).getDescription(), removedIssue.getDescription());
+        assertEquals(getTypicalSaveIt().getIssueList().get(0).getSolutions(), removedIssue.getSolutions());
+        Issue unloadedIssue = saveIt.getIssueList().get(1);
+        assertFalse(unloadedIssue.isBodyLoaded());
+
+        Path expectedPath = testFolder.getRoot().toPath().resolve("expected.xml");
+        Path actualPath = testFolder.getRoot().toPath().resolve("actual.xml");
+        new XmlSaveItStorage(actualPath).saveSaveIt(new BinarySaveItStorage(filePath).readSaveIt().get());
+        new XmlSaveItStorage(expectedPath).saveSaveIt(saveIt);
+        assertArrayEquals(Files.readAllBytes(expectedPath), Files.readAllBytes(actualPath));
+        assertTrue(unloadedIssue.isBodyLoaded());
+
+        // saving again copies bodies from the file written by the previous save
+        saveIt.removeIssue(saveIt.getIssueList().get(0));
+        storage.saveSaveIt(saveIt);
+        new XmlSaveItStorage(actualPath).saveSaveIt(new LazyBinarySaveItStorage(filePath).readSaveIt().get());
+        new XmlSaveItStorage(expectedPath).saveSaveIt(saveIt);
+        assertArrayEquals(Files.readAllBytes(expectedPath), Files.readAllBytes(actualPath));
+    }
+
+    @Test
+    public void saveSaveIt_retaggedIssueNotLoaded_bodySharedAndSaved() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("saveit.bin");
+        new BinarySaveItStorage(filePath).saveSaveIt(getTypicalSaveIt());
+        LazyBinarySaveItStorage storage = new LazyBinarySaveItStorage(filePath);
+        SaveIt saveIt = new SaveIt(storage.readSaveIt().get());
+
+        Issue issue = saveIt.getIssueList().get(0);
+        saveIt.addTag(Collections.singleton(issue), Collections.singleton(new Tag("retagged")));
+        Issue retaggedIssue = saveIt.getIssueList().get(0);
+        assertFalse(issue.isBodyLoaded());
+        assertFalse(retaggedIssue.isBodyLoaded());
+
+        storage.saveSaveIt(saveIt);
+        assertFalse(issue.isBodyLoaded());
+        assertFalse(retaggedIssue.isBodyLoaded());
+
+        Path expectedPath = testFolder.getRoot().toPath().resolve("expected.xml");
+        Path actualPath = testFolder.getRoot().toPath().resolve("actual.xml");
+        new XmlSaveItStorage(actualPath).saveSaveIt(new BinarySaveItStorage(filePath).readSaveIt().get());
+        new XmlSaveItStorage(expectedPath).saveSaveIt(saveIt);
+        assertArrayEquals(Files.readAllBytes(expectedPath), Files.readAllBytes(actualPath));
+        assertEquals(getTypicalSaveIt().getIssueList().get(0).getDescription(), issue.getDescription());
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.saveit.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.saveit.testutil.TypicalIssues.getTypicalSaveIt;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.saveit.commons.exceptions.DataConversionException;
+import seedu.saveit.model.Issue;
+import seedu.saveit.model.ReadOnlySaveIt;
+import seedu.saveit.model.SaveIt;
+import seedu.saveit.testutil.IssueBuilder;
+
+public class MappedBinarySaveItStorageTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void readSaveIt_bodiesDecodedOnDemand() throws Exception {
+        SaveIt original = getTypicalSaveIt();
+        Path filePath = testFolder.getRoot().toPath().resolve("saveit.bin");
+        new BinarySaveItStorage(filePath).saveSaveIt(original);
+
+        ReadOnlySaveIt readBack = new MappedBinarySaveItStorage(filePath).readSaveIt().get();
+        assertEquals(original, new SaveIt(readBack));
+        for (Issue issue : readBack.getIssueList()) {
+            assertFalse(issue.isBodyLoaded());
+        }
+
+        Issue last = readBack.getIssueList().get(readBack.getIssueList().size() - 1);
+        Issue originalLast = original.getIssueList().get(original.getIssueList().size() - 1);
+        assertEquals(originalLast.getDescription(), last.getDescription());
+        assertEquals(originalLast.getSolutions(), last.getSolutions());
+        assertTrue(last.isBodyLoaded());
+    }
+
+    @Test
+    public void saveSaveIt_bodiesNotLoaded_copiedFromMapping() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("saveit.bin");
+        new BinarySaveItStorage(filePath).saveSaveIt(getTypicalSaveIt());
+        MappedBinarySaveItStorage storage = new MappedBinarySaveItStorage(filePath);
+        SaveIt saveIt = new SaveIt(storage.readSaveIt().get());
+
+        saveIt.removeIssue(saveIt.getIssueList().get(0));
+        saveIt.addIssue(new IssueBuilder().withStatement("New issue").build());
+        storage.saveSaveIt(saveIt);
+        assertFalse(saveIt.getIssueList().get(0).isBodyLoaded());
+
+        Path expectedPath = testFolder.getRoot().toPath().resolve("expected.xml");
+        Path actualPath = testFolder.getRoot().toPath().resolve("actual.xml");
+        new XmlSaveItStorage(actualPath).saveSaveIt(new MappedBinarySaveItStorage(filePath).readSaveIt().get());
+        new XmlSaveItStorage(expectedPath).saveSaveIt(saveIt);
+        assertArrayEquals(Files.readAllBytes(expectedPath), Files.readAllBytes(actualPath));
+    }
+
+    @Test
+    public void readSaveIt_xmlFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("saveit.xml");
+        new XmlSaveItStorage(filePath).saveSaveIt(getTypicalSaveIt());
+
+        thrown.expect(DataConversionException.class);
+        new MappedBinarySaveItStorage(filePath).readSaveIt();
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.saveit.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.saveit.commons.exceptions.IllegalValueException;
+import seedu.saveit.model.Issue;
+import seedu.saveit.model.issue.IssueStatement;
+import seedu.saveit.testutil.IssueBuilder;
+
+public class ParallelIssueConverterTest {
+    private static final int ISSUE_COUNT = 500;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final ParallelIssueConverter converter = new ParallelIssueConverter();
+
+    @Test
+    public void convert_manyIssues_orderKept() throws Exception {
+        List<Issue> issues = new ArrayList<>();
+        List<XmlAdaptedIssue> batch = new ArrayList<>();
+        for (int i = 0; i < ISSUE_COUNT; i++) {
+            Issue issue = new IssueBuilder().withStatement("Issue " + i).build();
+            issues.add(issue);
+            batch.add(new XmlAdaptedIssue(issue));
+        }
+
+        converter.convert(batch.subList(0, 100));
+        converter.convert(batch.subList(100, ISSUE_COUNT));
+        assertEquals(issues, converter.toSaveIt().getIssueList());
+    }
+
+    @Test
+    public void convert_invalidIssues_firstInvalidIssueReported() throws Exception {
+        List<XmlAdaptedIssue> batch = validIssues(ISSUE_COUNT);
+        batch.set(123, invalidIssue());
+        batch.set(456, invalidIssue());
+
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(String.format(ParallelIssueConverter.MESSAGE_INVALID_ISSUE_FORMAT, 124,
+                IssueStatement.MESSAGE_ISSUE_STATEMENT_CONSTRAINTS));
+        converter.convert(batch);
+    }
+
+    @Test
+    public void toSaveIt_duplicateIssueInLaterBatch_positionInFileReported() throws Exception {
+        converter.convert(validIssues(10));
+        converter.convert(Collections.singletonList(validIssues(10).get(3)));
+
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(String.format(ParallelIssueConverter.MESSAGE_INVALID_ISSUE_FORMAT, 11,
+                XmlSerializableSaveIt.MESSAGE_DUPLICATE_ISSUE));
+        converter.toSaveIt();
+    }
+
+    @Test
+    public void toSaveIt_issueWithoutIdBeforeIssueWithId_distinctIdsGiven() throws Exception {
+        // the id the issue without an id would be given if it were given one as soon as it is converted
+        long nextId = Issue.generateId() + 1;
+        XmlAdaptedIssue issueWithoutId = new XmlAdaptedIssue("Without id", "description", null, null, 1, 0L, 0L);
+        XmlAdaptedIssue issueWithId = new XmlAdaptedIssue("With id", "description", null, null, 1, 0L, 0L, nextId);
+        converter.convert(Arrays.asList(issueWithoutId, issueWithId));
+
+        List<Issue> issues = converter.toSaveIt().getIssueList();
+        assertEquals(nextId, issues.get(1).getId());
+        assertNotEquals(nextId, issues.get(0).getId());
+    }
+
+    private static List<XmlAdaptedIssue> validIssues(int count) {
+        List<XmlAdaptedIssue> issues = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            issues.add(new XmlAdaptedIssue(new IssueBuilder().withStatement("Issue " + i).build()));
+        }
+        return issues;
+    }
+
+    private static XmlAdaptedIssue invalidIssue() {
+        return new XmlAdaptedIssue(" ", "description", null, null, 1, 0L, 0L);
+    }
+}
@@ -0,0 +1,100 @@
+package seedu.saveit.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static seedu.saveit.testutil.TypicalIssues.getTypicalSaveIt;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.saveit.model.ReadOnlySaveIt;
+import seedu.saveit.model.SaveIt;
+import seedu.saveit.model.issue.PrimarySolution;
+import seedu.saveit.testutil.IssueBuilder;
+import seedu.saveit.testutil.SolutionBuilder;
+
+public class SaveItSnapshotCacheTest {
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path dataFilePath;
+    private SaveItSnapshotCache snapshotCache;
+    private SaveIt saveIt;
+
+    @Before
+    public void setUp() throws Exception {
+        dataFilePath = testFolder.getRoot().toPath().resolve("saveit.xml");
+        snapshotCache = new SaveItSnapshotCache(SaveItSnapshotCache.getSnapshotPath(dataFilePath),
+                Collections.singletonList(dataFilePath));
+        saveIt = getTypicalSaveIt();
+        saveIt.addIssue(new IssueBuilder().withStatement("Primary solution issue")
+                .withSolutions(new PrimarySolution(new SolutionBuilder().build()),
+                        new SolutionBuilder().withLink("https://www.example.com").build())
+                .build());
+        new XmlSaveItStorage(dataFilePath).saveSaveIt(saveIt);
+    }
+
+    @Test
+    public void readSnapshot_noSnapshot_emptyResult() throws Exception {
+        assertFalse(snapshotCache.readSnapshot().isPresent());
+    }
+
+    @Test
+    public void readSnapshot_dataFileUnchanged_sameIssues() throws Exception {
+        snapshotCache.saveSnapshot(saveIt);
+        ReadOnlySaveIt readBack = snapshotCache.readSnapshot().get();
+        assertEquals(saveIt.getIssueList(), readBack.getIssueList());
+        for (int i = 0; i < saveIt.getIssueList().size(); i++) {
+            assertEquals(saveIt.getIssueList().get(i).getSolutions(), readBack.getIssueList().get(i).getSolutions());
+        }
+    }
+
+    @Test
+    public void readSnapshot_dataFileChanged_emptyResult() throws Exception {
+        snapshotCache.saveSnapshot(saveIt);
+        saveIt.removeIssue(saveIt.getIssueList().get(0));
+        new XmlSaveItStorage(dataFilePath).saveSaveIt(saveIt);
+        assertFalse(snapshotCache.readSnapshot().isPresent());
+    }
+
+    @Test
+    public void readSnapshot_missingFileCreated_emptyResult() throws Exception {
+        Path journalPath = testFolder.getRoot().toPath().resolve("saveit.xml.journal");
+        SaveItSnapshotCache journaledCache = new SaveItSnapshotCache(
+                SaveItSnapshotCache.getSnapshotPath(dataFilePath), Arrays.asList(dataFilePath, journalPath));
+        journaledCache.saveSnapshot(saveIt);
+        assertEquals(saveIt.getIssueList(), journaledCache.readSnapshot().get().getIssueList());
+
+        Files.write(journalPath, new byte[] {1});
+        assertFalse(journaledCache.readSnapshot().isPresent());
+    }
+
+    @Test
+    public void readSnapshot_damagedSnapshot_emptyResult() throws Exception {
+        snapshotCache.saveSnapshot(saveIt);
+        Path snapshotPath = snapshotCache.getSnapshotFilePath();
+        byte[] bytes = Files.readAllBytes(snapshotPath);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(snapshotPath, bytes);
+        assertFalse(snapshotCache.readSnapshot().isPresent());
+
+        Files.write(snapshotPath, Arrays.copyOf(bytes, 10), StandardOpenOption.TRUNCATE_EXISTING);
+        assertFalse(snapshotCache.readSnapshot().isPresent());
+    }
+
+    @Test
+    public void saveSnapshot_missingDataFile_snapshotDeleted() throws Exception {
+        snapshotCache.saveSnapshot(saveIt);
+        Files.delete(dataFilePath);
+        snapshotCache.saveSnapshot(saveIt);
+        assertFalse(Files.exists(snapshotCache.getSnapshotFilePath()));
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.saveit.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static seedu.saveit.testutil.TypicalIssues.getTypicalSaveIt;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.saveit.model.Issue;
+import seedu.saveit.model.SaveIt;
+import seedu.saveit.testutil.IssueBuilder;
+
+public class SerializedIssueCacheTest {
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void write_unchangedIssues_onlyChangedIssuesEncoded() throws Exception {
+        SaveIt saveIt = new SaveIt();
+        for (int i = 0; i < 5; i++) {
+            saveIt.addIssue(new IssueBuilder().withStatement("Issue " + i).build());
+        }
+        SerializedIssueCache cache = new SerializedIssueCache();
+        Path cachedPath = testFolder.getRoot().toPath().resolve("cached.xml");
+        XmlStreamingSaveItCodec.saveSaveIt(cachedPath, saveIt, cache);
+        assertEquals(5, cache.getLastEncodedCount());
+
+        XmlStreamingSaveItCodec.saveSaveIt(cachedPath, saveIt, cache);
+        assertEquals(0, cache.getLastEncodedCount());
+
+        Issue editedIssue = saveIt.getIssueList().get(1);
+        saveIt.updateIssue(editedIssue, new IssueBuilder(editedIssue).withDescription("Edited").build());
+        saveIt.addIssue(new IssueBuilder().withStatement("New issue").build());
+        saveIt.getIssueList().get(3).updateFrequency();
+        XmlStreamingSaveItCodec.saveSaveIt(cachedPath, saveIt, cache);
+        assertEquals(3, cache.getLastEncodedCount());
+
+        // the file written from the cache is the same as one written without it
+        Path uncachedPath = testFolder.getRoot().toPath().resolve("uncached.xml");
+        XmlStreamingSaveItCodec.saveSaveIt(uncachedPath, saveIt);
+        assertArrayEquals(Files.readAllBytes(uncachedPath), Files.readAllBytes(cachedPath));
+        assertEquals(saveIt, XmlStreamingSaveItCodec.readSaveIt(cachedPath));
+    }
+
+    @Test
+    public void write_issueRemovedAndAddedBack_encodedAgain() throws Exception {
+        SaveIt saveIt = getTypicalSaveIt();
+        SerializedIssueCache cache = new SerializedIssueCache();
+        Path filePath = testFolder.getRoot().toPath().resolve("saveit.xml");
+        XmlStreamingSaveItCodec.saveSaveIt(filePath, saveIt, cache);
+
+        Issue removedIssue = saveIt.getIssueList().get(0);
+        saveIt.removeIssue(removedIssue);
+        XmlStreamingSaveItCodec.saveSaveIt(filePath, saveIt, cache);
+        assertEquals(0, cache.getLastEncodedCount());
+
+        // only the issues of the latest write are kept
+        saveIt.addIssue(removedIssue);
+        XmlStreamingSaveItCodec.saveSaveIt(filePath, saveIt, cache);
+        assertEquals(1, cache.getLastEncodedCount());
+    }
+}
@@ -0,0 +1,128 @@
+package seedu.saveit.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.saveit.commons.exceptions.DataConversionException;
+import seedu.saveit.model.Issue;
+import seedu.saveit.model.ReadOnlySaveIt;
+import seedu.saveit.model.SaveIt;
+import seedu.saveit.testutil.IssueBuilder;
+
+public class ShardedSaveItStorageTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void readSaveIt_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("missing.xml");
+        assertFalse(new ShardedSaveItStorage(filePath).readSaveIt().isPresent());
+    }
+
+    @Test
+    public void readAndSaveSaveIt_manyIssues_orderKeptAcrossShards() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("saveit.xml");
+        SaveIt original = createSaveIt(10);
+        new ShardedSaveItStorage(filePath, 4).saveSaveIt(original);
+        assertEquals(3, getShardFiles(filePath).size());
+
+        ReadOnlySaveIt readBack = new ShardedSaveItStorage(filePath, 4).readSaveIt().get();
+        assertEquals(original.getIssueList(), readBack.getIssueList());
+    }
+
+    @Test
+    public void saveSaveIt_oneIssueChanged_onlyItsShardRewritten() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("saveit.xml");
+        new ShardedSaveItStorage(filePath, 4).saveSaveIt(createSaveIt(12));
+        ShardedSaveItStorage storage = new ShardedSaveItStorage(filePath, 4);
+        SaveIt saveIt = new SaveIt(storage.readSaveIt().get());
+        Set<String> shardsBefore = getShardFiles(filePath);
+
+        Issue editedIssue = saveIt.getIssueList().get(5);
+        saveIt.updateIssue(editedIssue, new IssueBuilder(editedIssue).withDescription("Edited").build());
+        storage.saveSaveIt(saveIt);
+        Set<String> shardsAfter = getShardFiles(filePath);
+        Set<String> keptShards = new HashSet<>(shardsBefore);
+        keptShards.retainAll(shardsAfter);
+        assertEquals(shardsBefore.size() - 1, keptShards.size());
+        assertEquals(shardsBefore.size(), shardsAfter.size());
+
+        // nothing changed, nothing written
+        storage.saveSaveIt(saveIt);
+        assertEquals(shardsAfter, getShardFiles(filePath));
+
+        assertEquals(saveIt, new SaveIt(new ShardedSaveItStorage(filePath, 4).readSaveIt().get()));
+        assertEquals(new SaveIt(saveIt).getIssueList(),
+                new ShardedSaveItStorage(filePath, 4).readSaveIt().get().getIssueList());
+    }
+
+    @Test
+    public void saveSaveIt_shardGrowsAndShrinks_splitAndDropped() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("saveit.xml");
+        ShardedSaveItStorage storage = new ShardedSaveItStorage(filePath, 4);
+        SaveIt saveIt = createSaveIt(4);
+        storage.saveSaveIt(saveIt);
+        assertEquals(1, getShardFiles(filePath).size());
+
+        saveIt.addIssue(new IssueBuilder().withStatement("Added issue").build());
+        storage.saveSaveIt(saveIt);
+        assertEquals(3, getShardFiles(filePath).size());
+        assertEquals(saveIt.getIssueList(), new ShardedSaveItStorage(filePath, 4).readSaveIt().get().getIssueList());
+
+        while (!saveIt.getIssueList().isEmpty()) {
+            saveIt.removeIssue(saveIt.getIssueList().get(0));
+        }
+        storage.saveSaveIt(saveIt);
+        assertTrue(getShardFiles(filePath).isEmpty());
+        assertTrue(new ShardedSaveItStorage(filePath, 4).readSaveIt().get().getIssueList().isEmpty());
+    }
+
+    @Test
+    public void readSaveIt_missingShard_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("saveit.xml");
+        new ShardedSaveItStorage(filePath, 4).saveSaveIt(createSaveIt(6));
+        Files.delete(ShardedSaveItStorage.getShardDirectory(filePath).resolve(getShardFiles(filePath).iterator().next()));
+
+        thrown.expect(DataConversionException.class);
+        new ShardedSaveItStorage(filePath, 4).readSaveIt();
+    }
+
+    @Test
+    public void readSaveIt_xmlFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("saveit.xml");
+        new XmlSaveItStorage(filePath).saveSaveIt(createSaveIt(2));
+
+        thrown.expect(DataConversionException.class);
+        new ShardedSaveItStorage(filePath).readSaveIt();
+    }
+
+    private static SaveIt createSaveIt(int issueCount) {
+        SaveIt saveIt = new SaveIt();
+        for (int i = 0; i < issueCount; i++) {
+            saveIt.addIssue(new IssueBuilder().withStatement("Issue " + i).build());
+        }
+        return saveIt;
+    }
+
+    private static Set<String> getShardFiles(Path filePath) throws Exception {
+        try (Stream<Path> files = Files.list(ShardedSaveItStorage.getShardDirectory(filePath))) {
+            return files.map(file -> file.getFileName().toString()).collect(Collectors.toSet());
+        }
+    }
+}
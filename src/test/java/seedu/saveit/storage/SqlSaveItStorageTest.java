@@ -0,0 +1,99 @@
+package seedu.saveit.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.saveit.testutil.TypicalIssues.getTypicalSaveIt;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.saveit.model.Issue;
+import seedu.saveit.model.ReadOnlySaveIt;
+import seedu.saveit.model.SaveIt;
+import seedu.saveit.model.issue.PrimarySolution;
+import seedu.saveit.testutil.IssueBuilder;
+import seedu.saveit.testutil.SolutionBuilder;
+
+public class SqlSaveItStorageTest {
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void readSaveIt_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("missing.xml");
+        assertFalse(new SqlSaveItStorage(filePath).readSaveIt().isPresent());
+    }
+
+    @Test
+    public void readSaveIt_onlyXmlFile_imported() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("saveit.xml");
+        SaveIt original = getTypicalSaveIt();
+        new XmlSaveItStorage(filePath).saveSaveIt(original);
+
+        SqlSaveItStorage storage = new SqlSaveItStorage(filePath);
+        ReadOnlySaveIt imported = storage.readSaveIt().get();
+        assertEquals(original, new SaveIt(imported));
+        storage.saveSaveIt(imported);
+        assertTrue(SqlSaveItStorage.isDatabasePresent(filePath));
+        assertEquals(original.getIssueList(), new SqlSaveItStorage(filePath).readSaveIt().get().getIssueList());
+    }
+
+    @Test
+    public void saveSaveIt_changesAfterRead_sameAsXml() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("saveit.xml");
+        SaveIt original = getTypicalSaveIt();
+        original.addIssue(new IssueBuilder().withStatement("Primary solution issue")
+                .withSolutions(new PrimarySolution(new SolutionBuilder().build()),
+                        new SolutionBuilder().withLink("https://www.example.com").build())
+                .build());
+        new SqlSaveItStorage(filePath).saveSaveIt(original);
+
+        SqlSaveItStorage storage = new SqlSaveItStorage(filePath);
+        SaveIt saveIt = new SaveIt(storage.readSaveIt().get());
+        Issue editedIssue = saveIt.getIssueList().get(1);
+        saveIt.updateIssue(editedIssue, new IssueBuilder(editedIssue).withDescription("Edited")
+                .withTags("edited", "java").build());
+        Issue renamedIssue = saveIt.getIssueList().get(2);
+        saveIt.updateIssue(renamedIssue, new IssueBuilder(renamedIssue).withStatement("Renamed issue").build());
+        saveIt.removeIssue(saveIt.getIssueList().get(0));
+        Issue newIssue = new IssueBuilder().withStatement("New issue").build();
+        saveIt.addIssue(newIssue);
+        storage.saveSaveIt(saveIt);
+        newIssue.updateFrequency();
+        storage.saveSaveIt(saveIt);
+
+        // issues moved around get positions between their neighbours
+        Issue movedIssue = saveIt.getIssueList().get(saveIt.getIssueList().size() - 1);
+        saveIt.removeIssue(movedIssue);
+        SaveIt reordered = new SaveIt();
+        reordered.addIssue(movedIssue);
+        saveIt.getIssueList().forEach(reordered::addIssue);
+        storage.saveSaveIt(reordered);
+
+        Path expectedPath = testFolder.getRoot().toPath().resolve("expected.xml");
+        Path actualPath = testFolder.getRoot().toPath().resolve("actual.xml");
+        new XmlSaveItStorage(expectedPath).saveSaveIt(reordered);
+        new SqlSaveItStorage(filePath).exportToXml(actualPath);
+        assertArrayEquals(Files.readAllBytes(expectedPath), Files.readAllBytes(actualPath));
+    }
+
+    @Test
+    public void importFromXml_existingDatabase_replaced() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("saveit.xml");
+        Path xmlPath = testFolder.getRoot().toPath().resolve("import.xml");
+        SqlSaveItStorage storage = new SqlSaveItStorage(filePath);
+        storage.saveSaveIt(getTypicalSaveIt());
+        SaveIt imported = new SaveIt();
+        imported.addIssue(new IssueBuilder().withStatement("Imported issue").build());
+        new XmlSaveItStorage(xmlPath).saveSaveIt(imported);
+
+        storage.importFromXml(xmlPath);
+        assertEquals(imported.getIssueList(), new SqlSaveItStorage(filePath).readSaveIt().get().getIssueList());
+    }
+}
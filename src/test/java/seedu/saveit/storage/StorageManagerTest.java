@@ -74,6 +74,18 @@ public class StorageManagerTest {
         assertNotNull(storageManager.getSaveItFilePath());
     }
 
+    @Test
+    public void handleSaveItChangedEvent_savedInBackground_savedOnClose() throws Exception {
+        StorageManager backgroundStorageManager = new StorageManager(new XmlSaveItStorage(getTempFilePath("bg")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), 60_000);
+        SaveIt original = getTypicalSaveIt();
+        backgroundStorageManager.handleSaveItChangedEvent(new SaveItChangedEvent(new SaveIt()));
+        backgroundStorageManager.handleSaveItChangedEvent(new SaveItChangedEvent(original));
+
+        backgroundStorageManager.close();
+        assertEquals(original, new SaveIt(backgroundStorageManager.readSaveIt().get()));
+    }
+
     @Test
     public void handleSaveItChangedEvent_exceptionThrown_eventRaised() {
         // Create a StorageManager while injecting a stub that  throws an exception when the save method is called
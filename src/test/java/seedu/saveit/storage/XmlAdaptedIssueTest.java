@@ -1,6 +1,7 @@
 package seedu.saveit.storage;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 import static seedu.saveit.storage.XmlAdaptedIssue.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.saveit.testutil.TypicalIssues.C_SEGMENTATION_FAULT;
 
@@ -11,6 +12,7 @@ import java.util.stream.Collectors;
 import org.junit.Test;
 
 import seedu.saveit.commons.exceptions.IllegalValueException;
+import seedu.saveit.model.Issue;
 import seedu.saveit.model.issue.Description;
 import seedu.saveit.model.issue.IssueStatement;
 import seedu.saveit.testutil.Assert;
@@ -39,6 +41,25 @@ public class XmlAdaptedIssueTest {
         assertEquals(C_SEGMENTATION_FAULT, issue.toModelType());
     }
 
+    @Test
+    public void toModelType_validIssueDetails_idKept() throws Exception {
+        assertEquals(C_SEGMENTATION_FAULT.getId(), new XmlAdaptedIssue(C_SEGMENTATION_FAULT).toModelType().getId());
+    }
+
+    @Test
+    public void toModelType_missingId_newIdGiven() throws Exception {
+        XmlAdaptedIssue issue = new XmlAdaptedIssue(VALID_STATEMENT, VALID_DESCRIPTION, VALID_SOLUTIONS, VALID_TAGS,
+                VALID_FREQUENCY, VALID_TIME, VALID_TIME);
+        assertNotEquals(issue.toModelType().getId(), issue.toModelType().getId());
+    }
+
+    @Test
+    public void toModelType_invalidId_throwsIllegalValueException() {
+        XmlAdaptedIssue issue = new XmlAdaptedIssue(VALID_STATEMENT, VALID_DESCRIPTION, VALID_SOLUTIONS, VALID_TAGS,
+                VALID_FREQUENCY, VALID_TIME, VALID_TIME, 0L);
+        Assert.assertThrows(IllegalValueException.class, Issue.MESSAGE_ID_CONSTRAINTS, issue::toModelType);
+    }
+
     @Test
     public void toModelType_invalidStatement_throwsIllegalValueException() {
         XmlAdaptedIssue issue =
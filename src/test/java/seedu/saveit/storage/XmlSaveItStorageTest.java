@@ -8,6 +8,7 @@ import static seedu.saveit.testutil.TypicalIssues.POSTGRESQL_ERROR;
 import static seedu.saveit.testutil.TypicalIssues.getTypicalSaveIt;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -93,6 +94,24 @@ public class XmlSaveItStorageTest {
 
     }
 
+    @Test
+    public void recoverSaveIt_damagedFile_intactIssuesRecoveredAndCopyKept() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempSaveIt.xml");
+        SaveIt original = getTypicalSaveIt();
+        XmlSaveItStorage xmlSaveItStorage = new XmlSaveItStorage(filePath);
+        xmlSaveItStorage.saveSaveIt(original);
+        byte[] bytes = Files.readAllBytes(filePath);
+        byte[] truncatedBytes = new String(bytes, "UTF-8").replaceFirst("</issues>\\s*</saveit>\\s*$", "")
+                .getBytes("UTF-8");
+        Files.write(filePath, truncatedBytes);
+
+        SaveIt expected = new SaveIt(original);
+        expected.removeIssue(original.getIssueList().get(original.getIssueList().size() - 1));
+        assertEquals(expected, new SaveIt(xmlSaveItStorage.recoverSaveIt().get()));
+        assertEquals(new String(truncatedBytes, "UTF-8"),
+                new String(Files.readAllBytes(XmlSaveItStorage.getDamagedFilePath(filePath)), "UTF-8"));
+    }
+
     @Test
     public void saveSaveIt_nullSaveIt_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -0,0 +1,157 @@
+package seedu.saveit.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static seedu.saveit.testutil.TypicalIssues.getTypicalSaveIt;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.saveit.commons.exceptions.DataConversionException;
+import seedu.saveit.commons.exceptions.IllegalValueException;
+import seedu.saveit.commons.util.XmlUtil;
+import seedu.saveit.model.Issue;
+import seedu.saveit.model.SaveIt;
+import seedu.saveit.testutil.TypicalIssues;
+
+public class XmlStreamingSaveItCodecTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "XmlSaveItStorageTest");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void saveSaveIt_typicalSaveIt_readableByJaxb() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("saveit.xml");
+        SaveIt original = getTypicalSaveIt();
+        XmlStreamingSaveItCodec.saveSaveIt(filePath, original);
+        assertEquals(original, XmlFileStorage.loadDataFromSaveFile(filePath).toModelType());
+    }
+
+    @Test
+    public void readSaveIt_writtenByJaxb_success() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("saveit.xml");
+        SaveIt original = getTypicalSaveIt();
+        Files.createFile(filePath);
+        XmlFileStorage.saveDataToFile(filePath, new XmlSerializableSaveIt(original));
+        assertEquals(original, XmlStreamingSaveItCodec.readSaveIt(filePath));
+    }
+
+    @Test
+    public void readSaveIt_savedByEitherClass_idsKept() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("saveit.xml");
+        SaveIt original = getTypicalSaveIt();
+        List<Long> originalIds = getIds(original);
+        XmlStreamingSaveItCodec.saveSaveIt(filePath, original);
+        assertEquals(originalIds, getIds(XmlStreamingSaveItCodec.readSaveIt(filePath)));
+        assertEquals(originalIds, getIds(XmlUtil.getDataFromFile(filePath, XmlSerializableSaveIt.class).toModelType()));
+
+        XmlFileStorage.saveDataToFile(filePath, new XmlSerializableSaveIt(original));
+        assertEquals(originalIds, getIds(XmlStreamingSaveItCodec.readSaveIt(filePath)));
+    }
+
+    @Test
+    public void readSaveIt_compactXmlWithUnknownElements_success() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("saveit.xml");
+        SaveIt original = new SaveIt();
+        original.addIssue(TypicalIssues.JAVA_NULL_POINTER);
+        original.addIssue(TypicalIssues.MYSQL_ERROR);
+        XmlStreamingSaveItCodec.saveSaveIt(filePath, original);
+        String compactXml = new String(Files.readAllBytes(filePath), "UTF-8")
+                .replaceAll(">\\s+<", "><")
+                .replace("<saveit>", "<saveit><!-- comment --><unknown><issues/></unknown>");
+        Files.write(filePath, compactXml.getBytes("UTF-8"));
+        assertEquals(original, XmlStreamingSaveItCodec.readSaveIt(filePath));
+    }
+
+    @Test
+    public void readSaveIt_notXmlFormat_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        XmlStreamingSaveItCodec.readSaveIt(TEST_DATA_FOLDER.resolve("NotXmlFormatSaveIt.xml"));
+    }
+
+    @Test
+    public void readSaveIt_invalidIssue_throwsIllegalValueException() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        XmlStreamingSaveItCodec.readSaveIt(TEST_DATA_FOLDER.resolve("invalidAndValidIssueSaveIt.xml"));
+    }
+
+    @Test
+    public void saveSaveIt_existingFile_replacedWithoutTemporaryFileLeft() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("saveit.xml");
+        XmlStreamingSaveItCodec.saveSaveIt(filePath, getTypicalSaveIt());
+        SaveIt saveIt = new SaveIt();
+        saveIt.addIssue(TypicalIssues.MYSQL_ERROR);
+        XmlStreamingSaveItCodec.saveSaveIt(filePath, saveIt);
+        assertEquals(saveIt, XmlStreamingSaveItCodec.readSaveIt(filePath));
+        assertEquals(Arrays.asList(filePath.toFile()), Arrays.asList(testFolder.getRoot().listFiles()));
+    }
+
+    @Test
+    public void readSaveIt_issueNotMatchingChecksum_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("saveit.xml");
+        XmlStreamingSaveItCodec.saveSaveIt(filePath, getTypicalSaveIt());
+        damageDescription(filePath, TypicalIssues.JAVA_NULL_POINTER.getDescription().getValue());
+
+        thrown.expect(DataConversionException.class);
+        XmlStreamingSaveItCodec.readSaveIt(filePath);
+    }
+
+    @Test
+    public void recoverSaveIt_damagedIssue_otherIssuesRecovered() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("saveit.xml");
+        SaveIt original = getTypicalSaveIt();
+        XmlStreamingSaveItCodec.saveSaveIt(filePath, original);
+        damageDescription(filePath, original.getIssueList().get(1).getDescription().getValue());
+
+        SaveIt expected = new SaveIt(original);
+        expected.removeIssue(original.getIssueList().get(1));
+        assertEquals(expected, XmlStreamingSaveItCodec.recoverSaveIt(filePath));
+    }
+
+    @Test
+    public void recoverSaveIt_truncatedFile_completeIssuesRecovered() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("saveit.xml");
+        SaveIt original = getTypicalSaveIt();
+        XmlStreamingSaveItCodec.saveSaveIt(filePath, original);
+        String xml = new String(Files.readAllBytes(filePath), "UTF-8");
+        String lastStatement = original.getIssueList().get(original.getIssueList().size() - 1).getStatement()
+                .getValue();
+        Files.write(filePath, xml.substring(0, xml.lastIndexOf(lastStatement)).getBytes("UTF-8"));
+
+        SaveIt expected = new SaveIt(original);
+        expected.removeIssue(original.getIssueList().get(original.getIssueList().size() - 1));
+        assertEquals(expected, XmlStreamingSaveItCodec.recoverSaveIt(filePath));
+    }
+
+    @Test
+    public void recoverSaveIt_notXmlFormat_nothingRecovered() throws Exception {
+        SaveIt recovered = XmlStreamingSaveItCodec.recoverSaveIt(TEST_DATA_FOLDER.resolve("NotXmlFormatSaveIt.xml"));
+        assertFalse(recovered.getIssueList().iterator().hasNext());
+    }
+
+    private static List<Long> getIds(SaveIt saveIt) {
+        return saveIt.getIssueList().stream().map(Issue::getId).collect(Collectors.toList());
+    }
+
+    /**
+     * Changes a letter of the description {@code description} in {@code file}, without changing its checksum.
+     */
+    private static void damageDescription(Path file, String description) throws Exception {
+        String xml = new String(Files.readAllBytes(file), "UTF-8");
+        String damagedDescription = (description.charAt(0) == 'X' ? 'Y' : 'X') + description.substring(1);
+        Files.write(file, xml.replace(">" + description + "<", ">" + damagedDescription + "<").getBytes("UTF-8"));
+    }
+}
@@ -35,6 +35,7 @@ public class IssueBuilder {
     private IssueSearchFrequency frequency;
     private Timestamp createdTime;
     private Timestamp lastModifiedTime;
+    private Long id;
 
     public IssueBuilder() {
         statement = new IssueStatement(DEFAULT_STATEMENT);
@@ -132,12 +133,21 @@ public class IssueBuilder {
         return this;
     }
 
+    /**
+     * Sets the id of the {@code Issue} that we are building.
+     * Issues built without one are given a new id each time.
+     */
+    public IssueBuilder withId(long id) {
+        this.id = id;
+        return this;
+    }
+
     /**
      * Create new Issue.
      */
     public Issue build() {
         return new Issue(statement, description, solutions, tags, frequency,
-            new Timestamp(new Date().getTime()), lastModifiedTime);
+            new Timestamp(new Date().getTime()), lastModifiedTime, id == null ? Issue.generateId() : id);
     }
 
 }
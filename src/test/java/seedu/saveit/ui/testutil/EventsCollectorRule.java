@@ -76,6 +76,19 @@ public class EventsCollectorRule implements TestRule {
             return events.get(events.size() - 1);
         }
 
+        /**
+         * Returns the collected events of type {@code eventType}, in the order they were raised
+         */
+        public <T extends BaseEvent> List<T> getAll(Class<T> eventType) {
+            List<T> matchedEvents = new ArrayList<>();
+            for (BaseEvent event : events) {
+                if (eventType.isInstance(event)) {
+                    matchedEvents.add(eventType.cast(event));
+                }
+            }
+            return matchedEvents;
+        }
+
         /**
          * Returns true if the collector did not receive any events
          */